@@ -14,10 +14,12 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapSetter;
 import io.opentelemetry.instrumentation.api.config.IncludeExclude;
 import io.opentelemetry.instrumentation.api.incubator.config.internal.CommonConfig;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientExperimentalMetrics;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientServicePeerAttributesExtractor;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpExperimentalAttributesExtractor;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpClientUrlTemplateUtil;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
@@ -64,6 +66,7 @@ public final class DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> {
   private UnaryOperator<SpanNameExtractor<REQUEST>> spanNameExtractorCustomizer =
       UnaryOperator.identity();
   private boolean emitExperimentalHttpClientTelemetry = false;
+  private boolean countMessageBodySizes = false;
   private Consumer<InstrumenterBuilder<REQUEST, RESPONSE>> builderCustomizer = b -> {};
 
   public static <REQUEST, RESPONSE> DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> create(
@@ -215,6 +218,19 @@ public final class DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Configures the instrumentation to count the bytes of the message bodies it reads and writes,
+   * so that their size is reported when there is no {@code Content-Length} header. Only takes
+   * effect when the experimental HTTP client telemetry is emitted, and should only be enabled by
+   * instrumentations that feed the {@link HttpMessageBodySizeCounter}.
+   */
+  @CanIgnoreReturnValue
+  public DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> setCountMessageBodySizes(
+      boolean countMessageBodySizes) {
+    this.countMessageBodySizes = countMessageBodySizes;
+    return this;
+  }
+
   /**
    * Configures the instrumentation to redact specific URL query parameters.
    *
@@ -273,6 +289,9 @@ public final class DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> {
       builder
           .addAttributesExtractor(HttpExperimentalAttributesExtractor.create(attributesGetter))
           .addOperationMetrics(HttpClientExperimentalMetrics.get());
+      if (countMessageBodySizes) {
+        builder.addContextCustomizer(HttpMessageBodySizeCounter.contextCustomizer());
+      }
     }
 
     builderCustomizer.accept(builder);
@@ -291,6 +310,19 @@ public final class DefaultHttpClientInstrumenterBuilder<REQUEST, RESPONSE> {
         .setSchemaUrl(SchemaUrls.V1_41_0);
   }
 
+  /**
+   * Returns the connection level metrics that should be recorded by the connection pool, resolver
+   * and TLS instrumentation of the client, or {@code null} if the experimental HTTP client
+   * telemetry is disabled.
+   */
+  @Nullable
+  public HttpClientConnectionMetrics buildConnectionMetrics() {
+    if (!emitExperimentalHttpClientTelemetry) {
+      return null;
+    }
+    return HttpClientConnectionMetrics.create(openTelemetry, instrumentationName);
+  }
+
   public static <REQUEST> void setHttpClientExceptionEventExtractor(
       InstrumenterBuilder<REQUEST, ?> builder) {
     Experimental.setExceptionEventExtractor(
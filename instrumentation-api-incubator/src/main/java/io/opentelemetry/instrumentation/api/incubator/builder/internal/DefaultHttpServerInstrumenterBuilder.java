@@ -15,6 +15,7 @@ import io.opentelemetry.instrumentation.api.config.IncludeExclude;
 import io.opentelemetry.instrumentation.api.incubator.config.internal.CommonConfig;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpExperimentalAttributesExtractor;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpServerExperimentalMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
@@ -64,6 +65,7 @@ public final class DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> {
   private final HttpServerRouteBuilder<REQUEST> httpServerRouteBuilder;
   private final HttpServerAttributesGetter<REQUEST, RESPONSE> attributesGetter;
   private boolean emitExperimentalHttpServerTelemetry = false;
+  private boolean countMessageBodySizes = false;
   private Consumer<InstrumenterBuilder<REQUEST, RESPONSE>> builderCustomizer = b -> {};
 
   public static <REQUEST, RESPONSE> DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> create(
@@ -217,6 +219,19 @@ public final class DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Configures the instrumentation to count the bytes of the message bodies it reads and writes,
+   * so that their size is reported when there is no {@code Content-Length} header. Only takes
+   * effect when the experimental HTTP server telemetry is emitted, and should only be enabled by
+   * instrumentations that feed the {@link HttpMessageBodySizeCounter}.
+   */
+  @CanIgnoreReturnValue
+  public DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> setCountMessageBodySizes(
+      boolean countMessageBodySizes) {
+    this.countMessageBodySizes = countMessageBodySizes;
+    return this;
+  }
+
   /**
    * Configures the instrumentation to redact specific URL query parameters.
    *
@@ -283,6 +298,9 @@ public final class DefaultHttpServerInstrumenterBuilder<REQUEST, RESPONSE> {
       builder
           .addAttributesExtractor(HttpExperimentalAttributesExtractor.create(attributesGetter))
           .addOperationMetrics(HttpServerExperimentalMetrics.get());
+      if (countMessageBodySizes) {
+        builder.addContextCustomizer(HttpMessageBodySizeCounter.contextCustomizer());
+      }
     }
     builderCustomizer.accept(builder);
     return builder;
@@ -0,0 +1,67 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import javax.annotation.Nullable;
+
+/**
+ * Raw query text together with its lazily computed analysis results. Instrumentations can attach an
+ * instance to a driver-level prepared statement (e.g. using a {@link
+ * io.opentelemetry.instrumentation.api.util.VirtualField}) and return it from {@link
+ * SqlClientAttributesGetter#getCachedQuery(Object)}, so that repeated executions of the same
+ * prepared statement do not need to analyze the query text or look it up in the global cache.
+ */
+public final class CachedSqlQuery {
+
+  public static CachedSqlQuery create(String rawQueryText) {
+    return new CachedSqlQuery(rawQueryText);
+  }
+
+  private final String rawQueryText;
+  // racing threads may analyze the query more than once, but they will always store equal results
+  @Nullable private volatile Analysis analysis;
+  @Nullable private volatile Analysis analysisWithSummary;
+
+  private CachedSqlQuery(String rawQueryText) {
+    this.rawQueryText = rawQueryText;
+  }
+
+  public String getRawQueryText() {
+    return rawQueryText;
+  }
+
+  boolean matches(String queryText) {
+    return rawQueryText.equals(queryText);
+  }
+
+  SqlQuery analyze(SqlQueryAnalyzer analyzer, SqlDialect dialect) {
+    Analysis result = analysis;
+    if (result == null || result.dialect != dialect) {
+      result = new Analysis(dialect, analyzer.analyze(rawQueryText, dialect));
+      analysis = result;
+    }
+    return result.query;
+  }
+
+  SqlQuery analyzeWithSummary(SqlQueryAnalyzer analyzer, SqlDialect dialect) {
+    Analysis result = analysisWithSummary;
+    if (result == null || result.dialect != dialect) {
+      result = new Analysis(dialect, analyzer.analyzeWithSummary(rawQueryText, dialect));
+      analysisWithSummary = result;
+    }
+    return result.query;
+  }
+
+  private static final class Analysis {
+    private final SqlDialect dialect;
+    private final SqlQuery query;
+
+    private Analysis(SqlDialect dialect, SqlQuery query) {
+      this.dialect = dialect;
+      this.query = query;
+    }
+  }
+}
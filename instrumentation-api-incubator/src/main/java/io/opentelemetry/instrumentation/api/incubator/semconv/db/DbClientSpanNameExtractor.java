@@ -207,11 +207,13 @@ public abstract class DbClientSpanNameExtractor<REQUEST> implements SpanNameExtr
 
       if (!emitStableDatabaseSemconv()) {
         String dbName = getter.getDbName(request);
-        if (rawQueryTexts.size() > 1) { // for backcompat(?)
+        // for backcompat(?)
+        if (rawQueryTexts.size() > 1 || getter.isMultiStatementBatch(request)) {
           return computeSpanName(dbName, null, null, null);
         }
         SqlQuery analyzedQuery =
-            SqlQueryAnalyzerUtil.analyze(rawQueryTexts.iterator().next(), dialect);
+            SqlQueryAnalyzerUtil.analyze(
+                rawQueryTexts.iterator().next(), dialect, getter.getCachedQuery(request));
         return computeSpanName(
             dbName,
             analyzedQuery.getOperationName(),
@@ -219,9 +221,11 @@ public abstract class DbClientSpanNameExtractor<REQUEST> implements SpanNameExtr
             analyzedQuery.getStoredProcedureName());
       }
 
-      if (rawQueryTexts.size() == 1) {
+      if (rawQueryTexts.size() == 1 && !getter.isMultiStatementBatch(request)) {
         String rawQueryText = rawQueryTexts.iterator().next();
-        SqlQuery analyzedQuery = SqlQueryAnalyzerUtil.analyzeWithSummary(rawQueryText, dialect);
+        SqlQuery analyzedQuery =
+            SqlQueryAnalyzerUtil.analyzeWithSummary(
+                rawQueryText, dialect, getter.getCachedQuery(request));
         boolean batch = isBatch(request);
         String querySummary = analyzedQuery.getQuerySummary();
         if (querySummary != null) {
@@ -185,6 +185,14 @@ public final class DbConnectionPoolMetrics {
         .build();
   }
 
+  /**
+   * Returns a recorder for the {@linkplain #connectionWaitTime() wait time} and {@linkplain
+   * #connectionUseTime() use time} of the connections of this pool.
+   */
+  public DbConnectionPoolTimings timings() {
+    return new DbConnectionPoolTimings(connectionWaitTime(), connectionUseTime(), attributes);
+  }
+
   public Attributes getAttributes() {
     return attributes;
   }
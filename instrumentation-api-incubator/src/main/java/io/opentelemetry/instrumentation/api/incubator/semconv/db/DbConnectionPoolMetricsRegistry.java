@@ -0,0 +1,266 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.CONNECTION_STATE;
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.POOL_NAME;
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.STATE_IDLE;
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.STATE_USED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.logging.Level.FINE;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterBuilder;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.instrumentation.api.incubator.config.internal.DeclarativeConfigUtil;
+import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Collects the <a
+ * href="https://github.com/open-telemetry/semantic-conventions/blob/main/docs/db/database-metrics.md#connection-pools">database
+ * client connection pool metrics</a> of all connection pools registered by an instrumentation using
+ * a single batch callback.
+ *
+ * <p>The state of each pool is read at most once per staleness window, configured with the {@code
+ * otel.instrumentation.common.db.connection-pool.experimental.metrics-staleness} setting (in
+ * milliseconds); collections that happen within the window publish the previously read values. By
+ * default, the state of every pool is read on each collection.
+ */
+public final class DbConnectionPoolMetricsRegistry {
+
+  private static final Logger logger =
+      Logger.getLogger(DbConnectionPoolMetricsRegistry.class.getName());
+
+  private static final Cache<OpenTelemetry, Map<String, DbConnectionPoolMetricsRegistry>>
+      registries = Cache.weak();
+
+  /**
+   * Returns the registry shared by all connection pools registered with the given {@code
+   * instrumentationName}.
+   */
+  public static DbConnectionPoolMetricsRegistry get(
+      OpenTelemetry openTelemetry, String instrumentationName) {
+    return registries
+        .computeIfAbsent(openTelemetry, unused -> new ConcurrentHashMap<>())
+        .computeIfAbsent(
+            instrumentationName, name -> create(openTelemetry, buildMeter(openTelemetry, name)));
+  }
+
+  /**
+   * Creates a new registry that reports through the given {@link Meter}. Unlike {@link
+   * #get(OpenTelemetry, String)}, the registry is not shared; this is meant for instrumentations
+   * that need to build their own {@link Meter}, e.g. to use a different instrumentation scope name.
+   */
+  public static DbConnectionPoolMetricsRegistry create(OpenTelemetry openTelemetry, Meter meter) {
+    long stalenessMillis =
+        DeclarativeConfigUtil.getInstrumentationConfig(openTelemetry, "common")
+            .get("db")
+            .get("connection_pool")
+            .getLong("metrics_staleness/development", 0L);
+    return new DbConnectionPoolMetricsRegistry(meter, MILLISECONDS.toNanos(stalenessMillis));
+  }
+
+  private static Meter buildMeter(OpenTelemetry openTelemetry, String instrumentationName) {
+    MeterBuilder meterBuilder = openTelemetry.getMeterProvider().meterBuilder(instrumentationName);
+    String version = EmbeddedInstrumentationProperties.findVersion(instrumentationName);
+    if (version != null) {
+      meterBuilder.setInstrumentationVersion(version);
+    }
+    return meterBuilder.build();
+  }
+
+  private final long stalenessNanos;
+  private final Set<RegisteredPool> pools = ConcurrentHashMap.newKeySet();
+  private final DbConnectionPoolMetrics metrics;
+  private final ObservableLongMeasurement connections;
+  private final ObservableLongMeasurement minIdleConnections;
+  private final ObservableLongMeasurement maxIdleConnections;
+  private final ObservableLongMeasurement maxConnections;
+  private final ObservableLongMeasurement pendingRequestsForConnection;
+
+  // guarded by pools, only registered while at least one pool is registered
+  @Nullable private BatchCallback callback;
+
+  DbConnectionPoolMetricsRegistry(Meter meter, long stalenessNanos) {
+    this.stalenessNanos = stalenessNanos;
+    metrics = new DbConnectionPoolMetrics(meter, Attributes.empty());
+    connections = metrics.connections();
+    minIdleConnections = metrics.minIdleConnections();
+    maxIdleConnections = metrics.maxIdleConnections();
+    maxConnections = metrics.maxConnections();
+    pendingRequestsForConnection = metrics.pendingRequestsForConnection();
+  }
+
+  /**
+   * Starts collecting metrics for a connection pool. The returned {@link BatchCallback} stops
+   * collecting them when closed.
+   */
+  public BatchCallback register(String poolName, PoolStateReader reader) {
+    RegisteredPool pool = new RegisteredPool(poolName, reader);
+    synchronized (pools) {
+      pools.add(pool);
+      if (callback == null) {
+        callback =
+            metrics.batchCallback(
+                this::collect,
+                connections,
+                minIdleConnections,
+                maxIdleConnections,
+                maxConnections,
+                pendingRequestsForConnection);
+      }
+    }
+    return pool;
+  }
+
+  private void unregister(RegisteredPool pool) {
+    synchronized (pools) {
+      if (pools.remove(pool) && pools.isEmpty() && callback != null) {
+        callback.close();
+        callback = null;
+      }
+    }
+  }
+
+  private void collect() {
+    long now = System.nanoTime();
+    for (RegisteredPool pool : pools) {
+      pool.record(now);
+    }
+  }
+
+  /** Reads the current state of a registered connection pool. */
+  @FunctionalInterface
+  public interface PoolStateReader {
+
+    void read(PoolState state) throws Exception;
+  }
+
+  /** The state of a connection pool. Values that are not set by the reader are not recorded. */
+  public static final class PoolState {
+
+    private static final int USED_CONNECTIONS = 1;
+    private static final int IDLE_CONNECTIONS = 1 << 1;
+    private static final int MIN_IDLE_CONNECTIONS = 1 << 2;
+    private static final int MAX_IDLE_CONNECTIONS = 1 << 3;
+    private static final int MAX_CONNECTIONS = 1 << 4;
+    private static final int PENDING_REQUESTS = 1 << 5;
+
+    private int setValues;
+    private long usedConnections;
+    private long idleConnections;
+    private long minIdleConnections;
+    private long maxIdleConnections;
+    private long maxConnections;
+    private long pendingRequests;
+
+    PoolState() {}
+
+    public void setUsedConnections(long usedConnections) {
+      this.usedConnections = usedConnections;
+      setValues |= USED_CONNECTIONS;
+    }
+
+    public void setIdleConnections(long idleConnections) {
+      this.idleConnections = idleConnections;
+      setValues |= IDLE_CONNECTIONS;
+    }
+
+    public void setMinIdleConnections(long minIdleConnections) {
+      this.minIdleConnections = minIdleConnections;
+      setValues |= MIN_IDLE_CONNECTIONS;
+    }
+
+    public void setMaxIdleConnections(long maxIdleConnections) {
+      this.maxIdleConnections = maxIdleConnections;
+      setValues |= MAX_IDLE_CONNECTIONS;
+    }
+
+    public void setMaxConnections(long maxConnections) {
+      this.maxConnections = maxConnections;
+      setValues |= MAX_CONNECTIONS;
+    }
+
+    public void setPendingRequests(long pendingRequests) {
+      this.pendingRequests = pendingRequests;
+      setValues |= PENDING_REQUESTS;
+    }
+
+    private boolean isSet(int value) {
+      return (setValues & value) != 0;
+    }
+  }
+
+  private final class RegisteredPool implements BatchCallback {
+    private final String poolName;
+    private final PoolStateReader reader;
+    private final Attributes attributes;
+    private final Attributes usedConnectionsAttributes;
+    private final Attributes idleConnectionsAttributes;
+
+    // guarded by this, collections for different metric readers may run concurrently
+    private PoolState state = new PoolState();
+    private boolean read;
+    private long lastReadNanos;
+
+    private RegisteredPool(String poolName, PoolStateReader reader) {
+      this.poolName = poolName;
+      this.reader = reader;
+      attributes = Attributes.of(POOL_NAME, poolName);
+      usedConnectionsAttributes = attributes.toBuilder().put(CONNECTION_STATE, STATE_USED).build();
+      idleConnectionsAttributes = attributes.toBuilder().put(CONNECTION_STATE, STATE_IDLE).build();
+    }
+
+    private synchronized void record(long now) {
+      if (!read || now - lastReadNanos >= stalenessNanos) {
+        PoolState newState = new PoolState();
+        try {
+          reader.read(newState);
+        } catch (Exception e) {
+          logger.log(FINE, "Failed to read the state of connection pool " + poolName, e);
+          read = false;
+          return;
+        }
+        state = newState;
+        read = true;
+        lastReadNanos = now;
+      }
+
+      if (state.isSet(PoolState.USED_CONNECTIONS)) {
+        connections.record(state.usedConnections, usedConnectionsAttributes);
+      }
+      if (state.isSet(PoolState.IDLE_CONNECTIONS)) {
+        connections.record(state.idleConnections, idleConnectionsAttributes);
+      }
+      if (state.isSet(PoolState.MIN_IDLE_CONNECTIONS)) {
+        minIdleConnections.record(state.minIdleConnections, attributes);
+      }
+      if (state.isSet(PoolState.MAX_IDLE_CONNECTIONS)) {
+        maxIdleConnections.record(state.maxIdleConnections, attributes);
+      }
+      if (state.isSet(PoolState.MAX_CONNECTIONS)) {
+        maxConnections.record(state.maxConnections, attributes);
+      }
+      if (state.isSet(PoolState.PENDING_REQUESTS)) {
+        pendingRequestsForConnection.record(state.pendingRequests, attributes);
+      }
+    }
+
+    @Override
+    public void close() {
+      unregister(this);
+    }
+  }
+}
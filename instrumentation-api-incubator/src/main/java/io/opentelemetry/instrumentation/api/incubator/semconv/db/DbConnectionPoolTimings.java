@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.internal.SemconvStability.emitStableDatabaseSemconv;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import javax.annotation.Nullable;
+
+/**
+ * Records the time it takes to obtain a connection from a connection pool and the time for which
+ * the connection is used before it is returned to the pool.
+ *
+ * @see DbConnectionPoolMetrics#timings()
+ */
+public final class DbConnectionPoolTimings {
+
+  private static final double NANOS_PER_MS = MILLISECONDS.toNanos(1);
+  private static final double NANOS_PER_S = SECONDS.toNanos(1);
+
+  private final DoubleHistogram waitTime;
+  private final DoubleHistogram useTime;
+  private final Attributes attributes;
+
+  DbConnectionPoolTimings(
+      DoubleHistogram waitTime, DoubleHistogram useTime, Attributes attributes) {
+    this.waitTime = waitTime;
+    this.useTime = useTime;
+    this.attributes = attributes;
+  }
+
+  /** Records the time it took to obtain a connection from the pool. */
+  public void recordWaitTime(long nanos) {
+    waitTime.record(toUnit(nanos), attributes);
+  }
+
+  /** Records the time between borrowing a connection and returning it to the pool. */
+  public void recordUseTime(long nanos) {
+    useTime.record(toUnit(nanos), attributes);
+  }
+
+  private static double toUnit(long nanos) {
+    return nanos / (emitStableDatabaseSemconv() ? NANOS_PER_S : NANOS_PER_MS);
+  }
+
+  /**
+   * Borrow state of a single pooled connection. Instrumentations keep one instance per pooled
+   * connection (e.g. in a {@link io.opentelemetry.instrumentation.api.util.VirtualField}) and reuse
+   * it for every borrow, so that tracking the use time does not allocate.
+   */
+  public static final class PooledConnectionState {
+
+    // borrowing and returning a connection may happen on different threads, the pool's hand-off of
+    // the connection provides the necessary visibility
+    @Nullable private DbConnectionPoolTimings timings;
+    private long borrowedNanos;
+
+    /** Marks the connection as borrowed from the pool with the given {@code timings}. */
+    public void borrowed(DbConnectionPoolTimings timings) {
+      this.borrowedNanos = System.nanoTime();
+      this.timings = timings;
+    }
+
+    /** Marks the connection as returned to the pool and records its use time. */
+    public void returned() {
+      DbConnectionPoolTimings timings = this.timings;
+      if (timings == null) {
+        return;
+      }
+      this.timings = null;
+      timings.recordUseTime(System.nanoTime() - borrowedNanos);
+    }
+  }
+}
@@ -10,8 +10,8 @@ import static java.util.Arrays.asList;
 
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 /**
  * This class is responsible for masking potentially sensitive data in Redis commands.
@@ -35,13 +35,22 @@ import java.util.Map;
  */
 public final class RedisCommandSanitizer {
 
-  private static final Map<String, CommandSanitizer> SANITIZERS;
+  private static final CommandTable SANITIZERS;
   private static final CommandSanitizer DEFAULT = new CommandAndNumArgs(0);
 
   // max length of the sanitized command, command longer than that will be truncated to this length
   // visible for testing
   static final int LIMIT = 32 * 1024;
 
+  // sanitized commands are built in a per-thread buffer, buffers that grew larger than this (e.g.
+  // because of a huge MSET) are not kept around
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024;
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+  // fully masked commands with up to this many arguments are precomputed for the known commands
+  private static final int MAX_PRECOMPUTED_MASKED_ARGS = 4;
+
   static {
     Map<String, CommandSanitizer> sanitizers = new HashMap<>();
 
@@ -350,7 +359,7 @@ public final class RedisCommandSanitizer {
       sanitizers.put(command, KeepAllArgs.INSTANCE);
     }
 
-    SANITIZERS = sanitizers;
+    SANITIZERS = CommandTable.create(sanitizers);
   }
 
   public static RedisCommandSanitizer create(boolean querySanitizationEnabled) {
@@ -364,12 +373,31 @@ public final class RedisCommandSanitizer {
   }
 
   public String sanitize(String command, List<?> args) {
+    if (args.isEmpty()) {
+      return command;
+    }
     if (!querySanitizationEnabled) {
       return KeepAllArgs.INSTANCE.sanitize(command, args);
     }
-    return SANITIZERS
-        .getOrDefault(command.toUpperCase(Locale.ROOT), DEFAULT)
-        .sanitize(command, args);
+    CommandEntry entry = SANITIZERS.get(command);
+    if (entry == null) {
+      return DEFAULT.sanitize(command, args);
+    }
+    // the precomputed strings use the canonical upper case command name
+    if (args.size() <= entry.maskedCommands.length && entry.name.equals(command)) {
+      return entry.maskedCommands[args.size() - 1];
+    }
+    return entry.sanitizer.sanitize(command, args);
+  }
+
+  private static StringBuilder buffer(String command) {
+    StringBuilder buffer = BUFFER.get();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer = new StringBuilder(128);
+      BUFFER.set(buffer);
+    }
+    buffer.setLength(0);
+    return buffer.append(command);
   }
 
   private static boolean isOverLimit(StringBuilder builder) {
@@ -378,11 +406,102 @@ public final class RedisCommandSanitizer {
 
   private static String limit(StringBuilder builder) {
     if (builder.length() > LIMIT) {
-      builder.delete(LIMIT, builder.length());
+      builder.setLength(LIMIT);
     }
     return builder.toString();
   }
 
+  private static void appendArg(StringBuilder builder, Object arg) {
+    builder.append(' ');
+    if (arg instanceof String) {
+      builder.append((String) arg);
+    } else {
+      builder.append(argToString(arg));
+    }
+  }
+
+  /**
+   * An open addressing hash table of the known commands, looked up without upper-casing the command
+   * name first. The table is kept at most a quarter full, so that most lookups take a single
+   * case-insensitive comparison.
+   */
+  static final class CommandTable {
+    private final CommandEntry[] entries;
+    private final int mask;
+
+    private CommandTable(CommandEntry[] entries) {
+      this.entries = entries;
+      this.mask = entries.length - 1;
+    }
+
+    static CommandTable create(Map<String, CommandSanitizer> sanitizers) {
+      CommandEntry[] entries = new CommandEntry[Integer.highestOneBit(sanitizers.size()) << 3];
+      int mask = entries.length - 1;
+      for (Map.Entry<String, CommandSanitizer> sanitizer : sanitizers.entrySet()) {
+        CommandEntry entry = new CommandEntry(sanitizer.getKey(), sanitizer.getValue());
+        int index = entry.hash & mask;
+        while (entries[index] != null) {
+          index = (index + 1) & mask;
+        }
+        entries[index] = entry;
+      }
+      return new CommandTable(entries);
+    }
+
+    @Nullable
+    CommandEntry get(String command) {
+      int hash = hash(command);
+      int index = hash & mask;
+      CommandEntry entry;
+      while ((entry = entries[index]) != null) {
+        if (entry.hash == hash && entry.name.equalsIgnoreCase(command)) {
+          return entry;
+        }
+        index = (index + 1) & mask;
+      }
+      return null;
+    }
+
+    // case-insensitive for ASCII letters, which is all that the known commands consist of
+    static int hash(String command) {
+      int hash = 0;
+      for (int i = 0; i < command.length(); i++) {
+        char c = command.charAt(i);
+        if (c >= 'a' && c <= 'z') {
+          c -= 'a' - 'A';
+        }
+        hash = 31 * hash + c;
+      }
+      return hash ^ (hash >>> 16);
+    }
+  }
+
+  static final class CommandEntry {
+    private static final String[] NO_MASKED_COMMANDS = new String[0];
+
+    final String name;
+    final int hash;
+    final CommandSanitizer sanitizer;
+    // fully masked sanitized commands, indexed by the number of arguments minus one
+    final String[] maskedCommands;
+
+    CommandEntry(String name, CommandSanitizer sanitizer) {
+      this.name = name;
+      this.hash = CommandTable.hash(name);
+      this.sanitizer = sanitizer;
+      if (sanitizer instanceof CommandAndNumArgs
+          && ((CommandAndNumArgs) sanitizer).numOfArgsToKeep == 0) {
+        maskedCommands = new String[MAX_PRECOMPUTED_MASKED_ARGS];
+        StringBuilder masked = new StringBuilder(name);
+        for (int i = 0; i < maskedCommands.length; i++) {
+          maskedCommands[i] = masked.append(" ?").toString().intern();
+        }
+      } else {
+        maskedCommands = NO_MASKED_COMMANDS;
+      }
+    }
+  }
+
   interface CommandSanitizer {
     String sanitize(String command, List<?> args);
   }
@@ -392,9 +511,9 @@ public final class RedisCommandSanitizer {
 
     @Override
     public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+      StringBuilder sanitized = buffer(command);
       for (Object arg : args) {
-        sanitized.append(" ").append(argToString(arg));
+        appendArg(sanitized, arg);
         if (isOverLimit(sanitized)) {
           return limit(sanitized);
         }
@@ -414,9 +533,9 @@ public final class RedisCommandSanitizer {
 
     @Override
     public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+      StringBuilder sanitized = buffer(command);
       for (int i = 0; i < numOfArgsToKeep && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        appendArg(sanitized, args.get(i));
         if (isOverLimit(sanitized)) {
           return limit(sanitized);
         }
@@ -442,10 +561,10 @@ public final class RedisCommandSanitizer {
 
     @Override
     public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+      StringBuilder sanitized = buffer(command);
       // append all "initial" arguments before key-value pairs start
       for (int i = 0; i < numOfArgsBeforeKeyValue && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        appendArg(sanitized, args.get(i));
         if (isOverLimit(sanitized)) {
           return limit(sanitized);
         }
@@ -453,7 +572,8 @@ public final class RedisCommandSanitizer {
 
       // loop over keys only
       for (int i = numOfArgsBeforeKeyValue; i < args.size(); i += 2) {
-        sanitized.append(" ").append(argToString(args.get(i))).append(" ?");
+        appendArg(sanitized, args.get(i));
+        sanitized.append(" ?");
         if (isOverLimit(sanitized)) {
           return limit(sanitized);
         }
@@ -467,7 +587,7 @@ public final class RedisCommandSanitizer {
 
     @Override
     public String sanitize(String command, List<?> args) {
-      StringBuilder sanitized = new StringBuilder(command);
+      StringBuilder sanitized = buffer(command);
 
       // get the number of keys passed from the command itself (second arg)
       int numberOfKeys = 0;
@@ -482,7 +602,7 @@ public final class RedisCommandSanitizer {
       int i = 0;
       // log the script, number of keys and all keys
       for (; i < (numberOfKeys + 2) && i < args.size(); ++i) {
-        sanitized.append(" ").append(argToString(args.get(i)));
+        appendArg(sanitized, args.get(i));
         if (isOverLimit(sanitized)) {
           return limit(sanitized);
         }
@@ -103,12 +103,14 @@ public final class SqlClientAttributesExtractor<REQUEST, RESPONSE>
     // db.operation.batch.size is captured for every batch execution (including an empty batch with
     // size 0); it is only omitted for a single-statement batch, which is reported as a non-batch
     boolean isBatch = batchSize != null && batchSize != 1;
+    boolean multiStatementBatch = getter.isMultiStatementBatch(request);
 
     if (emitOldDatabaseSemconv()) {
       Collection<String> oldSemconvRawQueryTexts = getter.getRawQueryTextsForOldSemconv(request);
-      if (oldSemconvRawQueryTexts.size() == 1) { // for backcompat(?)
+      if (oldSemconvRawQueryTexts.size() == 1 && !multiStatementBatch) { // for backcompat(?)
         String rawQueryText = oldSemconvRawQueryTexts.iterator().next();
-        SqlQuery analyzedQuery = SqlQueryAnalyzerUtil.analyze(rawQueryText, dialect);
+        SqlQuery analyzedQuery =
+            SqlQueryAnalyzerUtil.analyze(rawQueryText, dialect, getter.getCachedQuery(request));
         String operationName = analyzedQuery.getOperationName();
         attributes.put(
             DB_STATEMENT, querySanitizationEnabled ? analyzedQuery.getQueryText() : rawQueryText);
@@ -124,9 +126,11 @@ public final class SqlClientAttributesExtractor<REQUEST, RESPONSE>
       if (isBatch) {
         attributes.put(DB_OPERATION_BATCH_SIZE, batchSize);
       }
-      if (rawQueryTexts.size() == 1) {
+      if (rawQueryTexts.size() == 1 && !multiStatementBatch) {
         String rawQueryText = rawQueryTexts.iterator().next();
-        SqlQuery analyzedQuery = SqlQueryAnalyzerUtil.analyzeWithSummary(rawQueryText, dialect);
+        SqlQuery analyzedQuery =
+            SqlQueryAnalyzerUtil.analyzeWithSummary(
+                rawQueryText, dialect, getter.getCachedQuery(request));
         boolean shouldSanitize =
             querySanitizationEnabled && !getter.isParameterizedQuery(request, 0);
         attributes.put(DB_QUERY_TEXT, shouldSanitize ? analyzedQuery.getQueryText() : rawQueryText);
@@ -139,7 +143,7 @@ public final class SqlClientAttributesExtractor<REQUEST, RESPONSE>
           attributes.put(DB_COLLECTION_NAME, analyzedQuery.getCollectionName());
         }
         attributes.put(DB_STORED_PROCEDURE_NAME, analyzedQuery.getStoredProcedureName());
-      } else if (rawQueryTexts.size() > 1) {
+      } else if (!rawQueryTexts.isEmpty()) {
         MultiQuery.Builder builder = MultiQuery.builder();
         int queryIndex = 0;
         for (String rawQueryText : rawQueryTexts) {
@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
 import java.util.Collection;
+import javax.annotation.Nullable;
 
 /**
  * An interface for getting SQL database client attributes.
@@ -95,6 +96,19 @@ public interface SqlClientAttributesGetter<REQUEST, RESPONSE>
    */
   Collection<String> getRawQueryTexts(REQUEST request);
 
+  /**
+   * Returns whether {@code request} is a batch of separate statements, which is reported the same
+   * way as a batch of differing statements even when {@link #getRawQueryTexts(Object)} returns a
+   * single query text, for example because instrumentation only keeps the distinct query texts of
+   * a batch.
+   *
+   * <p>By default, only a request with more than one query text is reported as a multi-statement
+   * batch.
+   */
+  default boolean isMultiStatementBatch(REQUEST request) {
+    return false;
+  }
+
   /**
    * Returns the raw SQL query texts used to derive old semantic convention attributes and span
    * names.
@@ -110,6 +124,17 @@ public interface SqlClientAttributesGetter<REQUEST, RESPONSE>
     return getRawQueryTexts(request);
   }
 
+  /**
+   * Returns the {@link CachedSqlQuery} attached to the driver-level prepared statement executed by
+   * {@code request}, or {@code null} if there is none. When the request contains a single query
+   * whose raw text matches {@link CachedSqlQuery#getRawQueryText()}, the analysis results cached
+   * in it are used instead of analyzing the raw query text again.
+   */
+  @Nullable
+  default CachedSqlQuery getCachedQuery(REQUEST request) {
+    return null;
+  }
+
   /**
    * Returns whether the query at {@code queryIndex} in {@link #getRawQueryTexts(Object)} is
    * parameterized. Prepared statements are always considered parameterized even if no parameters
@@ -5,12 +5,11 @@
 
 package io.opentelemetry.instrumentation.api.incubator.semconv.db;
 
-import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_SANITIZER_CACHE_MISS;
+import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.SQL_SANITIZER;
 
 import com.google.auto.value.AutoValue;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.QueryShapeCache;
 import io.opentelemetry.instrumentation.api.internal.SemconvStability;
-import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
-import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import javax.annotation.Nullable;
 
 /**
@@ -18,11 +17,10 @@ import javax.annotation.Nullable;
  * statements and queries.
  */
 public final class SqlQueryAnalyzer {
-  private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
-
-  private static final Cache<CacheKey, SqlQuery> sqlToQueryCache = Cache.bounded(1000);
-  private static final Cache<CacheKey, SqlQuery> sqlToQueryCacheWithSummary = Cache.bounded(1000);
-  private static final int LARGE_QUERY_THRESHOLD = 10 * 1024;
+  private static final QueryShapeCache<SqlDialect, SqlQuery> sqlToQueryCache =
+      QueryShapeCache.create(SQL_SANITIZER, 1000);
+  private static final QueryShapeCache<SqlDialect, SqlQuery> sqlToQueryCacheWithSummary =
+      QueryShapeCache.create(SQL_SANITIZER, 1000);
 
   public static SqlQueryAnalyzer create(boolean querySanitizationEnabled) {
     return new SqlQueryAnalyzer(querySanitizationEnabled);
@@ -41,19 +39,7 @@ public final class SqlQueryAnalyzer {
     if (!querySanitizationEnabled || query == null) {
       return SqlQuery.create(query, null, null);
     }
-    // sanitization result will not be cached for queries larger than the threshold to avoid
-    // cache growing too large
-    // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/13180
-    if (query.length() > LARGE_QUERY_THRESHOLD) {
-      return analyzeImpl(query, dialect);
-    }
-    return sqlToQueryCache.computeIfAbsent(
-        CacheKey.create(query, dialect), k -> analyzeImpl(query, dialect));
-  }
-
-  private static SqlQuery analyzeImpl(String query, SqlDialect dialect) {
-    supportability.incrementCounter(SQL_SANITIZER_CACHE_MISS);
-    return AutoSqlSanitizer.sanitize(query, dialect);
+    return sqlToQueryCache.computeIfAbsent(query, dialect, AutoSqlSanitizer::sanitize);
   }
 
   // To be removed in 3.0 (or rather, inlined into analyze() above)
@@ -61,24 +47,13 @@ public final class SqlQueryAnalyzer {
     if (!querySanitizationEnabled || query == null) {
       return SqlQuery.createWithSummary(query, null, null);
     }
-    // sanitization result will not be cached for queries larger than the threshold to avoid
-    // cache growing too large
-    // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/13180
-    if (query.length() > LARGE_QUERY_THRESHOLD) {
-      return analyzeWithSummaryImpl(query, dialect);
-    }
     return sqlToQueryCacheWithSummary.computeIfAbsent(
-        CacheKey.create(query, dialect), k -> analyzeWithSummaryImpl(query, dialect));
-  }
-
-  private static SqlQuery analyzeWithSummaryImpl(String query, SqlDialect dialect) {
-    supportability.incrementCounter(SQL_SANITIZER_CACHE_MISS);
-    return AutoSqlSanitizerWithSummary.sanitize(query, dialect);
+        query, dialect, AutoSqlSanitizerWithSummary::sanitize);
   }
 
   // visible for tests
   static boolean isCached(String query, SqlDialect dialect) {
-    return sqlToQueryCache.get(CacheKey.create(query, dialect)) != null;
+    return sqlToQueryCache.get(query, dialect) != null;
   }
 
   @AutoValue
@@ -10,6 +10,7 @@ import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterContext;
 import java.util.HashMap;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 /**
  * Helper class for analyzing sql that keeps analysis results in {@link InstrumenterContext} so that
@@ -18,6 +19,22 @@ import java.util.Map;
 class SqlQueryAnalyzerUtil {
   private static final SqlQueryAnalyzer analyzer = SqlQueryAnalyzer.create(true);
 
+  static SqlQuery analyze(
+      String queryText, SqlDialect dialect, @Nullable CachedSqlQuery cachedQuery) {
+    if (cachedQuery != null && cachedQuery.matches(queryText)) {
+      return cachedQuery.analyze(analyzer, dialect);
+    }
+    return analyze(queryText, dialect);
+  }
+
+  static SqlQuery analyzeWithSummary(
+      String queryText, SqlDialect dialect, @Nullable CachedSqlQuery cachedQuery) {
+    if (cachedQuery != null && cachedQuery.matches(queryText)) {
+      return cachedQuery.analyzeWithSummary(analyzer, dialect);
+    }
+    return analyzeWithSummary(queryText, dialect);
+  }
+
   static SqlQuery analyze(String queryText, SqlDialect dialect) {
     Map<CacheKey, SqlQuery> map =
         InstrumenterContext.computeIfAbsent("sanitized-sql-map", unused -> new HashMap<>());
@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db.internal;
+
+import com.google.auto.value.AutoValue;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.function.BiFunction;
+import javax.annotation.Nullable;
+
+/**
+ * Caches the result of analyzing (sanitizing, summarizing, parsing) a database statement, keyed by
+ * the statement text and the dialect it was analyzed with. The dialect is any value that changes
+ * the result of the analysis, currently only the {@code SqlDialect} of {@code SqlQueryAnalyzer}.
+ *
+ * <p>The capacity of the cache is expressed in units of weight: every started KiB of statement
+ * text weighs one unit, so a cache can hold many short statements or fewer long ones. Statements
+ * longer than {@link #LARGE_QUERY_THRESHOLD} are never cached.
+ *
+ * <p>Cache hits and misses are counted through {@link SupportabilityMetrics} as the {@code "<name>
+ * cache hit"} and {@code "<name> cache miss"} counters, which are only logged when agent debug
+ * logging is enabled.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class QueryShapeCache<D, V> {
+
+  // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/13180
+  static final int LARGE_QUERY_THRESHOLD = 10 * 1024;
+
+  private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
+
+  public static <D, V> QueryShapeCache<D, V> create(String name, long maximumWeight) {
+    return new QueryShapeCache<>(name, maximumWeight);
+  }
+
+  private final Cache<Key<D>, V> cache;
+  private final String hitCounterName;
+  private final String missCounterName;
+
+  private QueryShapeCache(String name, long maximumWeight) {
+    cache = Cache.weighted(maximumWeight, (key, value) -> 1 + (key.getQueryText().length() >> 10));
+    hitCounterName = name + " cache hit";
+    missCounterName = name + " cache miss";
+  }
+
+  /**
+   * Returns the cached result for the given statement, or computes it with {@code analyzer} and
+   * caches it if absent.
+   */
+  public V computeIfAbsent(
+      String queryText, D dialect, BiFunction<String, ? super D, ? extends V> analyzer) {
+    // results are not cached for large statements to avoid the cache growing too large
+    if (queryText.length() > LARGE_QUERY_THRESHOLD) {
+      supportability.incrementCounter(missCounterName);
+      return analyzer.apply(queryText, dialect);
+    }
+    Key<D> key = Key.create(queryText, dialect);
+    V value = cache.get(key);
+    if (value != null) {
+      supportability.incrementCounter(hitCounterName);
+      return value;
+    }
+    supportability.incrementCounter(missCounterName);
+    value = analyzer.apply(queryText, dialect);
+    cache.put(key, value);
+    return value;
+  }
+
+  /** Returns the cached result for the given statement, if present. */
+  @Nullable
+  public V get(String queryText, D dialect) {
+    return cache.get(Key.create(queryText, dialect));
+  }
+
+  @AutoValue
+  abstract static class Key<D> {
+
+    static <D> Key<D> create(String queryText, D dialect) {
+      return new AutoValue_QueryShapeCache_Key<>(queryText, dialect);
+    }
+
+    abstract String getQueryText();
+
+    abstract D getDialect();
+  }
+}
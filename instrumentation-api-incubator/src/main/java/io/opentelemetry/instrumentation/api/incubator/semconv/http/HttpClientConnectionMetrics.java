@@ -0,0 +1,283 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.http;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_ADDRESS;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_PORT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounterBuilder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterBuilder;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * A helper class that records connection level HTTP client metrics: the number of <a
+ * href="https://github.com/open-telemetry/semantic-conventions/blob/main/docs/http/http-metrics.md#metric-httpclientopen_connections">open
+ * connections</a>, the <a
+ * href="https://github.com/open-telemetry/semantic-conventions/blob/main/docs/http/http-metrics.md#metric-httpclientconnectionduration">duration
+ * of the connections</a> and the <a
+ * href="https://github.com/open-telemetry/semantic-conventions/blob/main/docs/dns/dns-metrics.md#metric-dnslookupduration">DNS
+ * lookup duration</a>. The time it took to acquire a connection and the TLS handshake duration
+ * are recorded as well; these two histograms are not part of the semantic conventions.
+ *
+ * <p>Unlike the request level metrics, these are recorded by the instrumentation of the connection
+ * pool and resolver of an HTTP client. Clients that see every connection being opened and closed
+ * report them with {@link #recordConnectionOpened(String, int)} and {@link
+ * #recordConnectionClosed(String, int, long)}; clients that pool their connections {@linkplain
+ * #registerConnectionPool(Object, ConnectionPoolReader) register the pool}, which is then read
+ * whenever the metrics are collected. A single instance should use only one of the two.
+ */
+public final class HttpClientConnectionMetrics {
+
+  // copied from DnsIncubatingAttributes
+  static final AttributeKey<String> DNS_QUESTION_NAME = stringKey("dns.question.name");
+  // copied from HttpIncubatingAttributes
+  static final AttributeKey<String> HTTP_CONNECTION_STATE = stringKey("http.connection.state");
+
+  private static final Attributes ACTIVE = Attributes.of(HTTP_CONNECTION_STATE, "active");
+  private static final Attributes IDLE = Attributes.of(HTTP_CONNECTION_STATE, "idle");
+
+  private static final double NANOS_PER_S = SECONDS.toNanos(1);
+  private static final List<Double> DNS_LOOKUP_DURATION_BUCKETS =
+      unmodifiableList(asList(0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1.0, 5.0, 10.0));
+  private static final List<Double> CONNECTION_SETUP_DURATION_BUCKETS =
+      unmodifiableList(asList(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0));
+  private static final List<Double> CONNECTION_DURATION_BUCKETS =
+      unmodifiableList(
+          asList(
+              0.01, 0.02, 0.05, 0.1, 0.2, 0.5, 1.0, 2.0, 5.0, 10.0, 30.0, 60.0, 120.0, 300.0));
+
+  public static HttpClientConnectionMetrics create(
+      OpenTelemetry openTelemetry, String instrumentationName) {
+    MeterBuilder meterBuilder = openTelemetry.getMeterProvider().meterBuilder(instrumentationName);
+    String version = EmbeddedInstrumentationProperties.findVersion(instrumentationName);
+    if (version != null) {
+      meterBuilder.setInstrumentationVersion(version);
+    }
+    return new HttpClientConnectionMetrics(meterBuilder.build());
+  }
+
+  private final Meter meter;
+  private final DoubleHistogram connectionDuration;
+  private final DoubleHistogram dnsLookupDuration;
+  private final DoubleHistogram connectionAcquireDuration;
+  private final DoubleHistogram tlsHandshakeDuration;
+  // the open connections are either counted synchronously, or read from the registered pools when
+  // the metrics are collected; the instrument is created on first use, since registering both
+  // kinds under the same name would report the connections twice
+  @Nullable private volatile LongUpDownCounter openConnections;
+  private final Map<Object, ConnectionPoolReader<Object>> pools =
+      Collections.synchronizedMap(new WeakHashMap<>());
+  private boolean poolsCallbackRegistered;
+
+  private HttpClientConnectionMetrics(Meter meter) {
+    this.meter = meter;
+    connectionDuration =
+        meter
+            .histogramBuilder("http.client.connection.duration")
+            .setUnit("s")
+            .setDescription(
+                "The duration of the successfully established outbound HTTP connections.")
+            .setExplicitBucketBoundariesAdvice(CONNECTION_DURATION_BUCKETS)
+            .build();
+    dnsLookupDuration =
+        meter
+            .histogramBuilder("dns.lookup.duration")
+            .setUnit("s")
+            .setDescription("Measures the time taken to perform a DNS lookup.")
+            .setExplicitBucketBoundariesAdvice(DNS_LOOKUP_DURATION_BUCKETS)
+            .build();
+    connectionAcquireDuration =
+        meter
+            .histogramBuilder("http.client.connection.acquire.duration")
+            .setUnit("s")
+            .setDescription(
+                "The time it took to acquire a connection; for clients without a connection pool"
+                    + " this is the time it took to establish a new connection.")
+            .setExplicitBucketBoundariesAdvice(CONNECTION_SETUP_DURATION_BUCKETS)
+            .build();
+    tlsHandshakeDuration =
+        meter
+            .histogramBuilder("http.client.connection.tls_handshake.duration")
+            .setUnit("s")
+            .setDescription("The time it took to perform the TLS handshake of a new connection.")
+            .setExplicitBucketBoundariesAdvice(CONNECTION_SETUP_DURATION_BUCKETS)
+            .build();
+  }
+
+  private static LongUpDownCounterBuilder openConnectionsBuilder(Meter meter) {
+    return meter
+        .upDownCounterBuilder("http.client.open_connections")
+        .setUnit("{connection}")
+        .setDescription("Number of outbound HTTP connections that are currently active or idle.");
+  }
+
+  /**
+   * Records that a connection to the given server was opened. The connection is counted as {@code
+   * active} until it is closed, this is meant for clients without a connection pool. Must be paired
+   * with a call to {@link #recordConnectionClosed(String, int, long)} with the same server.
+   */
+  public void recordConnectionOpened(@Nullable String serverAddress, int serverPort) {
+    openConnections().add(1, serverAttributes(ACTIVE, serverAddress, serverPort));
+  }
+
+  /**
+   * Records that a connection to the given server was closed, {@code connectionDurationNanos} after
+   * it was established.
+   */
+  public void recordConnectionClosed(
+      @Nullable String serverAddress, int serverPort, long connectionDurationNanos) {
+    openConnections().add(-1, serverAttributes(ACTIVE, serverAddress, serverPort));
+    connectionDuration.record(
+        connectionDurationNanos / NANOS_PER_S,
+        serverAttributes(Attributes.empty(), serverAddress, serverPort));
+  }
+
+  private LongUpDownCounter openConnections() {
+    LongUpDownCounter counter = openConnections;
+    if (counter == null) {
+      synchronized (this) {
+        counter = openConnections;
+        if (counter == null) {
+          counter = openConnectionsBuilder(meter).build();
+          openConnections = counter;
+        }
+      }
+    }
+    return counter;
+  }
+
+  /**
+   * Registers a connection pool whose active and idle connections are reported by {@code
+   * http.client.open_connections}. The pool is only weakly referenced, so it does not have to be
+   * unregistered; registering the same pool again has no effect.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void registerConnectionPool(T pool, ConnectionPoolReader<? super T> reader) {
+    synchronized (this) {
+      if (!poolsCallbackRegistered) {
+        poolsCallbackRegistered = true;
+        openConnectionsBuilder(meter).buildWithCallback(this::reportPools);
+      }
+    }
+    pools.putIfAbsent(pool, (ConnectionPoolReader<Object>) reader);
+  }
+
+  private void reportPools(ObservableLongMeasurement measurement) {
+    List<Map.Entry<Object, ConnectionPoolReader<Object>>> entries;
+    synchronized (pools) {
+      entries = new ArrayList<>(pools.entrySet());
+    }
+    // several pools may connect to the same server, their connections are summed up
+    Map<Attributes, Long> counts = new HashMap<>();
+    ConnectionCountRecorder recorder =
+        (serverAddress, serverPort, active, idle) -> {
+          // http.client.open_connections requires the server, connections that cannot be
+          // attributed to one are not reported
+          if (serverAddress == null) {
+            return;
+          }
+          counts.merge(serverAttributes(ACTIVE, serverAddress, serverPort), active, Long::sum);
+          counts.merge(serverAttributes(IDLE, serverAddress, serverPort), idle, Long::sum);
+        };
+    for (Map.Entry<Object, ConnectionPoolReader<Object>> entry : entries) {
+      entry.getValue().read(entry.getKey(), recorder);
+    }
+    counts.forEach((attributes, count) -> measurement.record(count, attributes));
+  }
+
+  /** Records the time it took to resolve the given host name. */
+  public void recordDnsLookupDuration(
+      long durationNanos, @Nullable String hostName, @Nullable Throwable error) {
+    AttributesBuilder attributes = Attributes.builder();
+    if (hostName != null) {
+      attributes.put(DNS_QUESTION_NAME, hostName);
+    }
+    if (error != null) {
+      attributes.put(ERROR_TYPE, error.getClass().getName());
+    }
+    dnsLookupDuration.record(durationNanos / NANOS_PER_S, attributes.build());
+  }
+
+  /**
+   * Records the time it took to acquire a connection to the given server, either from the pool or
+   * by establishing a new one.
+   */
+  public void recordConnectionAcquireDuration(
+      long durationNanos,
+      @Nullable String serverAddress,
+      int serverPort,
+      @Nullable Throwable error) {
+    connectionAcquireDuration.record(
+        durationNanos / NANOS_PER_S, errorAttributes(serverAddress, serverPort, error));
+  }
+
+  /** Records the time it took to perform the TLS handshake with the given server. */
+  public void recordTlsHandshakeDuration(
+      long durationNanos,
+      @Nullable String serverAddress,
+      int serverPort,
+      @Nullable Throwable error) {
+    tlsHandshakeDuration.record(
+        durationNanos / NANOS_PER_S, errorAttributes(serverAddress, serverPort, error));
+  }
+
+  private static Attributes errorAttributes(
+      @Nullable String serverAddress, int serverPort, @Nullable Throwable error) {
+    Attributes base =
+        error == null ? Attributes.empty() : Attributes.of(ERROR_TYPE, error.getClass().getName());
+    return serverAttributes(base, serverAddress, serverPort);
+  }
+
+  private static Attributes serverAttributes(
+      Attributes base, @Nullable String serverAddress, int serverPort) {
+    AttributesBuilder attributes = base.toBuilder();
+    if (serverAddress != null) {
+      attributes.put(SERVER_ADDRESS, serverAddress);
+    }
+    if (serverPort > 0) {
+      attributes.put(SERVER_PORT, (long) serverPort);
+    }
+    return attributes.build();
+  }
+
+  /** Reads the number of active and idle connections of a connection pool. */
+  @FunctionalInterface
+  public interface ConnectionPoolReader<T> {
+
+    /**
+     * Reports the connections of the {@code pool} to the {@code recorder}, once for every server
+     * the pool holds connections to. Readings without a server address are ignored.
+     */
+    void read(T pool, ConnectionCountRecorder recorder);
+  }
+
+  /** Receives the number of active and idle connections to a server. */
+  @FunctionalInterface
+  public interface ConnectionCountRecorder {
+
+    void record(@Nullable String serverAddress, int serverPort, long active, long idle);
+  }
+}
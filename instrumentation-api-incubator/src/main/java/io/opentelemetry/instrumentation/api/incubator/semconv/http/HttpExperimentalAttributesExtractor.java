@@ -9,6 +9,7 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpClientUrlTemplateUtil;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesGetter;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpCommonAttributesGetter;
@@ -64,11 +65,20 @@ public final class HttpExperimentalAttributesExtractor<REQUEST, RESPONSE>
       @Nullable RESPONSE response,
       @Nullable Throwable error) {
 
+    // fall back to the counted bytes when there is no Content-Length, e.g. for chunked bodies
+    HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(context);
+
     Long requestBodySize = requestBodySize(request);
+    if (requestBodySize == null && counter != null) {
+      requestBodySize = counter.getRequestBodySize();
+    }
     attributes.put(HTTP_REQUEST_BODY_SIZE, requestBodySize);
 
     if (response != null) {
       Long responseBodySize = responseBodySize(request, response);
+      if (responseBodySize == null && counter != null) {
+        responseBodySize = counter.getResponseBodySize();
+      }
       attributes.put(HTTP_RESPONSE_BODY_SIZE, responseBodySize);
     }
   }
@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.http.internal;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.ImplicitContextKeyed;
+import io.opentelemetry.instrumentation.api.instrumenter.ContextCustomizer;
+import javax.annotation.Nullable;
+
+/**
+ * Counts the bytes of HTTP request and response bodies that pass through an instrumented I/O path
+ * (e.g. a servlet output stream or a netty pipeline), so that the body size can be recorded when
+ * the {@code Content-Length} header is missing, for example for chunked messages. The counter is
+ * stored in the context of the HTTP span; only the sides of the exchange that were counted report
+ * a size.
+ *
+ * <p>The counter is not thread safe: it is expected that a message body is written (or read) by
+ * one thread at a time, and read after the exchange has completed.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class HttpMessageBodySizeCounter implements ImplicitContextKeyed {
+
+  private static final ContextKey<HttpMessageBodySizeCounter> KEY =
+      ContextKey.named("opentelemetry-http-message-body-size-counter");
+
+  private static final ContextCustomizer<Object> CONTEXT_CUSTOMIZER =
+      (context, request, startAttributes) -> context.with(new HttpMessageBodySizeCounter());
+
+  // -1 means that the body was not counted
+  private volatile long requestBodySize = -1;
+  private volatile long responseBodySize = -1;
+
+  /** Returns a {@link ContextCustomizer} that adds a new counter to every HTTP span context. */
+  @SuppressWarnings("unchecked")
+  public static <REQUEST> ContextCustomizer<REQUEST> contextCustomizer() {
+    return (ContextCustomizer<REQUEST>) CONTEXT_CUSTOMIZER;
+  }
+
+  @Nullable
+  public static HttpMessageBodySizeCounter get(Context context) {
+    return context.get(KEY);
+  }
+
+  private HttpMessageBodySizeCounter() {}
+
+  @SuppressWarnings("NonAtomicVolatileUpdate") // only updated by one thread at a time
+  public void addRequestBytes(long bytes) {
+    requestBodySize = Math.max(requestBodySize, 0) + bytes;
+  }
+
+  @SuppressWarnings("NonAtomicVolatileUpdate") // only updated by one thread at a time
+  public void addResponseBytes(long bytes) {
+    responseBodySize = Math.max(responseBodySize, 0) + bytes;
+  }
+
+  @Nullable
+  public Long getRequestBodySize() {
+    long size = requestBodySize;
+    return size < 0 ? null : size;
+  }
+
+  @Nullable
+  public Long getResponseBodySize() {
+    long size = responseBodySize;
+    return size < 0 ? null : size;
+  }
+
+  @Override
+  public Context storeInContext(Context context) {
+    return context.with(KEY, this);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlDialect.DOUBLE_QUOTES_ARE_IDENTIFIERS;
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlDialect.DOUBLE_QUOTES_ARE_STRING_LITERALS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CachedSqlQueryTest {
+
+  private static final SqlQueryAnalyzer ANALYZER = SqlQueryAnalyzer.create(true);
+
+  @Test
+  void reusesAnalysisResults() {
+    CachedSqlQuery cachedQuery = CachedSqlQuery.create("SELECT * FROM users WHERE id = 1");
+
+    SqlQuery first = cachedQuery.analyzeWithSummary(ANALYZER, DOUBLE_QUOTES_ARE_STRING_LITERALS);
+    SqlQuery second = cachedQuery.analyzeWithSummary(ANALYZER, DOUBLE_QUOTES_ARE_STRING_LITERALS);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first)
+        .isEqualTo(
+            ANALYZER.analyzeWithSummary(
+                "SELECT * FROM users WHERE id = 1", DOUBLE_QUOTES_ARE_STRING_LITERALS));
+  }
+
+  @Test
+  void reanalyzesForDifferentDialect() {
+    CachedSqlQuery cachedQuery = CachedSqlQuery.create("SELECT \"a\" FROM b");
+
+    SqlQuery literals = cachedQuery.analyze(ANALYZER, DOUBLE_QUOTES_ARE_STRING_LITERALS);
+    SqlQuery identifiers = cachedQuery.analyze(ANALYZER, DOUBLE_QUOTES_ARE_IDENTIFIERS);
+
+    assertThat(literals)
+        .isEqualTo(ANALYZER.analyze("SELECT \"a\" FROM b", DOUBLE_QUOTES_ARE_STRING_LITERALS));
+    assertThat(identifiers)
+        .isEqualTo(ANALYZER.analyze("SELECT \"a\" FROM b", DOUBLE_QUOTES_ARE_IDENTIFIERS));
+  }
+
+  @Test
+  void analyzerUtilIgnoresCachedQueryForDifferentText() {
+    CachedSqlQuery cachedQuery = CachedSqlQuery.create("SELECT * FROM a");
+
+    SqlQuery result =
+        SqlQueryAnalyzerUtil.analyzeWithSummary(
+            "SELECT * FROM b", DOUBLE_QUOTES_ARE_STRING_LITERALS, cachedQuery);
+
+    assertThat(result)
+        .isEqualTo(
+            ANALYZER.analyzeWithSummary("SELECT * FROM b", DOUBLE_QUOTES_ARE_STRING_LITERALS));
+  }
+}
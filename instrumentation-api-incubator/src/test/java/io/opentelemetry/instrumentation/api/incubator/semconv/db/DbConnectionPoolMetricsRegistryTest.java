@@ -0,0 +1,147 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.CONNECTION_STATE;
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.POOL_NAME;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static java.util.concurrent.TimeUnit.HOURS;
+
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class DbConnectionPoolMetricsRegistryTest {
+
+  private final InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+  private final SdkMeterProvider meterProvider =
+      SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+
+  @Test
+  void collectsAllRegisteredPools() {
+    DbConnectionPoolMetricsRegistry registry =
+        new DbConnectionPoolMetricsRegistry(meterProvider.get("test"), 0);
+
+    registry.register(
+        "pool1",
+        state -> {
+          state.setUsedConnections(1);
+          state.setIdleConnections(2);
+        });
+    BatchCallback pool2 =
+        registry.register(
+            "pool2",
+            state -> {
+              state.setUsedConnections(3);
+              state.setIdleConnections(4);
+            });
+
+    assertThat(connectionsMetric(metricReader.collectAllMetrics()))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasValue(1)
+                            .hasAttributesSatisfyingExactly(
+                                equalTo(POOL_NAME, "pool1"), equalTo(CONNECTION_STATE, "used")),
+                    point ->
+                        point
+                            .hasValue(2)
+                            .hasAttributesSatisfyingExactly(
+                                equalTo(POOL_NAME, "pool1"), equalTo(CONNECTION_STATE, "idle")),
+                    point ->
+                        point
+                            .hasValue(3)
+                            .hasAttributesSatisfyingExactly(
+                                equalTo(POOL_NAME, "pool2"), equalTo(CONNECTION_STATE, "used")),
+                    point ->
+                        point
+                            .hasValue(4)
+                            .hasAttributesSatisfyingExactly(
+                                equalTo(POOL_NAME, "pool2"), equalTo(CONNECTION_STATE, "idle"))));
+
+    pool2.close();
+
+    assertThat(connectionsMetric(metricReader.collectAllMetrics()))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point ->
+                        point.hasValue(1).hasAttributesSatisfying(equalTo(POOL_NAME, "pool1")),
+                    point ->
+                        point.hasValue(2).hasAttributesSatisfying(equalTo(POOL_NAME, "pool1"))));
+  }
+
+  @Test
+  void reusesStateWithinStalenessWindow() {
+    DbConnectionPoolMetricsRegistry registry =
+        new DbConnectionPoolMetricsRegistry(meterProvider.get("test"), HOURS.toNanos(1));
+
+    AtomicInteger reads = new AtomicInteger();
+    registry.register("pool", state -> state.setMaxConnections(reads.incrementAndGet()));
+
+    metricReader.collectAllMetrics();
+    Collection<MetricData> metrics = metricReader.collectAllMetrics();
+
+    assertThat(reads).hasValue(1);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        sum -> sum.hasPointsSatisfying(point -> point.hasValue(1))));
+  }
+
+  @Test
+  void skipsPoolWhenReadFails() {
+    DbConnectionPoolMetricsRegistry registry =
+        new DbConnectionPoolMetricsRegistry(meterProvider.get("test"), 0);
+
+    registry.register(
+        "pool",
+        state -> {
+          throw new IllegalStateException("closed");
+        });
+
+    assertThat(metricReader.collectAllMetrics()).isEmpty();
+  }
+
+  @Test
+  void closesCallbackWhenLastPoolIsUnregistered() {
+    DbConnectionPoolMetricsRegistry registry =
+        new DbConnectionPoolMetricsRegistry(meterProvider.get("test"), 0);
+
+    AtomicInteger reads = new AtomicInteger();
+    BatchCallback pool =
+        registry.register("pool", state -> state.setMaxConnections(reads.incrementAndGet()));
+    metricReader.collectAllMetrics();
+    assertThat(reads).hasValue(1);
+
+    pool.close();
+    metricReader.collectAllMetrics();
+    assertThat(reads).hasValue(1);
+
+    registry.register("pool", state -> state.setMaxConnections(reads.incrementAndGet()));
+    assertThat(metricReader.collectAllMetrics()).isNotEmpty();
+    assertThat(reads).hasValue(2);
+  }
+
+  private static MetricData connectionsMetric(Collection<MetricData> metrics) {
+    return metrics.stream()
+        .filter(
+            metric ->
+                metric.getName().equals("db.client.connection.count")
+                    || metric.getName().equals("db.client.connections.usage"))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+}
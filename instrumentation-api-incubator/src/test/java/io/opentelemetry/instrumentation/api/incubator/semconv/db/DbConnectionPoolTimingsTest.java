@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics.POOL_NAME;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings.PooledConnectionState;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+class DbConnectionPoolTimingsTest {
+
+  private final InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+  private final SdkMeterProvider meterProvider =
+      SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+
+  @Test
+  void recordsUseTimeOncePerBorrow() {
+    DbConnectionPoolTimings timings =
+        new DbConnectionPoolMetrics(meterProvider.get("test"), Attributes.of(POOL_NAME, "pool"))
+            .timings();
+
+    PooledConnectionState state = new PooledConnectionState();
+    // returning a connection that was not borrowed records nothing
+    state.returned();
+    state.borrowed(timings);
+    state.returned();
+    state.returned();
+    state.borrowed(timings);
+    state.returned();
+
+    assertThat(metric(metricReader.collectAllMetrics(), "use_time"))
+        .hasHistogramSatisfying(
+            histogram ->
+                histogram.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasCount(2)
+                            .hasAttributesSatisfyingExactly(equalTo(POOL_NAME, "pool"))));
+  }
+
+  @Test
+  void recordsWaitTime() {
+    DbConnectionPoolTimings timings =
+        new DbConnectionPoolMetrics(meterProvider.get("test"), Attributes.of(POOL_NAME, "pool"))
+            .timings();
+
+    timings.recordWaitTime(1_000_000);
+
+    assertThat(metric(metricReader.collectAllMetrics(), "wait_time"))
+        .hasHistogramSatisfying(
+            histogram -> histogram.hasPointsSatisfying(point -> point.hasCount(1)));
+  }
+
+  // the metric names differ between the old and the stable semantic conventions
+  private static MetricData metric(Collection<MetricData> metrics, String suffix) {
+    return metrics.stream()
+        .filter(metric -> metric.getName().endsWith(suffix))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+}
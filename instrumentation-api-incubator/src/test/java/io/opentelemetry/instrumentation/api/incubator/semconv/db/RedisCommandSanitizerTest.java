@@ -205,6 +205,21 @@ class RedisCommandSanitizerTest {
     assertThat(result).isEqualTo("NEWAUTH ? ?");
   }
 
+  @Test
+  void shouldLookUpCommandIgnoringCase() {
+    String result =
+        RedisCommandSanitizer.create(true).sanitize("hmset", list("hash", "key", "value"));
+    assertThat(result).isEqualTo("hmset hash key ?");
+  }
+
+  @Test
+  void reuseFullyMaskedCommand() {
+    RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true);
+    String result = sanitizer.sanitize("AUTH", list("password"));
+    assertThat(result).isEqualTo("AUTH ?");
+    assertThat(sanitizer.sanitize("AUTH", list("other"))).isSameAs(result);
+  }
+
   @Test
   void shouldSanitizeAclSetuserPassword() {
     // ACL SETUSER can contain passwords (prefixed with '>') or hashes (prefixed with '#')
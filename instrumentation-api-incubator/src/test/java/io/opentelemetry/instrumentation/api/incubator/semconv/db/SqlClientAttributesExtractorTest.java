@@ -29,6 +29,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.entry;
 
@@ -121,6 +122,11 @@ class SqlClientAttributesExtractorTest {
       }
       return parameterizedQueries.get(queryIndex);
     }
+
+    @Override
+    public boolean isMultiStatementBatch(Map<String, Object> map) {
+      return Boolean.TRUE.equals(map.get("db.query.multi_statement_batch"));
+    }
   }
 
   static class TestOldSemconvMultiAttributesGetter extends TestMultiAttributesGetter {
@@ -466,6 +472,47 @@ class SqlClientAttributesExtractorTest {
     assertThat(endAttributes.build().isEmpty()).isTrue();
   }
 
+  @SuppressWarnings("deprecation") // TODO DB_CONNECTION_STRING deprecation
+  @Test
+  void shouldExtractMultiStatementBatchWithSingleDistinctQueryTextAttributes() {
+    // given
+    Map<String, Object> request = new HashMap<>();
+    request.put("db.namespace", "potatoes");
+    request.put("db.query.texts", singletonList("INSERT INTO potato VALUES(1)"));
+    request.put("db.query.multi_statement_batch", true);
+    request.put(DB_OPERATION_BATCH_SIZE.getKey(), 2L);
+
+    Context context = Context.root();
+
+    AttributesExtractor<Map<String, Object>, Void> underTest =
+        SqlClientAttributesExtractor.create(new TestMultiAttributesGetter());
+
+    // when
+    AttributesBuilder startAttributes = Attributes.builder();
+    underTest.onStart(startAttributes, context, request);
+
+    // then
+    // reported the same way as a batch of differing statements
+    if (emitStableDatabaseSemconv() && emitOldDatabaseSemconv()) {
+      assertThat(startAttributes.build())
+          .containsOnly(
+              entry(DB_NAME, "potatoes"),
+              entry(DB_NAMESPACE, "potatoes"),
+              entry(DB_QUERY_TEXT, "INSERT INTO potato VALUES(?)"),
+              entry(DB_QUERY_SUMMARY, "BATCH INSERT potato"),
+              entry(DB_OPERATION_BATCH_SIZE, 2L));
+    } else if (emitOldDatabaseSemconv()) {
+      assertThat(startAttributes.build()).containsOnly(entry(DB_NAME, "potatoes"));
+    } else if (emitStableDatabaseSemconv()) {
+      assertThat(startAttributes.build())
+          .containsOnly(
+              entry(DB_NAMESPACE, "potatoes"),
+              entry(DB_QUERY_TEXT, "INSERT INTO potato VALUES(?)"),
+              entry(DB_QUERY_SUMMARY, "BATCH INSERT potato"),
+              entry(DB_OPERATION_BATCH_SIZE, 2L));
+    }
+  }
+
   @Test
   void shouldExtractSemconvSpecificMultiQueryBatchAttributes() {
     // given
@@ -0,0 +1,64 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class QueryShapeCacheTest {
+
+  @Test
+  void cachesPerDialect() {
+    QueryShapeCache<String, String> cache = QueryShapeCache.create("test", 10);
+    AtomicInteger analyzed = new AtomicInteger();
+
+    assertThat(cache.computeIfAbsent("query", "a", (query, dialect) -> analyze(analyzed, dialect)))
+        .isEqualTo("a1");
+    assertThat(cache.computeIfAbsent("query", "a", (query, dialect) -> analyze(analyzed, dialect)))
+        .isEqualTo("a1");
+    assertThat(cache.computeIfAbsent("query", "b", (query, dialect) -> analyze(analyzed, dialect)))
+        .isEqualTo("b2");
+
+    assertThat(cache.get("query", "a")).isEqualTo("a1");
+    assertThat(cache.get("query", "b")).isEqualTo("b2");
+    assertThat(cache.get("other", "a")).isNull();
+  }
+
+  @Test
+  void evictsByWeight() {
+    QueryShapeCache<String, String> cache = QueryShapeCache.create("test", 3);
+    StringBuilder longQuery = new StringBuilder();
+    for (int i = 0; i < 2 * 1024; i++) {
+      longQuery.append('x');
+    }
+
+    cache.computeIfAbsent("short", "a", (query, dialect) -> query);
+    // weighs 3 units, so the short query has to be evicted to make room for it
+    cache.computeIfAbsent(longQuery.toString(), "a", (query, dialect) -> "long");
+
+    assertThat(cache.get("short", "a")).isNull();
+    assertThat(cache.get(longQuery.toString(), "a")).isEqualTo("long");
+  }
+
+  @Test
+  void doesNotCacheLargeQueries() {
+    QueryShapeCache<String, String> cache = QueryShapeCache.create("test", 1000);
+    StringBuilder largeQuery = new StringBuilder();
+    for (int i = 0; i <= QueryShapeCache.LARGE_QUERY_THRESHOLD; i++) {
+      largeQuery.append('x');
+    }
+
+    assertThat(cache.computeIfAbsent(largeQuery.toString(), "a", (query, dialect) -> "large"))
+        .isEqualTo("large");
+    assertThat(cache.get(largeQuery.toString(), "a")).isNull();
+  }
+
+  private static String analyze(AtomicInteger analyzed, String dialect) {
+    return dialect + analyzed.incrementAndGet();
+  }
+}
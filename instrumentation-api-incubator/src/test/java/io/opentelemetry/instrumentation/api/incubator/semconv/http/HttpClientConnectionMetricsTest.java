@@ -0,0 +1,181 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.http;
+
+import static io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics.DNS_QUESTION_NAME;
+import static io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics.HTTP_CONNECTION_STATE;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_ADDRESS;
+import static io.opentelemetry.semconv.ServerAttributes.SERVER_PORT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import org.junit.jupiter.api.Test;
+
+class HttpClientConnectionMetricsTest {
+
+  @Test
+  void collectsMetrics() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+            .build();
+
+    HttpClientConnectionMetrics metrics = HttpClientConnectionMetrics.create(openTelemetry, "test");
+
+    metrics.recordDnsLookupDuration(nanos(10), "localhost", null);
+    metrics.recordDnsLookupDuration(nanos(20), "unknown", new UnknownHostException());
+    metrics.recordConnectionOpened("localhost", 8080);
+    metrics.recordConnectionOpened("localhost", 8080);
+    metrics.recordConnectionClosed("localhost", 8080, nanos(100));
+    metrics.recordConnectionAcquireDuration(nanos(30), "localhost", 8080, null);
+    metrics.recordConnectionAcquireDuration(nanos(40), "localhost", 8081, new ConnectException());
+    metrics.recordTlsHandshakeDuration(nanos(50), "localhost", 8443, null);
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.client.open_connections")
+                    .hasUnit("{connection}")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isNotMonotonic()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(1)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(HTTP_CONNECTION_STATE, "active"),
+                                                equalTo(SERVER_ADDRESS, "localhost"),
+                                                equalTo(SERVER_PORT, 8080)))),
+            metric ->
+                assertThat(metric)
+                    .hasName("http.client.connection.duration")
+                    .hasUnit("s")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasSum(0.1 /* seconds */)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(SERVER_ADDRESS, "localhost"),
+                                            equalTo(SERVER_PORT, 8080)))),
+            metric ->
+                assertThat(metric)
+                    .hasName("dns.lookup.duration")
+                    .hasUnit("s")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasSum(0.01 /* seconds */)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(DNS_QUESTION_NAME, "localhost")),
+                                point ->
+                                    point
+                                        .hasSum(0.02 /* seconds */)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(DNS_QUESTION_NAME, "unknown"),
+                                            equalTo(
+                                                ERROR_TYPE, "java.net.UnknownHostException")))),
+            metric ->
+                assertThat(metric)
+                    .hasName("http.client.connection.acquire.duration")
+                    .hasUnit("s")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasSum(0.03 /* seconds */)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(SERVER_ADDRESS, "localhost"),
+                                            equalTo(SERVER_PORT, 8080)),
+                                point ->
+                                    point
+                                        .hasSum(0.04 /* seconds */)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(ERROR_TYPE, "java.net.ConnectException"),
+                                            equalTo(SERVER_ADDRESS, "localhost"),
+                                            equalTo(SERVER_PORT, 8081)))),
+            metric ->
+                assertThat(metric)
+                    .hasName("http.client.connection.tls_handshake.duration")
+                    .hasUnit("s")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasSum(0.05 /* seconds */)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(SERVER_ADDRESS, "localhost"),
+                                            equalTo(SERVER_PORT, 8443)))));
+  }
+
+  @Test
+  void readsConnectionPools() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+            .build();
+
+    HttpClientConnectionMetrics metrics = HttpClientConnectionMetrics.create(openTelemetry, "test");
+
+    HttpClientConnectionMetrics.ConnectionPoolReader<long[]> reader =
+        (pool, recorder) -> recorder.record("localhost", 8080, pool[0], pool[1]);
+    long[] pool1 = {2, 1};
+    long[] pool2 = {1, 3};
+    Object poolWithoutServers = new Object();
+    metrics.registerConnectionPool(pool1, reader);
+    metrics.registerConnectionPool(pool2, reader);
+    // registering a pool again does not count its connections twice
+    metrics.registerConnectionPool(pool1, reader);
+    // connections that cannot be attributed to a server are not reported
+    metrics.registerConnectionPool(
+        poolWithoutServers, (pool, recorder) -> recorder.record(null, -1, 4, 0));
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.client.open_connections")
+                    .hasUnit("{connection}")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isNotMonotonic()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(3)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(HTTP_CONNECTION_STATE, "active"),
+                                                equalTo(SERVER_ADDRESS, "localhost"),
+                                                equalTo(SERVER_PORT, 8080)),
+                                    point ->
+                                        point
+                                            .hasValue(4)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(HTTP_CONNECTION_STATE, "idle"),
+                                                equalTo(SERVER_ADDRESS, "localhost"),
+                                                equalTo(SERVER_PORT, 8080)))));
+  }
+
+  private static long nanos(int millis) {
+    return MILLISECONDS.toNanos(millis);
+  }
+}
@@ -18,6 +18,7 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpCommonAttributesGetter;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesGetter;
@@ -48,6 +49,25 @@ class HttpExperimentalAttributesExtractorTest {
     runTest(serverGetter, HttpExperimentalAttributesExtractor.create(serverGetter), emptyMap());
   }
 
+  @Test
+  void shouldFallBackToCountedSizes() {
+    AttributesExtractor<String, String> extractor =
+        HttpExperimentalAttributesExtractor.create(serverGetter);
+    Context context =
+        HttpMessageBodySizeCounter.<String>contextCustomizer()
+            .onStart(Context.root(), "request", Attributes.empty());
+    HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(context);
+    assertThat(counter).isNotNull();
+    // a chunked response without Content-Length, the request body was not counted
+    counter.addResponseBytes(10);
+    counter.addResponseBytes(5);
+
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onEnd(attributes, context, "request", "response", null);
+    assertThat(attributes.build().asMap())
+        .containsExactlyInAnyOrderEntriesOf(singletonMap(HTTP_RESPONSE_BODY_SIZE, 15L));
+  }
+
   void runTest(
       HttpCommonAttributesGetter<String, String> getter,
       AttributesExtractor<String, String> extractor,
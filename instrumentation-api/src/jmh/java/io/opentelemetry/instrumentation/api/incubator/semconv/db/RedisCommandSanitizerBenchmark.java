@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.incubator.semconv.db;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.List;
+import java.util.Locale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class RedisCommandSanitizerBenchmark {
+
+  private static final RedisCommandSanitizer sanitizer = RedisCommandSanitizer.create(true);
+
+  // roughly the command mix of a cache tier: mostly reads, some writes, a few admin commands
+  private static final String[] COMMANDS = {
+    "GET", "GET", "GET", "GET", "MGET", "SET", "SETEX", "EXPIRE", "DEL", "HGET", "HMSET",
+    "INCR", "EXISTS", "PING", "AUTH", "EVALSHA"
+  };
+
+  private static final List<?>[] ARGS = {
+    singletonList("user:1234:profile"),
+    singletonList("session:5f2c1e".getBytes(UTF_8)),
+    singletonList("user:42:profile"),
+    singletonList("feature-flags"),
+    asList("user:1:name", "user:2:name", "user:3:name"),
+    asList("user:1234:profile", "{\"name\":\"John\",\"email\":\"john@example.com\"}"),
+    asList("session:5f2c1e", 3600, "token-value"),
+    asList("session:5f2c1e", 3600),
+    asList("user:1234:profile", "user:1234:settings"),
+    asList("user:1234", "email"),
+    asList("user:1234", "name", "John", "email", "john@example.com"),
+    singletonList("counter:requests"),
+    singletonList("lock:order:99"),
+    emptyList(),
+    singletonList("secret-password"),
+    asList("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", 1, "lock:order:99", "owner-1", 30000)
+  };
+
+  private static final String[] LOWER_CASE_COMMANDS = new String[COMMANDS.length];
+
+  static {
+    for (int i = 0; i < COMMANDS.length; i++) {
+      LOWER_CASE_COMMANDS[i] = COMMANDS[i].toLowerCase(Locale.ROOT);
+    }
+  }
+
+  @Benchmark
+  public void sanitizeCommandMix(Blackhole blackhole) {
+    for (int i = 0; i < COMMANDS.length; i++) {
+      blackhole.consume(sanitizer.sanitize(COMMANDS[i], ARGS[i]));
+    }
+  }
+
+  @Benchmark
+  public void sanitizeLowerCaseCommandMix(Blackhole blackhole) {
+    for (int i = 0; i < COMMANDS.length; i++) {
+      blackhole.consume(sanitizer.sanitize(LOWER_CASE_COMMANDS[i], ARGS[i]));
+    }
+  }
+}
@@ -122,10 +122,8 @@ public final class SupportabilityMetrics {
    * any time.
    */
   public static final class CounterNames {
-    public static final String SQL_SANITIZER_CACHE_MISS =
-        emitStableDatabaseSemconv()
-            ? "sql sanitizer cache miss"
-            : "SqlStatementSanitizer cache miss";
+    public static final String SQL_SANITIZER =
+        emitStableDatabaseSemconv() ? "sql sanitizer" : "SqlStatementSanitizer";
 
     private CounterNames() {}
   }
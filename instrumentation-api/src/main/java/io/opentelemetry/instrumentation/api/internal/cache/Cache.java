@@ -6,7 +6,9 @@
 package io.opentelemetry.instrumentation.api.internal.cache;
 
 import io.opentelemetry.instrumentation.api.internal.cache.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+import io.opentelemetry.instrumentation.api.internal.cache.concurrentlinkedhashmap.EntryWeigher;
 import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
 import javax.annotation.Nullable;
 
 /**
@@ -38,6 +40,23 @@ public interface Cache<K, V> {
     return new MapBackedCache<>(map);
   }
 
+  /**
+   * Returns new bounded cache whose capacity is expressed in units of weight. The weight of each
+   * entry is computed by {@code weigher} and must be at least {@code 1}.
+   *
+   * <p>Both keys and values are strongly referenced.
+   */
+  static <K, V> Cache<K, V> weighted(
+      long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+    EntryWeigher<K, V> entryWeigher = weigher::applyAsInt;
+    ConcurrentLinkedHashMap<K, V> map =
+        new ConcurrentLinkedHashMap.Builder<K, V>()
+            .maximumWeightedCapacity(maximumWeight)
+            .weigher(entryWeigher)
+            .build();
+    return new MapBackedCache<>(map);
+  }
+
   /**
    * Returns the cached value associated with the provided {@code key}. If no value is cached yet,
    * computes the value using {@code mappingFunction}, stores the result, and returns it.
@@ -47,6 +47,22 @@ class CacheTest {
       assertThat(mapBackedCache.size()).isEqualTo(1);
       assertThat(cache.computeIfAbsent("cat", unused -> "purr")).isEqualTo("purr");
     }
+
+    @Test
+    void weighted() {
+      Cache<String, String> cache = Cache.weighted(3, (key, value) -> value.length());
+
+      cache.put("bear", "ro");
+      cache.put("cat", "m");
+      MapBackedCache<?, ?> mapBackedCache = ((MapBackedCache<?, ?>) cache);
+      assertThat(mapBackedCache.size()).isEqualTo(2);
+
+      cache.put("dog", "ba");
+      assertThat(cache.get("bear")).isNull();
+      assertThat(cache.get("cat")).isEqualTo("m");
+      assertThat(cache.get("dog")).isEqualTo("ba");
+      assertThat(mapBackedCache.size()).isEqualTo(2);
+    }
   }
 
   @Nested
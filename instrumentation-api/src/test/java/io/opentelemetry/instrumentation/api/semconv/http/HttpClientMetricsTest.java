@@ -21,6 +21,7 @@ import static io.opentelemetry.semconv.UrlAttributes.URL_PATH;
 import static io.opentelemetry.semconv.UrlAttributes.URL_QUERY;
 import static io.opentelemetry.semconv.incubating.HttpIncubatingAttributes.HTTP_REQUEST_BODY_SIZE;
 import static io.opentelemetry.semconv.incubating.HttpIncubatingAttributes.HTTP_RESPONSE_BODY_SIZE;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import io.opentelemetry.api.common.Attributes;
@@ -30,8 +31,11 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.View;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.HashSet;
 import org.junit.jupiter.api.Test;
 
 class HttpClientMetricsTest {
@@ -130,6 +134,48 @@ class HttpClientMetricsTest {
                                 point -> point.hasSum(0.3 /* seconds */))));
   }
 
+  @Test
+  void viewKeepsAttributesThatAreNotAdvised() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    // a view that selects attributes replaces the advice, so url.full must reach the SDK
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder()
+            .registerMetricReader(metricReader)
+            .registerView(
+                InstrumentSelector.builder().setName("http.client.request.duration").build(),
+                View.builder()
+                    .setAttributeFilter(
+                        new HashSet<>(asList(HTTP_REQUEST_METHOD.getKey(), URL_FULL.getKey())))
+                    .build())
+            .build();
+
+    OperationListener listener = HttpClientMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put(HTTP_REQUEST_METHOD, "GET")
+            .put(URL_FULL, "https://localhost:1234/")
+            .build();
+    Attributes responseAttributes =
+        Attributes.builder().put(HTTP_RESPONSE_STATUS_CODE, 200).build();
+
+    Context context = listener.onStart(Context.root(), requestAttributes, nanos(100));
+    listener.onEnd(context, responseAttributes, nanos(200));
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.client.request.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point.hasAttributesSatisfyingExactly(
+                                        equalTo(HTTP_REQUEST_METHOD, "GET"),
+                                        equalTo(URL_FULL, "https://localhost:1234/")))));
+  }
+
   private static long nanos(int millis) {
     return MILLISECONDS.toNanos(millis);
   }
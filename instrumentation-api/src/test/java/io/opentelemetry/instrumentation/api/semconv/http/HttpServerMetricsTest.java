@@ -26,6 +26,7 @@ import static io.opentelemetry.semconv.UrlAttributes.URL_QUERY;
 import static io.opentelemetry.semconv.UrlAttributes.URL_SCHEME;
 import static io.opentelemetry.semconv.incubating.HttpIncubatingAttributes.HTTP_REQUEST_BODY_SIZE;
 import static io.opentelemetry.semconv.incubating.HttpIncubatingAttributes.HTTP_RESPONSE_BODY_SIZE;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import io.opentelemetry.api.common.Attributes;
@@ -35,8 +36,11 @@ import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.View;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.HashSet;
 import org.junit.jupiter.api.Test;
 
 class HttpServerMetricsTest {
@@ -184,6 +188,45 @@ class HttpServerMetricsTest {
                                             equalTo(HTTP_ROUTE, "/test/{id}")))));
   }
 
+  @Test
+  void viewKeepsAttributesThatAreNotAdvised() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    // a view that selects attributes replaces the advice, so url.path must reach the SDK
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder()
+            .registerMetricReader(metricReader)
+            .registerView(
+                InstrumentSelector.builder().setName("http.server.request.duration").build(),
+                View.builder()
+                    .setAttributeFilter(
+                        new HashSet<>(asList(HTTP_REQUEST_METHOD.getKey(), URL_PATH.getKey())))
+                    .build())
+            .build();
+
+    OperationListener listener = HttpServerMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder().put(HTTP_REQUEST_METHOD, "GET").put(URL_PATH, "/test/1").build();
+    Attributes responseAttributes =
+        Attributes.builder().put(HTTP_RESPONSE_STATUS_CODE, 200).build();
+
+    Context context = listener.onStart(Context.root(), requestAttributes, nanos(100));
+    listener.onEnd(context, responseAttributes, nanos(200));
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.server.request.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point.hasAttributesSatisfyingExactly(
+                                        equalTo(HTTP_REQUEST_METHOD, "GET"),
+                                        equalTo(URL_PATH, "/test/1")))));
+  }
+
   private static long nanos(int millis) {
     return MILLISECONDS.toNanos(millis);
   }
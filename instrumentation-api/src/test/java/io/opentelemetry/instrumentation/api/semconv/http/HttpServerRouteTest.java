@@ -183,6 +183,22 @@ class HttpServerRouteTest {
         .satisfiesExactly(span -> assertThat(span).hasName("GET /a/pretty/good/route"));
   }
 
+  @Test
+  void shouldKeepSpanNameUpdatedAfterRoute() {
+    when(getter.getHttpRequestMethod("test")).thenReturn("GET");
+
+    Context context = instrumenter.start(Context.root(), "test");
+
+    HttpServerRoute.update(context, HttpServerRouteSource.SERVER, "/route1");
+    Span.fromContext(context).updateName("custom name");
+
+    instrumenter.end(context, "test", null, null);
+
+    assertThat(HttpServerRoute.get(context)).isEqualTo("/route1");
+    assertThat(testing.getSpans())
+        .satisfiesExactly(span -> assertThat(span).hasName("custom name"));
+  }
+
   @Test
   void shouldUseHttp_noMethod() {
     when(getter.getHttpRequestMethod("test")).thenReturn(null);
@@ -50,6 +50,7 @@ class DruidDataSourceInstrumentation implements TypeInstrumentation {
       DruidDataSourceMBean druidDataSource = (DruidDataSourceMBean) dataSource;
       String poolName = name == null || name.isEmpty() ? getDataSourceName(druidDataSource) : name;
       telemetry().registerMetrics(druidDataSource, poolName);
+      DruidSingletons.registerTimings(druidDataSource, poolName);
     }
   }
 
@@ -60,6 +61,7 @@ class DruidDataSourceInstrumentation implements TypeInstrumentation {
     public static void onExit(@Advice.Argument(0) Object dataSource) {
       DruidDataSourceMBean druidDataSource = (DruidDataSourceMBean) dataSource;
       telemetry().unregisterMetrics(druidDataSource);
+      DruidSingletons.unregisterTimings(druidDataSource);
     }
   }
 }
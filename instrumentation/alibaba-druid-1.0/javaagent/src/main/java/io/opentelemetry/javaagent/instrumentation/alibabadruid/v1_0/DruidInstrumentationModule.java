@@ -5,7 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.alibabadruid.v1_0;
 
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
@@ -21,6 +21,6 @@ public class DruidInstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return singletonList(new DruidDataSourceInstrumentation());
+    return asList(new DruidDataSourceInstrumentation(), new DruidPoolInstrumentation());
   }
 }
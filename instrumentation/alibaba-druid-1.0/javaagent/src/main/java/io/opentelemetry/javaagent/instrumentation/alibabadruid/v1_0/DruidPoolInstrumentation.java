@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.alibabadruid.v1_0;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.alibaba.druid.pool.DruidPooledConnection;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import javax.annotation.Nullable;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+class DruidPoolInstrumentation implements TypeInstrumentation {
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("com.alibaba.druid.pool.DruidDataSource");
+  }
+
+  @Override
+  public void transform(TypeTransformer typeTransformer) {
+    // all borrows end up here, with or without filters configured
+    typeTransformer.applyAdviceToMethod(
+        named("getConnectionDirect").and(takesArguments(1)).and(takesArgument(0, long.class)),
+        getClass().getName() + "$GetConnectionDirectAdvice");
+    typeTransformer.applyAdviceToMethod(
+        named("recycle")
+            .and(takesArguments(1))
+            .and(takesArgument(0, named("com.alibaba.druid.pool.DruidPooledConnection"))),
+        getClass().getName() + "$RecycleAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionDirectAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static long onEnter() {
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This DruidDataSource dataSource,
+        @Advice.Enter long startNanos,
+        @Advice.Return @Nullable DruidPooledConnection connection) {
+      DruidSingletons.onBorrow(dataSource, connection, startNanos);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class RecycleAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.Argument(0) @Nullable DruidPooledConnection connection) {
+      DruidSingletons.onReturn(connection);
+    }
+  }
+}
@@ -6,18 +6,34 @@
 package io.opentelemetry.javaagent.instrumentation.alibabadruid.v1_0;
 
 import com.alibaba.druid.pool.DruidAbstractDataSource;
+import com.alibaba.druid.pool.DruidConnectionHolder;
+import com.alibaba.druid.pool.DruidDataSource;
 import com.alibaba.druid.pool.DruidDataSourceMBean;
+import com.alibaba.druid.pool.DruidPooledConnection;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.alibabadruid.v1_0.DruidTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings.PooledConnectionState;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionPoolNameUtil;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
 import io.opentelemetry.javaagent.bootstrap.jdbc.DbInfo;
 import java.util.Properties;
+import javax.annotation.Nullable;
 
 public class DruidSingletons {
 
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.alibaba-druid-1.0";
+
   private static final DruidTelemetry telemetry = DruidTelemetry.create(GlobalOpenTelemetry.get());
 
+  private static final VirtualField<DruidDataSource, DbConnectionPoolTimings> poolTimings =
+      VirtualField.find(DruidDataSource.class, DbConnectionPoolTimings.class);
+  // pooled connections are new wrappers for every borrow, the holder is what stays in the pool
+  private static final VirtualField<DruidConnectionHolder, PooledConnectionState>
+      connectionState = VirtualField.find(DruidConnectionHolder.class, PooledConnectionState.class);
+
   public static String getDataSourceName(DruidDataSourceMBean dataSource) {
     Properties connectProperties = null;
     if (dataSource instanceof DruidAbstractDataSource) {
@@ -32,5 +48,51 @@ public class DruidSingletons {
     return telemetry;
   }
 
+  public static void registerTimings(DruidDataSourceMBean dataSource, String poolName) {
+    if (dataSource instanceof DruidDataSource) {
+      poolTimings.set(
+          (DruidDataSource) dataSource,
+          DbConnectionPoolMetrics.create(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, poolName)
+              .timings());
+    }
+  }
+
+  public static void unregisterTimings(DruidDataSourceMBean dataSource) {
+    if (dataSource instanceof DruidDataSource) {
+      poolTimings.set((DruidDataSource) dataSource, null);
+    }
+  }
+
+  public static void onBorrow(
+      DruidDataSource dataSource, @Nullable DruidPooledConnection connection, long startNanos) {
+    DbConnectionPoolTimings timings = poolTimings.get(dataSource);
+    if (timings == null || connection == null) {
+      return;
+    }
+    timings.recordWaitTime(System.nanoTime() - startNanos);
+
+    DruidConnectionHolder holder = connection.getConnectionHolder();
+    if (holder == null) {
+      return;
+    }
+    PooledConnectionState state = connectionState.get(holder);
+    if (state == null) {
+      state = new PooledConnectionState();
+      connectionState.set(holder, state);
+    }
+    state.borrowed(timings);
+  }
+
+  public static void onReturn(@Nullable DruidPooledConnection connection) {
+    DruidConnectionHolder holder = connection != null ? connection.getConnectionHolder() : null;
+    if (holder == null) {
+      return;
+    }
+    PooledConnectionState state = connectionState.get(holder);
+    if (state != null) {
+      state.returned();
+    }
+  }
+
   private DruidSingletons() {}
 }
@@ -33,6 +33,11 @@ class DruidInstrumentationTest extends AbstractDruidInstrumentationTest {
     DruidDataSourceStatManager.removeDataSource(dataSource);
   }
 
+  @Override
+  protected boolean recordsConnectionTimings() {
+    return true;
+  }
+
   @Test
   void shouldUseJdbcUrlForDataSourceNameWhenNameIsNull() throws Exception {
     DruidDataSource dataSource = createDataSource();
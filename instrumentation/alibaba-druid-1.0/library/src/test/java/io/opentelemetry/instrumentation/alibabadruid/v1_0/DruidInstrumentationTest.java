@@ -38,4 +38,11 @@ class DruidInstrumentationTest extends AbstractDruidInstrumentationTest {
   protected void shutdown(DruidDataSource dataSource) throws Exception {
     telemetry.unregisterMetrics(dataSource);
   }
+
+  @Override
+  protected boolean recordsConnectionTimings() {
+    // the library instrumentation only observes the state of the pool, it doesn't see connections
+    // being borrowed and returned
+    return false;
+  }
 }
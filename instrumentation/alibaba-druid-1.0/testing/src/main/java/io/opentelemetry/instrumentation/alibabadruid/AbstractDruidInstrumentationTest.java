@@ -35,6 +35,8 @@ public abstract class AbstractDruidInstrumentationTest {
 
   protected abstract void shutdown(DruidDataSource dataSource) throws Exception;
 
+  protected abstract boolean recordsConnectionTimings();
+
   @BeforeAll
   static void setUpMocks() throws SQLException {
     MockDriver.register();
@@ -47,13 +49,16 @@ public abstract class AbstractDruidInstrumentationTest {
 
     try {
       configure(dataSource, name);
-
-      DbConnectionPoolMetricsAssertions.create(testing(), INSTRUMENTATION_NAME, name)
-          .disableConnectionTimeouts()
-          .disableCreateTime()
-          .disableWaitTime()
-          .disableUseTime()
-          .assertConnectionPoolEmitsMetrics();
+      dataSource.getConnection().close();
+
+      DbConnectionPoolMetricsAssertions assertions =
+          DbConnectionPoolMetricsAssertions.create(testing(), INSTRUMENTATION_NAME, name)
+              .disableConnectionTimeouts()
+              .disableCreateTime();
+      if (!recordsConnectionTimings()) {
+        assertions.disableWaitTime().disableUseTime();
+      }
+      assertions.assertConnectionPoolEmitsMetrics();
     } finally {
       dataSource.close();
       shutdown(dataSource);
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 
 import com.google.auto.service.AutoService;
@@ -32,6 +33,7 @@ public class ApacheDbcpInstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return singletonList(new BasicDataSourceInstrumentation());
+    return asList(
+        new BasicDataSourceInstrumentation(), new BaseGenericObjectPoolInstrumentation());
   }
 }
@@ -6,18 +6,26 @@
 package io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.apachedbcp.v2_0.ApacheDbcpTelemetry;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionPoolNameUtil;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
 import io.opentelemetry.javaagent.bootstrap.jdbc.DbInfo;
+import javax.annotation.Nullable;
 import javax.management.ObjectName;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.dbcp2.OpenTelemetryBasicDataSourceUtil;
+import org.apache.commons.pool2.impl.BaseGenericObjectPool;
 
 public class ApacheDbcpSingletons {
 
   private static final ApacheDbcpTelemetry telemetry =
       ApacheDbcpTelemetry.create(GlobalOpenTelemetry.get());
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.apache-dbcp-2.0";
+  private static final VirtualField<BaseGenericObjectPool<?>, DbConnectionPoolTimings>
+      poolTimings = VirtualField.find(BaseGenericObjectPool.class, DbConnectionPoolTimings.class);
 
   public static ApacheDbcpTelemetry telemetry() {
     return telemetry;
@@ -36,5 +44,28 @@ public class ApacheDbcpSingletons {
     return JdbcConnectionPoolNameUtil.poolName(dbInfo, "apache-dbcp2");
   }
 
+  public static void registerTimings(BasicDataSource dataSource, String dataSourceName) {
+    BaseGenericObjectPool<?> pool = OpenTelemetryBasicDataSourceUtil.getConnectionPool(dataSource);
+    if (pool != null) {
+      poolTimings.set(
+          pool,
+          DbConnectionPoolMetrics.create(
+                  GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, dataSourceName)
+              .timings());
+    }
+  }
+
+  public static void unregisterTimings(BasicDataSource dataSource) {
+    BaseGenericObjectPool<?> pool = OpenTelemetryBasicDataSourceUtil.getConnectionPool(dataSource);
+    if (pool != null) {
+      poolTimings.set(pool, null);
+    }
+  }
+
+  @Nullable
+  public static DbConnectionPoolTimings getTimings(BaseGenericObjectPool<?> pool) {
+    return poolTimings.get(pool);
+  }
+
   private ApacheDbcpSingletons() {}
 }
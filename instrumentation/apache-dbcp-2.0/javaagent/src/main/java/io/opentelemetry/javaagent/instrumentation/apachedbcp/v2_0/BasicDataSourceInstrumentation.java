@@ -6,7 +6,9 @@
 package io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0;
 
 import static io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0.ApacheDbcpSingletons.getDataSourceName;
+import static io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0.ApacheDbcpSingletons.registerTimings;
 import static io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0.ApacheDbcpSingletons.telemetry;
+import static io.opentelemetry.javaagent.instrumentation.apachedbcp.v2_0.ApacheDbcpSingletons.unregisterTimings;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
@@ -49,11 +51,18 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
       String dataSourceName =
           objectName != null ? getDataSourceName(objectName) : getDataSourceName(dataSource);
       telemetry().registerMetrics(dataSource, dataSourceName);
+      registerTimings(dataSource, dataSourceName);
     }
   }
 
   @SuppressWarnings("unused")
   public static class CloseAdvice {
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.This BasicDataSource dataSource) {
+      // the connection pool is cleared when the data source is closed
+      unregisterTimings(dataSource);
+    }
+
     @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class, inline = false)
     public static void onExit(@Advice.This BasicDataSource dataSource) {
       telemetry().unregisterMetrics(dataSource);
@@ -73,6 +82,7 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
 
       telemetry().unregisterMetrics(dataSource);
       telemetry().registerMetrics(dataSource, dataSourceName);
+      registerTimings(dataSource, dataSourceName);
     }
   }
 }
@@ -8,6 +8,7 @@ package org.apache.commons.dbcp2;
 import java.util.Properties;
 import javax.annotation.Nullable;
 import javax.management.ObjectName;
+import org.apache.commons.pool2.impl.GenericObjectPool;
 
 // Helper for accessing non-public BasicDataSource methods from the same package.
 public class OpenTelemetryBasicDataSourceUtil {
@@ -21,5 +22,11 @@ public class OpenTelemetryBasicDataSourceUtil {
     return dataSource.getConnectionProperties();
   }
 
+  @Nullable
+  public static GenericObjectPool<PoolableConnection> getConnectionPool(
+      BasicDataSource dataSource) {
+    return dataSource.getConnectionPool();
+  }
+
   private OpenTelemetryBasicDataSourceUtil() {}
 }
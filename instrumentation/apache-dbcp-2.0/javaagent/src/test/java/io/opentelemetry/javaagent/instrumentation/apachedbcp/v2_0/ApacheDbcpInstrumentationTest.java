@@ -30,6 +30,11 @@ class ApacheDbcpInstrumentationTest extends AbstractApacheDbcpInstrumentationTes
     dataSource.setJmxName("org.apache.commons.dbcp2:type=BasicDataSource,name=" + dataSourceName);
   }
 
+  @Override
+  protected boolean recordsConnectionTimings() {
+    return true;
+  }
+
   @Test
   void shouldUseJdbcUrlForDataSourceNameWhenJmxNameIsNull() throws Exception {
     BasicDataSource dataSource = createDataSource();
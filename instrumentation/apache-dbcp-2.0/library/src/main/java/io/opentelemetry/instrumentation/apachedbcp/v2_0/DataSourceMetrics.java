@@ -6,10 +6,8 @@
 package io.opentelemetry.instrumentation.apachedbcp.v2_0;
 
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
-import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetricsRegistry;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.dbcp2.BasicDataSourceMXBean;
@@ -17,8 +15,8 @@ import org.apache.commons.dbcp2.BasicDataSourceMXBean;
 final class DataSourceMetrics {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.apache-dbcp-2.0";
 
-  // a weak map does not make sense here because each Meter holds a reference to the dataSource
-  // all instrumented/known implementations of BasicDataSourceMXBean do not implement
+  // a weak map does not make sense here because the shared registry holds a reference to the
+  // dataSource; all instrumented/known implementations of BasicDataSourceMXBean do not implement
   // equals()/hashCode(), so it's safe to keep them in a plain ConcurrentHashMap
   private static final Map<BasicDataSourceMXBean, BatchCallback> dataSourceMetrics =
       new ConcurrentHashMap<>();
@@ -27,32 +25,17 @@ final class DataSourceMetrics {
       OpenTelemetry openTelemetry, BasicDataSourceMXBean dataSource, String dataSourceName) {
     dataSourceMetrics.computeIfAbsent(
         dataSource,
-        ds -> {
-          DbConnectionPoolMetrics metrics =
-              DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, dataSourceName);
-
-          ObservableLongMeasurement connections = metrics.connections();
-          ObservableLongMeasurement minIdleConnections = metrics.minIdleConnections();
-          ObservableLongMeasurement maxIdleConnections = metrics.maxIdleConnections();
-          ObservableLongMeasurement maxConnections = metrics.maxConnections();
-
-          Attributes attributes = metrics.getAttributes();
-          Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
-          Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
-
-          return metrics.batchCallback(
-              () -> {
-                connections.record(ds.getNumActive(), usedConnectionsAttributes);
-                connections.record(ds.getNumIdle(), idleConnectionsAttributes);
-                minIdleConnections.record(ds.getMinIdle(), attributes);
-                maxIdleConnections.record(ds.getMaxIdle(), attributes);
-                maxConnections.record(ds.getMaxTotal(), attributes);
-              },
-              connections,
-              minIdleConnections,
-              maxIdleConnections,
-              maxConnections);
-        });
+        ds ->
+            DbConnectionPoolMetricsRegistry.get(openTelemetry, INSTRUMENTATION_NAME)
+                .register(
+                    dataSourceName,
+                    state -> {
+                      state.setUsedConnections(ds.getNumActive());
+                      state.setIdleConnections(ds.getNumIdle());
+                      state.setMinIdleConnections(ds.getMinIdle());
+                      state.setMaxIdleConnections(ds.getMaxIdle());
+                      state.setMaxConnections(ds.getMaxTotal());
+                    }));
   }
 
   static void unregisterMetrics(BasicDataSourceMXBean dataSource) {
@@ -0,0 +1,36 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.apachehttpclient.v5_0;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics.ConnectionPoolReader;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+/** Reports the leased and available connections of the pooling connection managers. */
+final class ApacheConnectionPools {
+
+  private static final ConnectionPoolReader<ConnPoolControl<HttpRoute>> reader =
+      (pool, recorder) -> {
+        for (HttpRoute route : pool.getRoutes()) {
+          PoolStats stats = pool.getStats(route);
+          HttpHost target = route.getTargetHost();
+          recorder.record(
+              target.getHostName(), target.getPort(), stats.getLeased(), stats.getAvailable());
+        }
+      };
+
+  static void register(ConnPoolControl<HttpRoute> connectionManager) {
+    HttpClientConnectionMetrics connectionMetrics = ApacheHttpClientSingletons.connectionMetrics();
+    if (connectionMetrics != null) {
+      connectionMetrics.registerConnectionPool(connectionManager, reader);
+    }
+  }
+
+  private ApacheConnectionPools() {}
+}
@@ -22,6 +22,8 @@ public class ApacheHttpClientInstrumentationModule extends InstrumentationModule
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
     return asList(
-        new ApacheHttpClientInstrumentation(), new ApacheHttpAsyncClientInstrumentation());
+        new ApacheHttpClientInstrumentation(),
+        new ApacheHttpAsyncClientInstrumentation(),
+        new ApacheConnectionManagerInstrumentation());
   }
 }
@@ -5,8 +5,12 @@
 
 package io.opentelemetry.javaagent.instrumentation.apachehttpclient.v5_0;
 
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.builder.internal.DefaultHttpClientInstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.javaagent.bootstrap.internal.JavaagentHttpClientInstrumenters;
+import javax.annotation.Nullable;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpResponse;
 
@@ -14,18 +18,27 @@ class ApacheHttpClientSingletons {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.apache-httpclient-5.0";
 
   private static final Instrumenter<HttpRequest, HttpResponse> instrumenter;
+  @Nullable private static final HttpClientConnectionMetrics connectionMetrics;
 
   static {
-    instrumenter =
-        JavaagentHttpClientInstrumenters.create(
+    DefaultHttpClientInstrumenterBuilder<HttpRequest, HttpResponse> builder =
+        DefaultHttpClientInstrumenterBuilder.create(
             INSTRUMENTATION_NAME,
+            GlobalOpenTelemetry.get(),
             new ApacheHttpClientHttpAttributesGetter(),
             new HttpHeaderSetter());
+    instrumenter = JavaagentHttpClientInstrumenters.create(builder);
+    connectionMetrics = builder.buildConnectionMetrics();
   }
 
   static Instrumenter<HttpRequest, HttpResponse> instrumenter() {
     return instrumenter;
   }
 
+  @Nullable
+  static HttpClientConnectionMetrics connectionMetrics() {
+    return connectionMetrics;
+  }
+
   private ApacheHttpClientSingletons() {}
 }
@@ -6,11 +6,16 @@
 package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
 
 import static io.opentelemetry.javaagent.instrumentation.c3p0.v0_9.C3p0Singletons.telemetry;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 
 import com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.javaagent.bootstrap.CallDepth;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import java.sql.Connection;
+import javax.annotation.Nullable;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -27,6 +32,8 @@ final class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumen
     transformer.applyAdviceToMethod(
         named("resetPoolManager"), getClass().getName() + "$ResetPoolManagerAdvice");
     transformer.applyAdviceToMethod(named("close"), getClass().getName() + "$CloseAdvice");
+    transformer.applyAdviceToMethod(
+        named("getConnection").and(isPublic()), getClass().getName() + "$GetConnectionAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -39,6 +46,7 @@ final class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumen
         dataSourceName = C3p0Singletons.getDataSourceName(dataSource);
       }
       telemetry().registerMetrics(dataSource, dataSourceName);
+      C3p0Singletons.registerTimings(dataSource, dataSourceName);
     }
   }
 
@@ -48,6 +56,34 @@ final class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumen
     @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class, inline = false)
     public static void onExit(@Advice.This AbstractPoolBackedDataSource dataSource) {
       telemetry().unregisterMetrics(dataSource);
+      C3p0Singletons.unregisterTimings(dataSource);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static long onEnter() {
+      CallDepth.forClass(AbstractPoolBackedDataSource.class).getAndIncrement();
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This AbstractPoolBackedDataSource dataSource,
+        @Advice.Enter long startNanos,
+        @Advice.Return @Nullable Connection connection,
+        @Advice.Thrown @Nullable Throwable throwable) {
+      if (CallDepth.forClass(AbstractPoolBackedDataSource.class).decrementAndGet() > 0
+          || throwable != null) {
+        return;
+      }
+      DbConnectionPoolTimings timings = C3p0Singletons.getTimings(dataSource);
+      if (timings != null) {
+        timings.recordWaitTime(System.nanoTime() - startNanos);
+        C3p0Singletons.connectionBorrowed(connection, timings);
+      }
     }
   }
 }
@@ -5,7 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
 
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
@@ -21,6 +21,7 @@ public class C3p0InstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return singletonList(new AbstractPoolBackedDataSourceInstrumentation());
+    return asList(
+        new AbstractPoolBackedDataSourceInstrumentation(), new NewProxyConnectionInstrumentation());
   }
 }
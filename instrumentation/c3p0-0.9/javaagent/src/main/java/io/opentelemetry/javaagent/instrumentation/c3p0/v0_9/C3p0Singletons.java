@@ -8,18 +8,34 @@ package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
 import com.mchange.v2.c3p0.DriverManagerDataSource;
 import com.mchange.v2.c3p0.WrapperConnectionPoolDataSource;
 import com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource;
+import com.mchange.v2.c3p0.impl.NewPooledConnection;
+import com.mchange.v2.c3p0.impl.NewProxyConnection;
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings.PooledConnectionState;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.c3p0.v0_9.C3p0Telemetry;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionPoolNameUtil;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
 import io.opentelemetry.javaagent.bootstrap.jdbc.DbInfo;
+import java.sql.Connection;
+import javax.annotation.Nullable;
 import javax.sql.ConnectionPoolDataSource;
 import javax.sql.DataSource;
 
 public class C3p0Singletons {
 
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.c3p0-0.9";
   private static final String DEFAULT_DATA_SOURCE_NAME = "c3p0";
   private static final C3p0Telemetry telemetry = C3p0Telemetry.create(GlobalOpenTelemetry.get());
+  private static final VirtualField<AbstractPoolBackedDataSource, DbConnectionPoolTimings>
+      dataSourceTimings =
+          VirtualField.find(AbstractPoolBackedDataSource.class, DbConnectionPoolTimings.class);
+  private static final VirtualField<NewProxyConnection, NewPooledConnection> pooledConnections =
+      VirtualField.find(NewProxyConnection.class, NewPooledConnection.class);
+  private static final VirtualField<NewPooledConnection, PooledConnectionState> connectionStates =
+      VirtualField.find(NewPooledConnection.class, PooledConnectionState.class);
 
   public static C3p0Telemetry telemetry() {
     return telemetry;
@@ -44,5 +60,58 @@ public class C3p0Singletons {
     return JdbcConnectionPoolNameUtil.poolName(dbInfo, DEFAULT_DATA_SOURCE_NAME);
   }
 
+  public static void registerTimings(
+      AbstractPoolBackedDataSource dataSource, String dataSourceName) {
+    dataSourceTimings.set(
+        dataSource,
+        DbConnectionPoolMetrics.create(
+                GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, dataSourceName)
+            .timings());
+  }
+
+  public static void unregisterTimings(AbstractPoolBackedDataSource dataSource) {
+    dataSourceTimings.set(dataSource, null);
+  }
+
+  @Nullable
+  public static DbConnectionPoolTimings getTimings(AbstractPoolBackedDataSource dataSource) {
+    return dataSourceTimings.get(dataSource);
+  }
+
+  // c3p0 hands out a new proxy for every checkout, the borrow state is kept on the pooled
+  // connection behind it so that it can be reused
+  public static void proxyCreated(
+      NewProxyConnection connection, NewPooledConnection pooledConnection) {
+    pooledConnections.set(connection, pooledConnection);
+  }
+
+  public static void connectionBorrowed(
+      @Nullable Connection connection, DbConnectionPoolTimings timings) {
+    if (!(connection instanceof NewProxyConnection)) {
+      return;
+    }
+    NewPooledConnection pooledConnection = pooledConnections.get((NewProxyConnection) connection);
+    if (pooledConnection == null) {
+      return;
+    }
+    PooledConnectionState state = connectionStates.get(pooledConnection);
+    if (state == null) {
+      state = new PooledConnectionState();
+      connectionStates.set(pooledConnection, state);
+    }
+    state.borrowed(timings);
+  }
+
+  public static void connectionReturned(NewProxyConnection connection) {
+    NewPooledConnection pooledConnection = pooledConnections.get(connection);
+    if (pooledConnection == null) {
+      return;
+    }
+    PooledConnectionState state = connectionStates.get(pooledConnection);
+    if (state != null) {
+      state.returned();
+    }
+  }
+
   private C3p0Singletons() {}
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.c3p0.v0_9;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import com.mchange.v2.c3p0.impl.NewPooledConnection;
+import com.mchange.v2.c3p0.impl.NewProxyConnection;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Links connection proxies to the pooled connection they wrap and records the use time of
+ * connections when they are returned to the pool.
+ */
+final class NewProxyConnectionInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("com.mchange.v2.c3p0.impl.NewProxyConnection");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        isConstructor()
+            .and(takesArgument(1, named("com.mchange.v2.c3p0.impl.NewPooledConnection"))),
+        getClass().getName() + "$ConstructorAdvice");
+    transformer.applyAdviceToMethod(
+        named("close").and(takesArguments(0)), getClass().getName() + "$CloseAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class ConstructorAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This NewProxyConnection connection,
+        @Advice.Argument(1) NewPooledConnection pooledConnection) {
+      C3p0Singletons.proxyCreated(connection, pooledConnection);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class CloseAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.This NewProxyConnection connection) {
+      C3p0Singletons.connectionReturned(connection);
+    }
+  }
+}
@@ -31,6 +31,11 @@ class C3p0InstrumentationTest extends AbstractC3p0InstrumentationTest {
   @Override
   protected void shutdown(PooledDataSource dataSource) {}
 
+  @Override
+  protected boolean recordsConnectionTimings() {
+    return true;
+  }
+
   @Test
   void shouldUseJdbcUrlForDataSourceName() throws Exception {
     ComboPooledDataSource dataSource = createDataSource("jdbc:mock://db.example:5432/orders");
@@ -67,6 +72,8 @@ class C3p0InstrumentationTest extends AbstractC3p0InstrumentationTest {
   private void assertDataSourceName(ComboPooledDataSource dataSource, String expectedName)
       throws Exception {
     try (Connection ignored = dataSource.getConnection()) {
+      dataSource.getConnection().close();
+
       assertDataSourceMetrics(expectedName);
     } finally {
       close(dataSource);
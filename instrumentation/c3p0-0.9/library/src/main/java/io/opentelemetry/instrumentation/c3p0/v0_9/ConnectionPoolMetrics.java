@@ -5,28 +5,20 @@
 
 package io.opentelemetry.instrumentation.c3p0.v0_9;
 
-import static java.util.logging.Level.FINE;
-
 import com.mchange.v2.c3p0.PooledDataSource;
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
-import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
-import java.sql.SQLException;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetricsRegistry;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.logging.Logger;
 import javax.annotation.Nullable;
 
 final class ConnectionPoolMetrics {
 
-  private static final Logger logger = Logger.getLogger(ConnectionPoolMetrics.class.getName());
-
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.c3p0-0.9";
 
-  // a weak map does not make sense here because each Meter holds a reference to the dataSource
-  // PooledDataSource implements equals() & hashCode() in IdentityTokenResolvable,
+  // a weak map does not make sense here because the shared registry holds a reference to the
+  // dataSource; PooledDataSource implements equals() & hashCode() in IdentityTokenResolvable,
   // that's why we wrap it with IdentityDataSourceKey that uses identity comparison instead
   private static final Map<IdentityDataSourceKey, BatchCallback> dataSourceMetrics =
       new ConcurrentHashMap<>();
@@ -53,31 +45,14 @@ final class ConnectionPoolMetrics {
 
     PooledDataSource dataSource = key.dataSource;
 
-    DbConnectionPoolMetrics metrics =
-        DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, dataSourceName);
-
-    ObservableLongMeasurement connections = metrics.connections();
-    ObservableLongMeasurement pendingRequestsForConnection = metrics.pendingRequestsForConnection();
-
-    Attributes attributes = metrics.getAttributes();
-    Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
-    Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
-
-    return metrics.batchCallback(
-        () -> {
-          try {
-            connections.record(
-                dataSource.getNumBusyConnectionsDefaultUser(), usedConnectionsAttributes);
-            connections.record(
-                dataSource.getNumIdleConnectionsDefaultUser(), idleConnectionsAttributes);
-            pendingRequestsForConnection.record(
-                dataSource.getNumThreadsAwaitingCheckoutDefaultUser(), attributes);
-          } catch (SQLException e) {
-            logger.log(FINE, "Failed to get C3P0 datasource metric", e);
-          }
-        },
-        connections,
-        pendingRequestsForConnection);
+    return DbConnectionPoolMetricsRegistry.get(openTelemetry, INSTRUMENTATION_NAME)
+        .register(
+            dataSourceName,
+            state -> {
+              state.setUsedConnections(dataSource.getNumBusyConnectionsDefaultUser());
+              state.setIdleConnections(dataSource.getNumIdleConnectionsDefaultUser());
+              state.setPendingRequests(dataSource.getNumThreadsAwaitingCheckoutDefaultUser());
+            });
   }
 
   static void unregisterMetrics(PooledDataSource dataSource) {
@@ -71,4 +71,11 @@ class C3p0InstrumentationTest extends AbstractC3p0InstrumentationTest {
   protected void shutdown(PooledDataSource dataSource) {
     telemetry.unregisterMetrics(dataSource);
   }
+
+  @Override
+  protected boolean recordsConnectionTimings() {
+    // the library instrumentation only observes the state of the pool, it doesn't see connections
+    // being borrowed and returned
+    return false;
+  }
 }
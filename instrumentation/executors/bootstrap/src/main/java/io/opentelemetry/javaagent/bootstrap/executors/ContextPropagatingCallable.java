@@ -17,7 +17,8 @@ public final class ContextPropagatingCallable<T> implements Callable<T> {
     // Lambda class names contain '/' which is not allowed in ordinary class names.
     // Note: it is always safe to decorate lambdas since downstream code cannot be expecting a
     // specific callable implementation anyway.
-    return task.getClass().getName().contains("/") && !(task instanceof ContextPropagatingCallable);
+    return ContextPropagatingRunnable.isLambdaClass(task.getClass())
+        && !(task instanceof ContextPropagatingCallable);
   }
 
   public static <T> Callable<T> propagateContext(Callable<T> task, Context context) {
@@ -11,12 +11,25 @@ import io.opentelemetry.instrumentation.api.internal.ContextPropagationDebug;
 
 public final class ContextPropagatingRunnable implements Runnable {
 
+  // the class name check is evaluated once per task class instead of on every submission
+  private static final ClassValue<Boolean> LAMBDA_CLASS =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> taskClass) {
+          return taskClass.getName().contains("/");
+        }
+      };
+
   public static boolean shouldDecorateRunnable(Runnable task) {
     // We wrap only lambda-generated classes that have not already been wrapped.
     // Lambda class names contain '/' which is not allowed in ordinary class names.
     // Note: it is always safe to decorate lambdas since downstream code cannot be expecting a
     // specific runnable implementation anyway.
-    return task.getClass().getName().contains("/") && !(task instanceof ContextPropagatingRunnable);
+    return isLambdaClass(task.getClass()) && !(task instanceof ContextPropagatingRunnable);
+  }
+
+  static boolean isLambdaClass(Class<?> taskClass) {
+    return LAMBDA_CLASS.get(taskClass);
   }
 
   public static Runnable propagateContext(Runnable task, Context context) {
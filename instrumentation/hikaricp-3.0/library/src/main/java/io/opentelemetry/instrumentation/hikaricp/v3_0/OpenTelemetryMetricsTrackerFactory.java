@@ -9,10 +9,9 @@ import com.zaxxer.hikari.metrics.IMetricsTracker;
 import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import com.zaxxer.hikari.metrics.PoolStats;
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetricsRegistry;
 import javax.annotation.Nullable;
 
 final class OpenTelemetryMetricsTrackerFactory implements MetricsTrackerFactory {
@@ -38,28 +37,17 @@ final class OpenTelemetryMetricsTrackerFactory implements MetricsTrackerFactory
     DbConnectionPoolMetrics metrics =
         DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, poolName);
 
-    ObservableLongMeasurement connections = metrics.connections();
-    ObservableLongMeasurement minIdleConnections = metrics.minIdleConnections();
-    ObservableLongMeasurement maxConnections = metrics.maxConnections();
-    ObservableLongMeasurement pendingRequestsForConnection = metrics.pendingRequestsForConnection();
-
-    Attributes attributes = metrics.getAttributes();
-    Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
-    Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
-
     BatchCallback callback =
-        metrics.batchCallback(
-            () -> {
-              connections.record(poolStats.getActiveConnections(), usedConnectionsAttributes);
-              connections.record(poolStats.getIdleConnections(), idleConnectionsAttributes);
-              minIdleConnections.record(poolStats.getMinConnections(), attributes);
-              maxConnections.record(poolStats.getMaxConnections(), attributes);
-              pendingRequestsForConnection.record(poolStats.getPendingThreads(), attributes);
-            },
-            connections,
-            minIdleConnections,
-            maxConnections,
-            pendingRequestsForConnection);
+        DbConnectionPoolMetricsRegistry.get(openTelemetry, INSTRUMENTATION_NAME)
+            .register(
+                poolName,
+                state -> {
+                  state.setUsedConnections(poolStats.getActiveConnections());
+                  state.setIdleConnections(poolStats.getIdleConnections());
+                  state.setMinIdleConnections(poolStats.getMinConnections());
+                  state.setMaxConnections(poolStats.getMaxConnections());
+                  state.setPendingRequests(poolStats.getPendingThreads());
+                });
 
     return new OpenTelemetryMetricsTracker(
         userMetricsTracker,
@@ -68,7 +56,7 @@ final class OpenTelemetryMetricsTrackerFactory implements MetricsTrackerFactory
         metrics.connectionCreateTime(),
         metrics.connectionWaitTime(),
         metrics.connectionUseTime(),
-        attributes);
+        metrics.getAttributes());
   }
 
   private static class NoopMetricsTracker implements IMetricsTracker {}
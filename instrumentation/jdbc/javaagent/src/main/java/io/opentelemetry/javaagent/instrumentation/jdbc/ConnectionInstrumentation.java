@@ -20,6 +20,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.ImplicitContextKeyed;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
 import io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge;
@@ -130,7 +131,9 @@ class ConnectionInstrumentation implements TypeInstrumentation {
       }
 
       String originalSql = prepareContext.get();
-      JdbcData.PREPARED_STATEMENT.set(statement, originalSql);
+      if (originalSql != null) {
+        JdbcData.PREPARED_STATEMENT.set(statement, CachedSqlQuery.create(originalSql));
+      }
     }
   }
 
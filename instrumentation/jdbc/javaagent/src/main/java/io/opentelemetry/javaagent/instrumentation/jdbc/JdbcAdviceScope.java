@@ -12,10 +12,10 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
+import io.opentelemetry.instrumentation.jdbc.internal.QueryParameters;
 import io.opentelemetry.javaagent.bootstrap.CallDepth;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
-import java.util.Map;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -49,7 +49,7 @@ public class JdbcAdviceScope {
       CallDepth callDepth, PreparedStatement preparedStatement) {
     return start(
         callDepth,
-        () -> DbRequest.create(preparedStatement, JdbcData.getParameters(preparedStatement)));
+        () -> DbRequest.create(preparedStatement, getParameters(preparedStatement)));
   }
 
   private static JdbcAdviceScope start(CallDepth callDepth, Supplier<DbRequest> requestSupplier) {
@@ -77,24 +77,31 @@ public class JdbcAdviceScope {
   @Nullable
   private static DbRequest createBatchRequest(Statement statement) {
     if (statement instanceof PreparedStatement) {
-      String sql = JdbcData.PREPARED_STATEMENT.get((PreparedStatement) statement);
-      if (sql == null) {
+      PreparedStatement preparedStatement = (PreparedStatement) statement;
+      if (JdbcData.PREPARED_STATEMENT.get(preparedStatement) == null) {
         return null;
       }
-      Long batchSize = JdbcData.getPreparedStatementBatchSize((PreparedStatement) statement);
-      Map<String, String> parameters = JdbcData.getParameters((PreparedStatement) statement);
-      return DbRequest.create(statement, sql, batchSize != null ? batchSize : 0L, parameters, true);
+      Long batchSize = JdbcData.getPreparedStatementBatchSize(preparedStatement);
+      QueryParameters parameters = getParameters(preparedStatement);
+      return DbRequest.create(preparedStatement, batchSize != null ? batchSize : 0L, parameters);
     } else {
       JdbcData.StatementBatchInfo batchInfo = JdbcData.getStatementBatchInfo(statement);
       if (batchInfo == null) {
         return DbRequest.create(statement, emptyList(), 0L, false);
       } else {
-        return DbRequest.create(
-            statement, batchInfo.getQueryTexts(), batchInfo.getBatchSize(), false);
+        return DbRequest.create(statement, batchInfo);
       }
     }
   }
 
+  @Nullable
+  private static QueryParameters getParameters(PreparedStatement preparedStatement) {
+    if (!JdbcSingletons.CAPTURE_QUERY_PARAMETERS) {
+      return null;
+    }
+    return JdbcData.getParameters(preparedStatement);
+  }
+
   public void end(@Nullable Throwable throwable) {
     if (callDepth.decrementAndGet() > 0) {
       return;
@@ -52,7 +52,9 @@ public class JdbcSingletons {
             singletonList(servicePeerExtractor),
             true,
             DbConfig.isQuerySanitizationEnabled(GlobalOpenTelemetry.get(), "jdbc"),
-            CAPTURE_QUERY_PARAMETERS);
+            CAPTURE_QUERY_PARAMETERS,
+            DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "jdbc")
+                .getInt("query_parameter_max_bytes/development", 0));
 
     transactionInstrumenter =
         JdbcInstrumenterFactory.createTransactionInstrumenter(
@@ -164,7 +164,7 @@ class PreparedStatementInstrumentation implements TypeInstrumentation {
       }
 
       if (value != null) {
-        JdbcData.addParameter(statement, Integer.toString(index - 1), value.toString());
+        JdbcData.addParameter(statement, index, value);
       }
     }
   }
@@ -189,7 +189,7 @@ class PreparedStatementInstrumentation implements TypeInstrumentation {
       }
 
       if (value != null) {
-        JdbcData.addParameter(statement, Integer.toString(index - 1), value.toString());
+        JdbcData.addParameter(statement, index, value);
       }
     }
   }
@@ -214,7 +214,7 @@ class PreparedStatementInstrumentation implements TypeInstrumentation {
       }
 
       if (value != null) {
-        JdbcData.addParameter(statement, Integer.toString(index - 1), value.toString());
+        JdbcData.addParameter(statement, index, value);
       }
     }
   }
@@ -77,6 +77,14 @@ public final class OpenTelemetryDriver implements Driver {
                 "otel.instrumentation.jdbc.experimental.capture-query-parameters", false));
   }
 
+  private static int queryParameterMaxBytes(OpenTelemetry openTelemetry) {
+    return DeclarativeConfigUtil.getInstrumentationConfig(openTelemetry, "jdbc")
+        .getInt(
+            "query_parameter_max_bytes/development",
+            SystemProperty.getInt(
+                "otel.instrumentation.jdbc.experimental.query-parameter-max-bytes", 0));
+  }
+
   private static boolean querySanitizationEnabled(OpenTelemetry openTelemetry) {
     return DbConfig.isCommonQuerySanitizationEnabled(
         openTelemetry,
@@ -293,7 +301,11 @@ public final class OpenTelemetryDriver implements Driver {
     boolean captureQueryParameters = captureQueryParameters(openTelemetry);
     Instrumenter<DbRequest, Void> statementInstrumenter =
         JdbcInstrumenterFactory.createStatementInstrumenter(
-            openTelemetry, true, querySanitizationEnabled(openTelemetry), captureQueryParameters);
+            openTelemetry,
+            true,
+            querySanitizationEnabled(openTelemetry),
+            captureQueryParameters,
+            queryParameterMaxBytes(openTelemetry));
     Instrumenter<DbRequest, Void> transactionInstrumenter =
         JdbcInstrumenterFactory.createTransactionInstrumenter(
             openTelemetry, transactionEnabled(openTelemetry));
@@ -30,6 +30,7 @@ public final class JdbcTelemetryBuilder {
   private boolean querySanitizationEnabled = true;
   private boolean transactionInstrumenterEnabled = false;
   private boolean captureQueryParameters = false;
+  private int queryParameterMaxBytes = 0;
 
   JdbcTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -76,6 +77,16 @@ public final class JdbcTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Configures the maximum size in bytes of the UTF-8 encoded query parameter values, longer
+   * values are truncated. A non-positive value disables truncation. Disabled by default.
+   */
+  @CanIgnoreReturnValue
+  public JdbcTelemetryBuilder setQueryParameterMaxBytes(int maxBytes) {
+    this.queryParameterMaxBytes = maxBytes;
+    return this;
+  }
+
   /** Returns a new {@link JdbcTelemetry} with the settings of this {@link JdbcTelemetryBuilder}. */
   public JdbcTelemetry build() {
     Instrumenter<DataSource, DbInfo> dataSourceInstrumenter =
@@ -86,7 +97,8 @@ public final class JdbcTelemetryBuilder {
             openTelemetry,
             statementInstrumenterEnabled,
             querySanitizationEnabled,
-            captureQueryParameters);
+            captureQueryParameters,
+            queryParameterMaxBytes);
     Instrumenter<DbRequest, Void> transactionInstrumenter =
         JdbcInstrumenterFactory.createTransactionInstrumenter(
             openTelemetry, transactionInstrumenterEnabled);
@@ -8,16 +8,15 @@ package io.opentelemetry.instrumentation.jdbc.internal;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.connectionFromStatement;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.extractDbInfo;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
 import com.google.auto.value.AutoValue;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
 import java.util.Collection;
-import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
@@ -29,18 +28,34 @@ public abstract class DbRequest {
 
   @Nullable
   public static DbRequest create(
-      PreparedStatement statement, Map<String, String> preparedStatementParameters) {
+      PreparedStatement statement, @Nullable QueryParameters queryParameters) {
+    return create(statement, null, queryParameters);
+  }
+
+  @Nullable
+  public static DbRequest create(
+      PreparedStatement statement,
+      @Nullable Long batchSize,
+      @Nullable QueryParameters queryParameters) {
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    CachedSqlQuery cachedQuery = JdbcData.PREPARED_STATEMENT.get(statement);
     return create(
-        statement,
-        JdbcData.PREPARED_STATEMENT.get(statement),
+        extractDbInfo(connection),
+        singletonList(cachedQuery != null ? cachedQuery.getRawQueryText() : null),
+        batchSize,
         null,
-        preparedStatementParameters,
+        cachedQuery,
+        queryParameters,
         true);
   }
 
   @Nullable
   public static DbRequest create(Statement statement, String dbQueryString) {
-    return create(statement, dbQueryString, null, emptyMap(), false);
+    return create(statement, dbQueryString, null, null, false);
   }
 
   @Nullable
@@ -48,7 +63,7 @@ public abstract class DbRequest {
       Statement statement,
       String dbQueryString,
       Long batchSize,
-      Map<String, String> preparedStatementParameters,
+      @Nullable QueryParameters queryParameters,
       boolean parameterizedQuery) {
     Connection connection = connectionFromStatement(statement);
     if (connection == null) {
@@ -59,7 +74,7 @@ public abstract class DbRequest {
         extractDbInfo(connection),
         dbQueryString,
         batchSize,
-        preparedStatementParameters,
+        queryParameters,
         parameterizedQuery);
   }
 
@@ -74,24 +89,46 @@ public abstract class DbRequest {
       return null;
     }
 
-    return create(extractDbInfo(connection), queryTexts, batchSize, emptyMap(), parameterizedQuery);
+    return create(extractDbInfo(connection), queryTexts, batchSize, null, parameterizedQuery);
+  }
+
+  @Nullable
+  public static DbRequest create(Statement statement, JdbcData.StatementBatchInfo batchInfo) {
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    return create(extractDbInfo(connection), batchInfo);
+  }
+
+  public static DbRequest create(DbInfo dbInfo, JdbcData.StatementBatchInfo batchInfo) {
+    return new AutoValue_DbRequest(
+        dbInfo,
+        batchInfo.getQueryTexts(),
+        batchInfo.getBatchSize(),
+        null,
+        null,
+        null,
+        false,
+        batchInfo.isMultiStatementBatch());
   }
 
   public static DbRequest create(DbInfo dbInfo, String queryText, boolean parameterizedQuery) {
-    return create(dbInfo, queryText, null, emptyMap(), parameterizedQuery);
+    return create(dbInfo, queryText, null, null, parameterizedQuery);
   }
 
   public static DbRequest create(
       DbInfo dbInfo,
       String queryText,
       @Nullable Long batchSize,
-      Map<String, String> preparedStatementParameters,
+      @Nullable QueryParameters queryParameters,
       boolean parameterizedQuery) {
     return create(
         dbInfo,
         singletonList(queryText),
         batchSize,
-        preparedStatementParameters,
+        queryParameters,
         parameterizedQuery);
   }
 
@@ -99,10 +136,27 @@ public abstract class DbRequest {
       DbInfo dbInfo,
       Collection<String> queryTexts,
       @Nullable Long batchSize,
-      Map<String, String> preparedStatementParameters,
+      @Nullable QueryParameters queryParameters,
+      boolean parameterizedQuery) {
+    return create(
+        dbInfo, queryTexts, batchSize, null, null, queryParameters, parameterizedQuery);
+  }
+
+  public static DbRequest create(
+      DbInfo dbInfo,
+      String queryText,
+      @Nullable Long batchSize,
+      @Nullable CachedSqlQuery cachedQuery,
+      @Nullable QueryParameters queryParameters,
       boolean parameterizedQuery) {
     return create(
-        dbInfo, queryTexts, batchSize, null, preparedStatementParameters, parameterizedQuery);
+        dbInfo,
+        singletonList(queryText),
+        batchSize,
+        null,
+        cachedQuery,
+        queryParameters,
+        parameterizedQuery);
   }
 
   private static DbRequest create(
@@ -110,15 +164,18 @@ public abstract class DbRequest {
       Collection<String> queryTexts,
       @Nullable Long batchSize,
       @Nullable String operationName,
-      Map<String, String> preparedStatementParameters,
+      @Nullable CachedSqlQuery cachedQuery,
+      @Nullable QueryParameters queryParameters,
       boolean parameterizedQuery) {
     return new AutoValue_DbRequest(
         dbInfo,
         queryTexts,
         batchSize,
         operationName,
-        preparedStatementParameters,
-        parameterizedQuery);
+        cachedQuery,
+        queryParameters,
+        parameterizedQuery,
+        false);
   }
 
   @Nullable
@@ -132,7 +189,7 @@ public abstract class DbRequest {
   }
 
   public static DbRequest createTransaction(DbInfo dbInfo, String operationName) {
-    return create(dbInfo, emptyList(), null, operationName, emptyMap(), false);
+    return create(dbInfo, emptyList(), null, operationName, null, null, false);
   }
 
   public abstract DbInfo getDbInfo();
@@ -146,7 +203,17 @@ public abstract class DbRequest {
   @Nullable
   public abstract String getOperationName();
 
-  public abstract Map<String, String> getPreparedStatementParameters();
+  // analysis results attached to the prepared statement, see JdbcData.PREPARED_STATEMENT
+  @Nullable
+  public abstract CachedSqlQuery getCachedQuery();
+
+  // the live parameters of the prepared statement, converted when the span ends
+  @Nullable
+  public abstract QueryParameters getQueryParameters();
 
   public abstract boolean isParameterizedQuery();
+
+  // a statement batch that executes more than one statement, see
+  // JdbcData.StatementBatchInfo#isMultiStatementBatch
+  public abstract boolean isMultiStatementBatch();
 }
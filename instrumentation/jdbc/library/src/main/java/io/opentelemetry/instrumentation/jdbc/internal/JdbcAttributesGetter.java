@@ -7,11 +7,11 @@ package io.opentelemetry.instrumentation.jdbc.internal;
 
 import static io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlDialectUtil.fromDbSystemName;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlClientAttributesGetter;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlDialect;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
@@ -68,6 +68,12 @@ public final class JdbcAttributesGetter implements SqlClientAttributesGetter<DbR
     return request.getQueryTexts();
   }
 
+  @Nullable
+  @Override
+  public CachedSqlQuery getCachedQuery(DbRequest request) {
+    return request.getCachedQuery();
+  }
+
   @Override
   public Long getDbOperationBatchSize(DbRequest request) {
     return request.getBatchSize();
@@ -85,8 +91,8 @@ public final class JdbcAttributesGetter implements SqlClientAttributesGetter<DbR
   }
 
   @Override
-  public Map<String, String> getDbQueryParameters(DbRequest request) {
-    return request.getPreparedStatementParameters();
+  public boolean isMultiStatementBatch(DbRequest request) {
+    return request.isMultiStatementBatch();
   }
 
   @Override
@@ -5,20 +5,20 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
-import static java.util.Collections.emptyMap;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
 import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
+import javax.annotation.Nullable;
 
 /**
  * Holds info associated with JDBC connections and prepared statements.
@@ -31,15 +31,17 @@ public final class JdbcData {
   private static final Map<DbInfo, WeakReference<DbInfo>> dbInfos = new WeakHashMap<>();
   public static final VirtualField<Connection, DbInfo> CONNECTION_INFO =
       VirtualField.find(Connection.class, DbInfo.class);
-  public static final VirtualField<PreparedStatement, String> PREPARED_STATEMENT =
-      VirtualField.find(PreparedStatement.class, String.class);
+  // the query text is stored together with its analysis results, so that executing the same
+  // prepared statement repeatedly does not need to analyze the query text again
+  public static final VirtualField<PreparedStatement, CachedSqlQuery> PREPARED_STATEMENT =
+      VirtualField.find(PreparedStatement.class, CachedSqlQuery.class);
   private static final VirtualField<Statement, StatementBatchInfo> statementBatch =
       VirtualField.find(Statement.class, StatementBatchInfo.class);
   private static final VirtualField<PreparedStatement, PreparedStatementBatchInfo>
       preparedStatementBatch =
           VirtualField.find(PreparedStatement.class, PreparedStatementBatchInfo.class);
-  private static final VirtualField<PreparedStatement, Map<String, String>> parameters =
-      VirtualField.find(PreparedStatement.class, Map.class);
+  private static final VirtualField<PreparedStatement, QueryParameters> parameters =
+      VirtualField.find(PreparedStatement.class, QueryParameters.class);
 
   private JdbcData() {}
 
@@ -112,22 +114,23 @@ public final class JdbcData {
     }
   }
 
-  public static Map<String, String> getParameters(PreparedStatement statement) {
-    Map<String, String> parametersMap = parameters.get(statement);
-    return parametersMap != null ? parametersMap : emptyMap();
+  @Nullable
+  public static QueryParameters getParameters(PreparedStatement statement) {
+    return parameters.get(statement);
   }
 
-  public static void addParameter(PreparedStatement statement, String key, String value) {
+  /** Captures the parameter with the given one-based {@code parameterIndex}. */
+  public static void addParameter(PreparedStatement statement, int parameterIndex, Object value) {
     if (value == null) {
       return;
     }
 
-    Map<String, String> parametersMap = parameters.get(statement);
-    if (parametersMap == null) {
-      parametersMap = new HashMap<>();
-      parameters.set(statement, parametersMap);
+    QueryParameters queryParameters = parameters.get(statement);
+    if (queryParameters == null) {
+      queryParameters = new QueryParameters();
+      parameters.set(statement, queryParameters);
     }
-    parametersMap.put(key, value);
+    queryParameters.set(parameterIndex, value);
   }
 
   public static void clearParameters(PreparedStatement statement) {
@@ -139,10 +142,25 @@ public final class JdbcData {
    * any time.
    */
   public static final class StatementBatchInfo {
-    private final List<String> queryTexts = new ArrayList<>();
+    // bounds the memory retained by large batches that add many distinct statements
+    private static final int MAX_QUERY_TEXTS = 1000;
+
+    // distinct query texts in the order they were added; large batches usually repeat a few
+    // statements, and the query texts are sanitized (or not) and deduplicated again by the
+    // attributes extractor
+    private final Set<String> queryTexts = new LinkedHashSet<>();
+    private long batchSize;
 
     void add(String sql) {
-      queryTexts.add(sql);
+      if (queryTexts.size() < MAX_QUERY_TEXTS) {
+        queryTexts.add(sql);
+      }
+      batchSize++;
+    }
+
+    void clear() {
+      queryTexts.clear();
+      batchSize = 0;
     }
 
     public Collection<String> getQueryTexts() {
@@ -150,7 +168,15 @@ public final class JdbcData {
     }
 
     public long getBatchSize() {
-      return queryTexts.size();
+      return batchSize;
+    }
+
+    /**
+     * Returns whether the batch executes more than one statement, even when all of them have the
+     * same query text.
+     */
+    public boolean isMultiStatementBatch() {
+      return batchSize > 1;
     }
   }
 
@@ -35,7 +35,22 @@ public final class JdbcInstrumenterFactory {
       boolean querySanitizationEnabled,
       boolean captureQueryParameters) {
     return createStatementInstrumenter(
-        openTelemetry, emptyList(), enabled, querySanitizationEnabled, captureQueryParameters);
+        openTelemetry, enabled, querySanitizationEnabled, captureQueryParameters, 0);
+  }
+
+  public static Instrumenter<DbRequest, Void> createStatementInstrumenter(
+      OpenTelemetry openTelemetry,
+      boolean enabled,
+      boolean querySanitizationEnabled,
+      boolean captureQueryParameters,
+      int queryParameterMaxBytes) {
+    return createStatementInstrumenter(
+        openTelemetry,
+        emptyList(),
+        enabled,
+        querySanitizationEnabled,
+        captureQueryParameters,
+        queryParameterMaxBytes);
   }
 
   public static Instrumenter<DbRequest, Void> createStatementInstrumenter(
@@ -43,7 +58,8 @@ public final class JdbcInstrumenterFactory {
       List<AttributesExtractor<DbRequest, Void>> extractors,
       boolean enabled,
       boolean querySanitizationEnabled,
-      boolean captureQueryParameters) {
+      boolean captureQueryParameters,
+      int queryParameterMaxBytes) {
     JdbcAttributesGetter getter = new JdbcAttributesGetter();
     InstrumenterBuilder<DbRequest, Void> builder =
         Instrumenter.<DbRequest, Void>builder(
@@ -56,6 +72,11 @@ public final class JdbcInstrumenterFactory {
             .addAttributesExtractors(extractors)
             .addOperationMetrics(DbClientMetrics.get())
             .setEnabled(enabled);
+    if (captureQueryParameters) {
+      // the parameters are converted when the span ends, only for recording spans
+      builder.addAttributesExtractor(
+          new QueryParametersAttributesExtractor(queryParameterMaxBytes));
+    }
     setDbClientExceptionEventExtractor(builder);
     return builder.buildInstrumenter(SpanKindExtractor.alwaysClient());
   }
@@ -20,6 +20,7 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlCommenter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.jdbc.internal.dbinfo.DbInfo;
@@ -44,14 +45,14 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
-import java.util.HashMap;
-import java.util.Map;
+import javax.annotation.Nullable;
 
 @SuppressWarnings("OverloadMethodsDeclarationOrder")
 class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTelemetryStatement<S>
     implements PreparedStatement {
   private final boolean captureQueryParameters;
-  private final Map<String, String> parameters;
+  private final QueryParameters parameters;
+  @Nullable private final CachedSqlQuery cachedQuery;
 
   public OpenTelemetryPreparedStatement(
       S delegate,
@@ -63,16 +64,18 @@ class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTe
       SqlCommenter sqlCommenter) {
     super(delegate, connection, dbInfo, query, instrumenter, sqlCommenter);
     this.captureQueryParameters = captureQueryParameters;
-    this.parameters = new HashMap<>();
+    this.parameters = new QueryParameters();
+    this.cachedQuery = query != null ? CachedSqlQuery.create(query) : null;
+  }
+
+  @Nullable
+  private QueryParameters queryParameters() {
+    return captureQueryParameters ? parameters : null;
   }
 
   private void putParameter(int index, Object value) {
     if (this.captureQueryParameters && value != null) {
-      try {
-        parameters.put(Integer.toString(index - 1), value.toString());
-      } catch (Throwable ignored) {
-        // ignore
-      }
+      parameters.set(index, value);
     }
   }
 
@@ -106,43 +109,43 @@ class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTe
   @Override
   public void setBoolean(int parameterIndex, boolean x) throws SQLException {
     delegate.setBoolean(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
   public void setByte(int parameterIndex, byte x) throws SQLException {
     delegate.setByte(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
   public void setShort(int parameterIndex, short x) throws SQLException {
     delegate.setShort(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
   public void setInt(int parameterIndex, int x) throws SQLException {
     delegate.setInt(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
   public void setLong(int parameterIndex, long x) throws SQLException {
     delegate.setLong(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
   public void setFloat(int parameterIndex, float x) throws SQLException {
     delegate.setFloat(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
   public void setDouble(int parameterIndex, double x) throws SQLException {
     delegate.setDouble(parameterIndex, x);
-    putParameter(parameterIndex, String.valueOf(x));
+    putParameter(parameterIndex, x);
   }
 
   @Override
@@ -411,12 +414,13 @@ class OpenTelemetryPreparedStatement<S extends PreparedStatement> extends OpenTe
   @Override
   protected <T, E extends Exception> T wrapCall(String sql, ThrowingSupplier<T, E> callable)
       throws E {
-    DbRequest request = DbRequest.create(dbInfo, sql, null, parameters, true);
+    DbRequest request = DbRequest.create(dbInfo, sql, null, cachedQuery, queryParameters(), true);
     return wrapCall(request, callable);
   }
 
   private <T, E extends Exception> T wrapBatchCall(ThrowingSupplier<T, E> callable) throws E {
-    DbRequest request = DbRequest.create(dbInfo, query, batchSize, parameters, true);
+    DbRequest request =
+        DbRequest.create(dbInfo, query, batchSize, cachedQuery, queryParameters(), true);
     try {
       return wrapCall(request, callable);
     } finally {
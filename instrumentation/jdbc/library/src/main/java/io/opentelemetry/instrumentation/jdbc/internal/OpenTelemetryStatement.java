@@ -20,7 +20,6 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
-import static java.util.Collections.emptyMap;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
@@ -32,8 +31,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
-import java.util.ArrayList;
-import java.util.List;
 
 class OpenTelemetryStatement<S extends Statement> implements Statement {
 
@@ -44,7 +41,7 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
   protected final Instrumenter<DbRequest, Void> instrumenter;
   protected final SqlCommenter sqlCommenter;
 
-  private final List<String> batchCommands = new ArrayList<>();
+  private final JdbcData.StatementBatchInfo batchCommands;
   protected long batchSize;
 
   OpenTelemetryStatement(
@@ -69,6 +66,7 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
     this.query = query;
     this.instrumenter = instrumenter;
     this.sqlCommenter = sqlCommenter;
+    this.batchCommands = new JdbcData.StatementBatchInfo();
   }
 
   private String processQuery(String sql) {
@@ -414,7 +412,7 @@ class OpenTelemetryStatement<S extends Statement> implements Statement {
   }
 
   private <T, E extends Exception> T wrapBatchCall(ThrowingSupplier<T, E> callable) throws E {
-    DbRequest request = DbRequest.create(dbInfo, batchCommands, batchSize, emptyMap(), false);
+    DbRequest request = DbRequest.create(dbInfo, batchCommands);
     try {
       return wrapCall(request, callable);
     } finally {
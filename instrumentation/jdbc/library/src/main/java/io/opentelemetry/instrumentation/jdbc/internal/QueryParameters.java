@@ -0,0 +1,111 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * Prepared statement parameters captured for the {@code db.query.parameter.<key>} attributes. The
+ * bound values are kept as they were passed to the statement, indexed by their zero-based parameter
+ * index, and are only converted to strings when they are added to a recording span.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class QueryParameters {
+
+  private static final Object[] EMPTY = new Object[0];
+
+  private Object[] values = EMPTY;
+
+  /**
+   * Sets the value of the parameter with the given one-based {@code parameterIndex}, as used by the
+   * {@link java.sql.PreparedStatement} setter methods.
+   */
+  public void set(int parameterIndex, @Nullable Object value) {
+    int index = parameterIndex - 1;
+    if (index < 0) {
+      return;
+    }
+    if (index >= values.length) {
+      if (value == null) {
+        return;
+      }
+      values = Arrays.copyOf(values, Math.max(index + 1, values.length * 2));
+    }
+    values[index] = value;
+  }
+
+  public void clear() {
+    values = EMPTY;
+  }
+
+  /**
+   * Converts the captured values to strings and passes them to {@code consumer} keyed by their
+   * zero-based parameter index. Values whose UTF-8 encoding is longer than {@code maxBytes} are
+   * truncated, a non-positive {@code maxBytes} disables truncation.
+   */
+  public void forEach(int maxBytes, BiConsumer<String, String> consumer) {
+    Object[] values = this.values;
+    for (int i = 0; i < values.length; i++) {
+      String string = toString(values[i], maxBytes);
+      if (string != null) {
+        consumer.accept(Integer.toString(i), string);
+      }
+    }
+  }
+
+  @Nullable
+  private static String toString(@Nullable Object value, int maxBytes) {
+    if (value == null) {
+      return null;
+    }
+    String string;
+    try {
+      string = value.toString();
+    } catch (Throwable ignored) {
+      return null;
+    }
+    if (string == null || maxBytes <= 0 || string.length() * 3 <= maxBytes) {
+      return string;
+    }
+    return truncate(string, maxBytes);
+  }
+
+  // returns the longest prefix whose UTF-8 encoding fits into maxBytes, without splitting a
+  // surrogate pair
+  // visible for testing
+  static String truncate(String string, int maxBytes) {
+    int bytes = 0;
+    int length = string.length();
+    int i = 0;
+    while (i < length) {
+      char c = string.charAt(i);
+      int charCount = 1;
+      int charBytes;
+      if (c < 0x80) {
+        charBytes = 1;
+      } else if (c < 0x800) {
+        charBytes = 2;
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(string.charAt(i + 1))) {
+        charCount = 2;
+        charBytes = 4;
+      } else {
+        charBytes = 3;
+      }
+      if (bytes + charBytes > maxBytes) {
+        return string.substring(0, i);
+      }
+      bytes += charBytes;
+      i += charCount;
+    }
+    return string;
+  }
+}
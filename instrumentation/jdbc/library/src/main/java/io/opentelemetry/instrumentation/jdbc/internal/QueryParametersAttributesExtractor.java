@@ -0,0 +1,52 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.semconv.AttributeKeyTemplate;
+import javax.annotation.Nullable;
+
+/**
+ * Adds the captured prepared statement parameters to the span. The bound values are converted to
+ * strings when the span ends, and only when it is recording.
+ */
+final class QueryParametersAttributesExtractor implements AttributesExtractor<DbRequest, Void> {
+
+  private static final AttributeKeyTemplate<String> DB_QUERY_PARAMETER =
+      AttributeKeyTemplate.stringKeyTemplate("db.query.parameter");
+
+  private final int maxBytes;
+
+  QueryParametersAttributesExtractor(int maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public void onStart(AttributesBuilder attributes, Context parentContext, DbRequest request) {}
+
+  @Override
+  public void onEnd(
+      AttributesBuilder attributes,
+      Context context,
+      DbRequest request,
+      @Nullable Void unused,
+      @Nullable Throwable error) {
+    QueryParameters parameters = request.getQueryParameters();
+    if (parameters == null || !Span.fromContext(context).isRecording()) {
+      return;
+    }
+    // parameters of batches are not captured, see SqlClientAttributesExtractor
+    Long batchSize = request.getBatchSize();
+    if (batchSize != null && batchSize != 1) {
+      return;
+    }
+    parameters.forEach(
+        maxBytes, (key, value) -> attributes.put(DB_QUERY_PARAMETER.getAttributeKey(key), value));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class QueryParametersTest {
+
+  @Test
+  void convertsValuesKeyedByZeroBasedIndex() {
+    QueryParameters parameters = new QueryParameters();
+    parameters.set(1, 42);
+    parameters.set(3, new BigDecimal("1.50"));
+    parameters.set(2, "text");
+
+    assertThat(toMap(parameters, 0))
+        .containsOnly(entry("0", "42"), entry("1", "text"), entry("2", "1.50"));
+  }
+
+  @Test
+  void overwritesAndClearsValues() {
+    QueryParameters parameters = new QueryParameters();
+    parameters.set(1, "first");
+    parameters.set(1, "second");
+
+    assertThat(toMap(parameters, 0)).containsOnly(entry("0", "second"));
+
+    parameters.clear();
+    assertThat(toMap(parameters, 0)).isEmpty();
+  }
+
+  @Test
+  void convertsValuesWhenRead() {
+    StringBuilder value = new StringBuilder("before");
+    QueryParameters parameters = new QueryParameters();
+    parameters.set(1, value);
+    value.setLength(0);
+    value.append("after");
+
+    assertThat(toMap(parameters, 0)).containsOnly(entry("0", "after"));
+  }
+
+  @Test
+  void truncatesToByteBudget() {
+    QueryParameters parameters = new QueryParameters();
+    parameters.set(1, "abcdefgh");
+    parameters.set(2, "abc");
+    // two bytes per character in UTF-8
+    parameters.set(3, "ééé");
+
+    assertThat(toMap(parameters, 4))
+        .containsOnly(entry("0", "abcd"), entry("1", "abc"), entry("2", "éé"));
+  }
+
+  @Test
+  void doesNotSplitSurrogatePairs() {
+    // U+1F600 is encoded as a surrogate pair, four bytes in UTF-8
+    String emoji = "😀";
+
+    assertThat(QueryParameters.truncate("a" + emoji + "b", 4)).isEqualTo("a");
+    assertThat(QueryParameters.truncate("a" + emoji + "b", 5)).isEqualTo("a" + emoji);
+    assertThat(QueryParameters.truncate("€€", 5)).isEqualTo("€");
+  }
+
+  @Test
+  void ignoresInvalidIndexAndFailingToString() {
+    QueryParameters parameters = new QueryParameters();
+    parameters.set(0, "ignored");
+    parameters.set(
+        1,
+        new Object() {
+          @Override
+          public String toString() {
+            throw new IllegalStateException();
+          }
+        });
+
+    assertThat(toMap(parameters, 0)).isEmpty();
+  }
+
+  private static Map<String, String> toMap(QueryParameters parameters, int maxBytes) {
+    Map<String, String> result = new HashMap<>();
+    parameters.forEach(maxBytes, result::put);
+    return result;
+  }
+}
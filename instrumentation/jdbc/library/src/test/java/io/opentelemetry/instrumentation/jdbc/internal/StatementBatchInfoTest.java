@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StatementBatchInfoTest {
+
+  @Test
+  void keepsDistinctQueryTextsInOrder() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo();
+    batchInfo.add("INSERT INTO a VALUES (1)");
+    batchInfo.add("INSERT INTO b VALUES (2)");
+    batchInfo.add("INSERT INTO a VALUES (3)");
+    batchInfo.add("INSERT INTO b VALUES (2)");
+
+    assertThat(batchInfo.getQueryTexts())
+        .containsExactly(
+            "INSERT INTO a VALUES (1)", "INSERT INTO b VALUES (2)", "INSERT INTO a VALUES (3)");
+    assertThat(batchInfo.getBatchSize()).isEqualTo(4);
+    assertThat(batchInfo.isMultiStatementBatch()).isTrue();
+  }
+
+  @Test
+  void repeatedStatementIsMultiStatementBatch() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo();
+    for (int i = 0; i < 1000; i++) {
+      batchInfo.add("INSERT INTO a VALUES (?)");
+    }
+
+    assertThat(batchInfo.getQueryTexts()).containsExactly("INSERT INTO a VALUES (?)");
+    assertThat(batchInfo.getBatchSize()).isEqualTo(1000);
+    assertThat(batchInfo.isMultiStatementBatch()).isTrue();
+  }
+
+  @Test
+  void limitsDistinctQueryTexts() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo();
+    for (int i = 0; i < 5000; i++) {
+      batchInfo.add("INSERT INTO a VALUES (" + i + ")");
+    }
+
+    assertThat(batchInfo.getQueryTexts()).hasSize(1000).startsWith("INSERT INTO a VALUES (0)");
+    assertThat(batchInfo.getBatchSize()).isEqualTo(5000);
+  }
+
+  @Test
+  void singleStatement() {
+    JdbcData.StatementBatchInfo batchInfo = new JdbcData.StatementBatchInfo();
+    batchInfo.add("INSERT INTO a VALUES (1)");
+
+    assertThat(batchInfo.getQueryTexts()).containsExactly("INSERT INTO a VALUES (1)");
+    assertThat(batchInfo.getBatchSize()).isEqualTo(1);
+    assertThat(batchInfo.isMultiStatementBatch()).isFalse();
+
+    batchInfo.clear();
+    assertThat(batchInfo.getQueryTexts()).isEmpty();
+    assertThat(batchInfo.getBatchSize()).isEqualTo(0);
+  }
+}
@@ -22,6 +22,7 @@ public class JettyHttpClient12InstrumentationModule extends InstrumentationModul
   public List<TypeInstrumentation> typeInstrumentations() {
     return asList(
         new JettyHttpClient12Instrumentation(),
-        new JettyClient12ResponseListenersInstrumentation());
+        new JettyClient12ResponseListenersInstrumentation(),
+        new JettyHttpClient12ConnectionPoolInstrumentation());
   }
 }
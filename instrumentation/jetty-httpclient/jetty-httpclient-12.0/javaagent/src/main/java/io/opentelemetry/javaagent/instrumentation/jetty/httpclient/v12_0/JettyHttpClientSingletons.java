@@ -6,9 +6,12 @@
 package io.opentelemetry.javaagent.instrumentation.jetty.httpclient.v12_0;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.builder.internal.DefaultHttpClientInstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.jetty.httpclient.v12_0.internal.JettyHttpClientInstrumenterBuilderFactory;
 import io.opentelemetry.javaagent.bootstrap.internal.JavaagentHttpClientInstrumenters;
+import javax.annotation.Nullable;
 import org.eclipse.jetty.client.Request;
 import org.eclipse.jetty.client.Response;
 
@@ -16,13 +19,24 @@ public class JettyHttpClientSingletons {
 
   static final String JETTY_CLIENT_CONTEXT_KEY = "otel-jetty-client-context";
 
-  private static final Instrumenter<Request, Response> instrumenter =
-      JavaagentHttpClientInstrumenters.create(
-          JettyHttpClientInstrumenterBuilderFactory.create(GlobalOpenTelemetry.get()));
+  private static final Instrumenter<Request, Response> instrumenter;
+  @Nullable private static final HttpClientConnectionMetrics connectionMetrics;
+
+  static {
+    DefaultHttpClientInstrumenterBuilder<Request, Response> builder =
+        JettyHttpClientInstrumenterBuilderFactory.create(GlobalOpenTelemetry.get());
+    instrumenter = JavaagentHttpClientInstrumenters.create(builder);
+    connectionMetrics = builder.buildConnectionMetrics();
+  }
 
   public static Instrumenter<Request, Response> instrumenter() {
     return instrumenter;
   }
 
+  @Nullable
+  public static HttpClientConnectionMetrics connectionMetrics() {
+    return connectionMetrics;
+  }
+
   private JettyHttpClientSingletons() {}
 }
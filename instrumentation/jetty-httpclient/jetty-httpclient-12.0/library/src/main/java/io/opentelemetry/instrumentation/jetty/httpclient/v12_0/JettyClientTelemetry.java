@@ -6,7 +6,10 @@
 package io.opentelemetry.instrumentation.jetty.httpclient.v12_0;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.jetty.httpclient.v12_0.internal.JettyConnectionPools;
+import javax.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpClientTransport;
 import org.eclipse.jetty.client.Request;
@@ -15,6 +18,7 @@ import org.eclipse.jetty.client.Response;
 /** Entrypoint for instrumenting Jetty client. */
 public final class JettyClientTelemetry {
   private final Instrumenter<Request, Response> instrumenter;
+  @Nullable private final HttpClientConnectionMetrics connectionMetrics;
 
   /** Returns a new instance configured with the given {@link OpenTelemetry} instance. */
   public static JettyClientTelemetry create(OpenTelemetry openTelemetry) {
@@ -27,13 +31,16 @@ public final class JettyClientTelemetry {
     return new JettyClientTelemetryBuilder(openTelemetry);
   }
 
-  JettyClientTelemetry(Instrumenter<Request, Response> instrumenter) {
+  JettyClientTelemetry(
+      Instrumenter<Request, Response> instrumenter,
+      @Nullable HttpClientConnectionMetrics connectionMetrics) {
     this.instrumenter = instrumenter;
+    this.connectionMetrics = connectionMetrics;
   }
 
   /** Returns an instrumented HTTP client. */
   public HttpClient createHttpClient() {
-    return new TracingHttpClient(instrumenter);
+    return register(new TracingHttpClient(instrumenter));
   }
 
   /**
@@ -42,6 +49,11 @@ public final class JettyClientTelemetry {
    * @param httpClientTransport the HTTP client transport to use
    */
   public HttpClient createHttpClient(HttpClientTransport httpClientTransport) {
-    return new TracingHttpClient(instrumenter, httpClientTransport);
+    return register(new TracingHttpClient(instrumenter, httpClientTransport));
+  }
+
+  private HttpClient register(HttpClient client) {
+    JettyConnectionPools.register(connectionMetrics, client);
+    return client;
   }
 }
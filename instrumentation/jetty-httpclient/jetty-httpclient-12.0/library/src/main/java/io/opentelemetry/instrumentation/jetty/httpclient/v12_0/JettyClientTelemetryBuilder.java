@@ -144,6 +144,6 @@ public final class JettyClientTelemetryBuilder {
   /** Returns a new instance with the configured settings. */
   public JettyClientTelemetry build() {
     var instrumenter = builder.build();
-    return new JettyClientTelemetry(instrumenter);
+    return new JettyClientTelemetry(instrumenter, builder.buildConnectionMetrics());
   }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jetty.httpclient.v12_0.internal;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics.ConnectionPoolReader;
+import javax.annotation.Nullable;
+import org.eclipse.jetty.client.AbstractConnectionPool;
+import org.eclipse.jetty.client.Destination;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.Origin;
+
+/**
+ * This class is internal and is hence not for public use. Its APIs are unstable and can change at
+ * any time.
+ */
+public final class JettyConnectionPools {
+
+  private static final ConnectionPoolReader<HttpClient> reader =
+      (client, recorder) -> {
+        for (Destination destination : client.getDestinations()) {
+          // custom pools do not have to expose their connection counts
+          if (destination.getConnectionPool() instanceof AbstractConnectionPool) {
+            AbstractConnectionPool pool = (AbstractConnectionPool) destination.getConnectionPool();
+            Origin.Address address = destination.getOrigin().getAddress();
+            recorder.record(
+                address.getHost(),
+                address.getPort(),
+                pool.getActiveConnectionCount(),
+                pool.getIdleConnectionCount());
+          }
+        }
+      };
+
+  /** Reports the connections of the {@code client}, if the metrics are enabled. */
+  public static void register(
+      @Nullable HttpClientConnectionMetrics connectionMetrics, HttpClient client) {
+    if (connectionMetrics != null) {
+      connectionMetrics.registerConnectionPool(client, reader);
+    }
+  }
+
+  private JettyConnectionPools() {}
+}
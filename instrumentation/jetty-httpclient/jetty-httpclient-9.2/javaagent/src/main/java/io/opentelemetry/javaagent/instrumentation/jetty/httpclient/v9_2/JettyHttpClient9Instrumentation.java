@@ -8,12 +8,14 @@ package io.opentelemetry.javaagent.instrumentation.jetty.httpclient.v9_2;
 import static io.opentelemetry.instrumentation.jetty.httpclient.v9_2.internal.JettyClientWrapUtil.wrapResponseListeners;
 import static io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge.currentContext;
 import static io.opentelemetry.javaagent.instrumentation.jetty.httpclient.v9_2.JettyHttpClientSingletons.instrumenter;
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.jetty.httpclient.v9_2.internal.JettyClientTracingListener;
+import io.opentelemetry.instrumentation.jetty.httpclient.v9_2.internal.JettyConnectionPools;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import java.util.List;
@@ -23,6 +25,7 @@ import net.bytebuddy.asm.Advice.AssignReturned;
 import net.bytebuddy.asm.Advice.AssignReturned.ToArguments.ToArgument;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
+import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpRequest;
 import org.eclipse.jetty.client.api.Response;
 
@@ -39,6 +42,8 @@ class JettyHttpClient9Instrumentation implements TypeInstrumentation {
             .and(takesArgument(0, named("org.eclipse.jetty.client.HttpRequest")))
             .and(takesArgument(1, List.class)),
         getClass().getName() + "$JettyHttpClient9Advice");
+    transformer.applyAdviceToMethod(
+        isConstructor(), getClass().getName() + "$JettyHttpClient9ConstructorAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -92,4 +97,14 @@ class JettyHttpClient9Instrumentation implements TypeInstrumentation {
       }
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class JettyHttpClient9ConstructorAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void registerConnectionPools(@Advice.This HttpClient client) {
+      // constructors delegating to each other register the same client again, which has no effect
+      JettyConnectionPools.register(JettyHttpClientSingletons.connectionMetrics(), client);
+    }
+  }
 }
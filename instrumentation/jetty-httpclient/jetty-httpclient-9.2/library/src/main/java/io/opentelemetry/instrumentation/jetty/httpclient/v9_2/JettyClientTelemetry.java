@@ -6,7 +6,10 @@
 package io.opentelemetry.instrumentation.jetty.httpclient.v9_2;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.jetty.httpclient.v9_2.internal.JettyConnectionPools;
+import javax.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpClientTransport;
 import org.eclipse.jetty.client.api.Request;
@@ -16,6 +19,7 @@ import org.eclipse.jetty.util.ssl.SslContextFactory;
 /** Entrypoint for instrumenting Jetty client. */
 public final class JettyClientTelemetry {
   private final Instrumenter<Request, Response> instrumenter;
+  @Nullable private final HttpClientConnectionMetrics connectionMetrics;
 
   /** Returns a new instance configured with the given {@link OpenTelemetry} instance. */
   public static JettyClientTelemetry create(OpenTelemetry openTelemetry) {
@@ -28,13 +32,16 @@ public final class JettyClientTelemetry {
     return new JettyClientTelemetryBuilder(openTelemetry);
   }
 
-  JettyClientTelemetry(Instrumenter<Request, Response> instrumenter) {
+  JettyClientTelemetry(
+      Instrumenter<Request, Response> instrumenter,
+      @Nullable HttpClientConnectionMetrics connectionMetrics) {
     this.instrumenter = instrumenter;
+    this.connectionMetrics = connectionMetrics;
   }
 
   /** Returns an instrumented HTTP client. */
   public HttpClient createHttpClient() {
-    return new TracingHttpClient(instrumenter);
+    return register(new TracingHttpClient(instrumenter));
   }
 
   /**
@@ -43,7 +50,7 @@ public final class JettyClientTelemetry {
    * @param sslContextFactory the SSL context factory to use for HTTPS support
    */
   public HttpClient createHttpClient(SslContextFactory sslContextFactory) {
-    return new TracingHttpClient(instrumenter, sslContextFactory);
+    return register(new TracingHttpClient(instrumenter, sslContextFactory));
   }
 
   /**
@@ -55,6 +62,11 @@ public final class JettyClientTelemetry {
    */
   public HttpClient createHttpClient(
       HttpClientTransport httpClientTransport, SslContextFactory sslContextFactory) {
-    return new TracingHttpClient(instrumenter, httpClientTransport, sslContextFactory);
+    return register(new TracingHttpClient(instrumenter, httpClientTransport, sslContextFactory));
+  }
+
+  private HttpClient register(HttpClient client) {
+    JettyConnectionPools.register(connectionMetrics, client);
+    return client;
   }
 }
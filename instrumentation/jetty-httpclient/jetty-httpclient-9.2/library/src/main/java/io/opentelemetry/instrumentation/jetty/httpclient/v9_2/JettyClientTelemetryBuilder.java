@@ -145,6 +145,6 @@ public final class JettyClientTelemetryBuilder {
   /** Returns a new instance with the configured settings. */
   public JettyClientTelemetry build() {
     Instrumenter<Request, Response> instrumenter = builder.build();
-    return new JettyClientTelemetry(instrumenter);
+    return new JettyClientTelemetry(instrumenter, builder.buildConnectionMetrics());
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jetty.httpclient.v9_2.internal;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics.ConnectionPoolReader;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Destination;
+
+/**
+ * Reports the active and idle connections of the destinations of a Jetty client. The connection
+ * pool API differs between Jetty 9.2 (a {@code ConnectionPool} class exposing the connection
+ * queues) and 9.4 and later (pool implementations exposing the connection counts), so the pools are
+ * read reflectively.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class JettyConnectionPools {
+
+  private static final ClassValue<Optional<Method>> getConnectionPool =
+      new MethodLookup("getConnectionPool");
+  private static final ClassValue<Optional<Method>> getActiveConnections =
+      new MethodLookup("getActiveConnectionCount", "getActiveConnections");
+  private static final ClassValue<Optional<Method>> getIdleConnections =
+      new MethodLookup("getIdleConnectionCount", "getIdleConnections");
+
+  private static final ConnectionPoolReader<HttpClient> reader =
+      (client, recorder) -> {
+        for (Destination destination : client.getDestinations()) {
+          Object pool = invoke(getConnectionPool, destination);
+          if (pool == null) {
+            continue;
+          }
+          recorder.record(
+              destination.getHost(),
+              destination.getPort(),
+              count(invoke(getActiveConnections, pool)),
+              count(invoke(getIdleConnections, pool)));
+        }
+      };
+
+  /** Reports the connections of the {@code client}, if the metrics are enabled. */
+  public static void register(
+      @Nullable HttpClientConnectionMetrics connectionMetrics, HttpClient client) {
+    if (connectionMetrics != null) {
+      connectionMetrics.registerConnectionPool(client, reader);
+    }
+  }
+
+  @Nullable
+  private static Object invoke(ClassValue<Optional<Method>> method, Object target) {
+    Optional<Method> resolved = method.get(target.getClass());
+    if (!resolved.isPresent()) {
+      return null;
+    }
+    try {
+      return resolved.get().invoke(target);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  private static long count(@Nullable Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).longValue();
+    }
+    if (value instanceof Collection) {
+      return ((Collection<?>) value).size();
+    }
+    return 0;
+  }
+
+  private static final class MethodLookup extends ClassValue<Optional<Method>> {
+    private final String[] names;
+
+    MethodLookup(String... names) {
+      this.names = names;
+    }
+
+    @Override
+    protected Optional<Method> computeValue(Class<?> type) {
+      for (String name : names) {
+        Method method;
+        try {
+          method = type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+          continue;
+        }
+        try {
+          // the pool implementation classes are not always public
+          method.setAccessible(true);
+        } catch (RuntimeException ignored) {
+          // invoke the method without it
+        }
+        return Optional.of(method);
+      }
+      return Optional.empty();
+    }
+  }
+
+  private JettyConnectionPools() {}
+}
@@ -30,6 +30,7 @@ public class Jetty8Singletons {
               .addContextCustomizer(
                   (context, request, attributes) -> new AppServerBridge.Builder().init(context))
               .propagateOperationListenersToOnEnd()
+              .countMessageBodySizes()
               .build(INSTRUMENTATION_NAME, Servlet3Accessor.INSTANCE);
 
   private static final JettyHelper<HttpServletRequest, HttpServletResponse> helper =
@@ -40,7 +40,16 @@ public class KafkaSingletons {
                 DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "kafka")
                     .getBoolean("experimental_span_attributes/development", false))
             .setMessagingReceiveTelemetryEnabled(
-                ExperimentalConfig.get().messagingReceiveInstrumentationEnabled());
+                ExperimentalConfig.get().messagingReceiveInstrumentationEnabled())
+            .setMaxBatchSpanLinks(
+                DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "kafka")
+                    .getInt(
+                        "max_batch_span_links/development",
+                        KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS))
+            .setCaptureBatchUpstreamTraceCount(
+                DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "kafka")
+                    .get("batch_upstream_trace_count/development")
+                    .getBoolean("enabled", false));
     producerInstrumenter = instrumenterFactory.createProducerInstrumenter();
     consumerReceiveInstrumenter = instrumenterFactory.createConsumerReceiveInstrumenter();
     consumerProcessInstrumenter = instrumenterFactory.createConsumerProcessInstrumenter();
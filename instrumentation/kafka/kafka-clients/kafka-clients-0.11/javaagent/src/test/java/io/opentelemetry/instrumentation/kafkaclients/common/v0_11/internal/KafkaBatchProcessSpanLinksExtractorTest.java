@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
 
+import static io.opentelemetry.api.common.AttributeKey.longKey;
 import static io.opentelemetry.instrumentation.api.internal.SemconvStability.emitStableMessagingSemconv;
 import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_DESTINATION_NAME;
 import static io.opentelemetry.semconv.incubating.MessagingIncubatingAttributes.MESSAGING_DESTINATION_PARTITION_ID;
@@ -20,7 +21,9 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
@@ -40,13 +43,6 @@ import org.junit.jupiter.api.Test;
 
 class KafkaBatchProcessSpanLinksExtractorTest {
 
-  private static final SpanContext LINK_CONTEXT =
-      SpanContext.createFromRemoteParent(
-          "00000000000000000000000000000001",
-          "0000000000000001",
-          TraceFlags.getSampled(),
-          TraceState.getDefault());
-
   @Test
   void keepsCommonPartitionOnBatchSpan() {
     assumeTrue(emitStableMessagingSemconv());
@@ -177,6 +173,57 @@ class KafkaBatchProcessSpanLinksExtractorTest {
     assertThat(links.linksWithoutAttributes).isEqualTo(2);
   }
 
+  @Test
+  void deduplicatesIdenticalLegacyLinks() {
+    assumeFalse(emitStableMessagingSemconv());
+    KafkaReceiveRequest request =
+        request(record("topic-a", 1, 10, "key"), record("topic-b", 2, 10, "key"));
+
+    RecordingSpanLinksBuilder links = extractLinks(request);
+
+    assertThat(links.attributes).containsExactly(Attributes.empty());
+  }
+
+  @Test
+  void capsLinksWithoutParsingRemainingHeaders() {
+    KafkaReceiveRequest request =
+        request(
+            record("topic", 0, 1, "key"),
+            record("topic", 0, 2, "key"),
+            record("topic", 0, 3, "key"));
+    TestPropagator propagator = new TestPropagator();
+
+    RecordingSpanLinksBuilder links = new RecordingSpanLinksBuilder();
+    new KafkaBatchProcessSpanLinksExtractor(propagator, 2, false)
+        .extract(links, Context.root(), request);
+
+    assertThat(links.attributes).hasSize(2);
+    assertThat(propagator.extractCount).isEqualTo(2);
+    assertThat(request.getUpstreamTraceCount()).isNull();
+  }
+
+  @Test
+  void countsUpstreamTracesOfAllRecords() {
+    KafkaReceiveRequest request =
+        request(
+            record("topic", 0, 1, "trace-a"),
+            record("topic", 0, 2, "trace-a"),
+            record("topic", 0, 3, "trace-b"));
+    TestPropagator propagator = new TestPropagator();
+
+    RecordingSpanLinksBuilder links = new RecordingSpanLinksBuilder();
+    new KafkaBatchProcessSpanLinksExtractor(propagator, 1, true)
+        .extract(links, Context.root(), request);
+    AttributesBuilder spanAttributes = Attributes.builder();
+    new KafkaBatchProcessExperimentalAttributesExtractor()
+        .onStart(spanAttributes, Context.root(), request);
+
+    assertThat(links.attributes).hasSize(1);
+    assertThat(propagator.extractCount).isEqualTo(3);
+    assertThat(spanAttributes.build())
+        .isEqualTo(Attributes.of(longKey("kafka.batch.upstream_trace_count"), 2L));
+  }
+
   @Test
   void doesNotSerializeByteBufferKey() {
     assertThat(KafkaUtil.serializeKey(ByteBuffer.wrap(new byte[] {1}))).isNull();
@@ -184,7 +231,8 @@ class KafkaBatchProcessSpanLinksExtractorTest {
 
   private static RecordingSpanLinksBuilder extractLinks(KafkaReceiveRequest request) {
     RecordingSpanLinksBuilder links = new RecordingSpanLinksBuilder();
-    new KafkaBatchProcessSpanLinksExtractor(new TestPropagator())
+    new KafkaBatchProcessSpanLinksExtractor(
+            new TestPropagator(), KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS, false)
         .extract(links, Context.root(), request);
     return links;
   }
@@ -238,7 +286,11 @@ class KafkaBatchProcessSpanLinksExtractorTest {
     }
   }
 
+  // links every record to a span that is identified by its offset, in a trace that is identified by
+  // its key
   private static final class TestPropagator implements TextMapPropagator {
+    private int extractCount;
+
     @Override
     public List<String> fields() {
       return emptyList();
@@ -249,7 +301,15 @@ class KafkaBatchProcessSpanLinksExtractorTest {
 
     @Override
     public <C> Context extract(Context context, C carrier, TextMapGetter<C> getter) {
-      return Context.root().with(Span.wrap(LINK_CONTEXT));
+      extractCount++;
+      ConsumerRecord<?, ?> record = ((KafkaProcessRequest) carrier).getRecord();
+      SpanContext spanContext =
+          SpanContext.createFromRemoteParent(
+              TraceId.fromLongs(1, record.key().hashCode()),
+              SpanId.fromLong(record.offset() + 1),
+              TraceFlags.getSampled(),
+              TraceState.getDefault());
+      return Context.root().with(Span.wrap(spanContext));
     }
   }
 }
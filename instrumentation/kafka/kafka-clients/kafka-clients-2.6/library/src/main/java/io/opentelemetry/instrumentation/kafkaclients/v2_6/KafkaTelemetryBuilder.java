@@ -35,6 +35,8 @@ public final class KafkaTelemetryBuilder {
   private boolean captureExperimentalSpanAttributes = false;
   private boolean propagationEnabled = true;
   private boolean messagingReceiveInstrumentationEnabled = false;
+  private int maxBatchSpanLinks = KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS;
+  private boolean captureBatchUpstreamTraceCount = false;
 
   KafkaTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = requireNonNull(openTelemetry);
@@ -138,12 +140,36 @@ public final class KafkaTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of span links that a batch receive span links to the records of its
+   * batch. Records with identical upstream contexts share a link. Defaults to 128.
+   */
+  @CanIgnoreReturnValue
+  public KafkaTelemetryBuilder setMaxBatchSpanLinks(int maxBatchSpanLinks) {
+    this.maxBatchSpanLinks = maxBatchSpanLinks;
+    return this;
+  }
+
+  /**
+   * Sets whether batch receive spans report the number of distinct upstream traces of their records
+   * in the experimental {@code kafka.batch.upstream_trace_count} attribute. Disabled by default,
+   * since computing it parses the headers of every record of the batch.
+   */
+  @CanIgnoreReturnValue
+  public KafkaTelemetryBuilder setCaptureBatchUpstreamTraceCount(
+      boolean captureBatchUpstreamTraceCount) {
+    this.captureBatchUpstreamTraceCount = captureBatchUpstreamTraceCount;
+    return this;
+  }
+
   public KafkaTelemetry build() {
     KafkaInstrumenterFactory instrumenterFactory =
         new KafkaInstrumenterFactory(openTelemetry, INSTRUMENTATION_NAME)
             .setHeaders(headers)
             .setCaptureExperimentalSpanAttributes(captureExperimentalSpanAttributes)
-            .setMessagingReceiveTelemetryEnabled(messagingReceiveInstrumentationEnabled);
+            .setMessagingReceiveTelemetryEnabled(messagingReceiveInstrumentationEnabled)
+            .setMaxBatchSpanLinks(maxBatchSpanLinks)
+            .setCaptureBatchUpstreamTraceCount(captureBatchUpstreamTraceCount);
 
     return new KafkaTelemetry(
         openTelemetry,
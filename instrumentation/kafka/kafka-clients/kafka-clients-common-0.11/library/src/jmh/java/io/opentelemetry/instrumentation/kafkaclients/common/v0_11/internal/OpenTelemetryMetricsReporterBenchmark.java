@@ -0,0 +1,117 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Simulates a consumer rebalance: the per-partition fetch metrics of all assigned partitions are
+ * added to the reporter, and removed again when the partitions are revoked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(MILLISECONDS)
+@State(Scope.Thread)
+public class OpenTelemetryMetricsReporterBenchmark {
+
+  @Param({"5000"})
+  public int partitions;
+
+  private Metrics metrics;
+  private List<KafkaMetric> partitionMetrics;
+  private OpenTelemetryMetricsReporter reporter;
+
+  @Setup
+  public void setUp() {
+    metrics = new Metrics();
+    partitionMetrics = new ArrayList<>();
+    for (int partition = 0; partition < partitions; partition++) {
+      Map<String, String> tags = new HashMap<>();
+      tags.put("client-id", "consumer-1");
+      tags.put("topic", "topic-" + (partition % 10));
+      tags.put("partition", String.valueOf(partition));
+      Sensor sensor = metrics.sensor("partition-" + partition + ".records-lag");
+      sensor.add(metricName("records-lag", tags), new Value());
+      sensor.add(metricName("records-lag-avg", tags), new Avg());
+      sensor.add(metricName("records-lag-max", tags), new Max());
+    }
+    for (KafkaMetric metric : metrics.metrics().values()) {
+      if (metric.metricName().tags().containsKey("partition")) {
+        partitionMetrics.add(metric);
+      }
+    }
+
+    // the client level metrics that the partition level metrics replace
+    Map<String, String> clientTags = new HashMap<>();
+    clientTags.put("client-id", "consumer-1");
+    Sensor clientSensor = metrics.sensor("records-lag");
+    clientSensor.add(metricName("records-lag-max", clientTags), new Max());
+
+    reporter = new OpenTelemetryMetricsReporter();
+    Map<String, Object> config = new HashMap<>();
+    config.put(
+        OpenTelemetryMetricsReporter.CONFIG_KEY_OPENTELEMETRY_SUPPLIER,
+        new OpenTelemetrySupplier(
+            OpenTelemetrySdk.builder().setMeterProvider(SdkMeterProvider.builder().build()).build()));
+    config.put(
+        OpenTelemetryMetricsReporter.CONFIG_KEY_OPENTELEMETRY_INSTRUMENTATION_NAME, "benchmark");
+    reporter.configure(config);
+    reporter.init(new ArrayList<>(metrics.metrics().values()));
+  }
+
+  @TearDown
+  public void tearDown() {
+    reporter.close();
+    metrics.close();
+  }
+
+  @Benchmark
+  public void rebalance() {
+    for (KafkaMetric metric : partitionMetrics) {
+      reporter.metricRemoval(metric);
+    }
+    for (KafkaMetric metric : partitionMetrics) {
+      reporter.metricChange(metric);
+    }
+  }
+
+  @Benchmark
+  public void initBatch() {
+    reporter.init(partitionMetrics);
+  }
+
+  private MetricName metricName(String name, Map<String, String> tags) {
+    return metrics.metricName(name, "consumer-fetch-manager-metrics", name, tags);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import javax.annotation.Nullable;
+
+final class KafkaBatchProcessExperimentalAttributesExtractor
+    implements AttributesExtractor<KafkaReceiveRequest, Void> {
+
+  private static final AttributeKey<Long> KAFKA_BATCH_UPSTREAM_TRACE_COUNT =
+      longKey("kafka.batch.upstream_trace_count");
+
+  @Override
+  public void onStart(
+      AttributesBuilder attributes, Context parentContext, KafkaReceiveRequest request) {
+
+    // this attribute shows how many distinct traces the records of the batch were sent from, which
+    // the span links can no longer show when they are capped
+    Integer upstreamTraceCount = request.getUpstreamTraceCount();
+    if (upstreamTraceCount != null) {
+      attributes.put(KAFKA_BATCH_UPSTREAM_TRACE_COUNT, upstreamTraceCount.longValue());
+    }
+  }
+
+  @Override
+  public void onEnd(
+      AttributesBuilder attributes,
+      Context context,
+      KafkaReceiveRequest request,
+      @Nullable Void unused,
+      @Nullable Throwable error) {}
+}
@@ -8,47 +8,75 @@ package io.opentelemetry.instrumentation.kafkaclients.common.v0_11.internal;
 import static io.opentelemetry.instrumentation.api.internal.SemconvStability.emitStableMessagingSemconv;
 
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksExtractor;
-import io.opentelemetry.instrumentation.api.internal.PropagatorBasedSpanLinksExtractor;
+import java.util.HashSet;
+import java.util.Set;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 final class KafkaBatchProcessSpanLinksExtractor implements SpanLinksExtractor<KafkaReceiveRequest> {
 
-  private final SpanLinksExtractor<KafkaProcessRequest> singleRecordLinkExtractor;
   private final TextMapPropagator propagator;
   private final KafkaConsumerRecordGetter recordGetter;
+  private final int maxLinks;
+  private final boolean countUpstreamTraces;
 
-  KafkaBatchProcessSpanLinksExtractor(TextMapPropagator propagator) {
+  KafkaBatchProcessSpanLinksExtractor(
+      TextMapPropagator propagator, int maxLinks, boolean countUpstreamTraces) {
     this.propagator = propagator;
     this.recordGetter = new KafkaConsumerRecordGetter();
-    this.singleRecordLinkExtractor =
-        new PropagatorBasedSpanLinksExtractor<>(propagator, recordGetter);
+    this.maxLinks = maxLinks;
+    this.countUpstreamTraces = countUpstreamTraces;
   }
 
   @Override
   public void extract(
       SpanLinksBuilder spanLinks, Context parentContext, KafkaReceiveRequest request) {
 
-    if (!emitStableMessagingSemconv()) {
-      for (ConsumerRecord<?, ?> record : request.getRecords()) {
-        singleRecordLinkExtractor.extract(
-            spanLinks,
-            parentContext,
-            KafkaProcessRequest.create(record, request.getConsumerGroup(), request.getClientId()));
+    boolean stableSemconv = emitStableMessagingSemconv();
+    // the stable links carry the offset of their record, so they are never identical, and links
+    // are only deduplicated when the old semantic conventions are emitted
+    Set<SpanContext> linkedContexts = new HashSet<>();
+    Set<String> upstreamTraceIds = countUpstreamTraces ? new HashSet<>() : null;
+    int linkCount = 0;
+    for (ConsumerRecord<?, ?> record : request.getRecords()) {
+      boolean linkRecord = linkCount < maxLinks;
+      // headers are only parsed for records that are linked, unless all of them are needed for
+      // the upstream trace count
+      if (!linkRecord && upstreamTraceIds == null) {
+        break;
+      }
+      SpanContext spanContext = extractSpanContext(request, record);
+      if (!spanContext.isValid()) {
+        continue;
+      }
+      if (upstreamTraceIds != null) {
+        upstreamTraceIds.add(spanContext.getTraceId());
+      }
+      if (!linkRecord) {
+        continue;
+      }
+      if (stableSemconv) {
+        spanLinks.addLink(
+            spanContext, request.getBatchRecordAttributes().getLinkAttributes(record));
+        linkCount++;
+      } else if (linkedContexts.add(spanContext)) {
+        spanLinks.addLink(spanContext);
+        linkCount++;
       }
-      return;
     }
-
-    KafkaBatchRecordAttributes attributes = request.getBatchRecordAttributes();
-    for (ConsumerRecord<?, ?> record : request.getRecords()) {
-      KafkaProcessRequest processRequest =
-          KafkaProcessRequest.create(record, request.getConsumerGroup(), request.getClientId());
-      Context extracted = propagator.extract(Context.root(), processRequest, recordGetter);
-      spanLinks.addLink(
-          Span.fromContext(extracted).getSpanContext(), attributes.getLinkAttributes(record));
+    if (upstreamTraceIds != null) {
+      request.setUpstreamTraceCount(upstreamTraceIds.size());
     }
   }
+
+  private SpanContext extractSpanContext(KafkaReceiveRequest request, ConsumerRecord<?, ?> record) {
+    KafkaProcessRequest processRequest =
+        KafkaProcessRequest.create(record, request.getConsumerGroup(), request.getClientId());
+    Context extracted = propagator.extract(Context.root(), processRequest, recordGetter);
+    return Span.fromContext(extracted).getSpanContext();
+  }
 }
@@ -48,6 +48,8 @@ public final class KafkaInstrumenterFactory {
   private static final String SEND_OPERATION_NAME = "send";
   private static final String POLL_OPERATION_NAME = "poll";
   private static final String PROCESS_OPERATION_NAME = "process";
+  // the SDK drops the links beyond its default span limit anyway
+  public static final int DEFAULT_MAX_BATCH_SPAN_LINKS = 128;
   // copied from MessagingIncubatingAttributes
   private static final AttributeKey<Long> MESSAGING_BATCH_MESSAGE_COUNT =
       AttributeKey.longKey("messaging.batch.message_count");
@@ -84,6 +86,8 @@ public final class KafkaInstrumenterFactory {
   private IncludeExclude headers = IncludeExclude.builder().build();
   private boolean captureExperimentalSpanAttributes = false;
   private boolean messagingReceiveInstrumentationEnabled = false;
+  private int maxBatchSpanLinks = DEFAULT_MAX_BATCH_SPAN_LINKS;
+  private boolean captureBatchUpstreamTraceCount = false;
 
   public KafkaInstrumenterFactory(OpenTelemetry openTelemetry, String instrumentationName) {
     this.openTelemetry = openTelemetry;
@@ -116,6 +120,29 @@ public final class KafkaInstrumenterFactory {
     return this;
   }
 
+  /**
+   * Sets the maximum number of span links that a batch receive or batch process span links to the
+   * records of its batch. Links to identical contexts count once, and the headers of the records
+   * beyond the limit are not parsed.
+   */
+  @CanIgnoreReturnValue
+  public KafkaInstrumenterFactory setMaxBatchSpanLinks(int maxBatchSpanLinks) {
+    this.maxBatchSpanLinks = maxBatchSpanLinks;
+    return this;
+  }
+
+  /**
+   * Sets whether batch receive and batch process spans report the number of distinct upstream
+   * traces of their records in {@code kafka.batch.upstream_trace_count}. Computing it parses the
+   * headers of every record of the batch, including those beyond the span link limit.
+   */
+  @CanIgnoreReturnValue
+  public KafkaInstrumenterFactory setCaptureBatchUpstreamTraceCount(
+      boolean captureBatchUpstreamTraceCount) {
+    this.captureBatchUpstreamTraceCount = captureBatchUpstreamTraceCount;
+    return this;
+  }
+
   public Instrumenter<KafkaProducerRequest, RecordMetadata> createProducerInstrumenter() {
     return createProducerInstrumenter(emptyList());
   }
@@ -194,9 +221,10 @@ public final class KafkaInstrumenterFactory {
     }
     if (emitStableMessagingSemconv()) {
       addReceiveConsumedMessages(builder);
-      builder.addSpanLinksExtractor(
-          new KafkaBatchProcessSpanLinksExtractor(
-              openTelemetry.getPropagators().getTextMapPropagator()));
+      builder.addSpanLinksExtractor(createBatchSpanLinksExtractor());
+      if (captureBatchUpstreamTraceCount) {
+        builder.addAttributesExtractor(new KafkaBatchProcessExperimentalAttributesExtractor());
+      }
     }
     setMessagingReceiveExceptionEventExtractor(builder);
     return builder.buildInstrumenter(MessagingSpanKindExtractor.create(operationType));
@@ -316,17 +344,27 @@ public final class KafkaInstrumenterFactory {
                 buildMessagingAttributesExtractor(
                     getter, operationType, PROCESS_OPERATION_NAME, headers))
             .addAttributesExtractor(new KafkaReceiveAttributesExtractor())
-            .addSpanLinksExtractor(
-                new KafkaBatchProcessSpanLinksExtractor(
-                    openTelemetry.getPropagators().getTextMapPropagator()))
+            .addSpanLinksExtractor(createBatchSpanLinksExtractor())
             .addOperationMetrics(MessagingProcessMetrics.get())
             .setErrorCauseExtractor(errorCauseExtractor);
+    if (captureBatchUpstreamTraceCount) {
+      builder.addAttributesExtractor(new KafkaBatchProcessExperimentalAttributesExtractor());
+    }
     addConsumedMessagesIfNoReceiveOperation(
         builder, request -> countConsumedMessages(request.getRecords()));
     setMessagingProcessExceptionEventExtractor(builder);
     return builder.buildInstrumenter(SpanKindExtractor.alwaysConsumer());
   }
 
+  // counting the upstream traces means parsing the headers of every record in the batch, so it is
+  // only done when the attribute that reports the count is enabled
+  private KafkaBatchProcessSpanLinksExtractor createBatchSpanLinksExtractor() {
+    return new KafkaBatchProcessSpanLinksExtractor(
+        openTelemetry.getPropagators().getTextMapPropagator(),
+        maxBatchSpanLinks,
+        captureBatchUpstreamTraceCount);
+  }
+
   private static Attributes withConsumedMessagesCount(
       Attributes attributes, long consumedMessagesCount) {
     return attributes.toBuilder().put(MESSAGING_BATCH_MESSAGE_COUNT, consumedMessagesCount).build();
@@ -17,6 +17,7 @@ public class KafkaReceiveRequest extends AbstractKafkaConsumerRequest {
 
   private final ConsumerRecords<?, ?> records;
   @Nullable private KafkaBatchRecordAttributes batchRecordAttributes;
+  @Nullable private Integer upstreamTraceCount;
 
   public static KafkaReceiveRequest create(
       ConsumerRecords<?, ?> records, @Nullable Consumer<?, ?> consumer) {
@@ -51,4 +52,14 @@ public class KafkaReceiveRequest extends AbstractKafkaConsumerRequest {
     }
     return batchRecordAttributes;
   }
+
+  // set by the span links extractor, which runs before the attributes extractors
+  @Nullable
+  Integer getUpstreamTraceCount() {
+    return upstreamTraceCount;
+  }
+
+  void setUpstreamTraceCount(int upstreamTraceCount) {
+    this.upstreamTraceCount = upstreamTraceCount;
+  }
 }
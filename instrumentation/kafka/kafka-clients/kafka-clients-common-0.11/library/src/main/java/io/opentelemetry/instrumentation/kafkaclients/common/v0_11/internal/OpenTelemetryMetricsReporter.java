@@ -14,12 +14,16 @@ import io.opentelemetry.api.metrics.MeterBuilder;
 import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
 import io.opentelemetry.instrumentation.api.internal.GuardedBy;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
+import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.metrics.KafkaMetric;
 import org.apache.kafka.common.metrics.MetricsReporter;
 
@@ -48,8 +52,15 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
   @Nullable private volatile Meter meter;
   private final Object lock = new Object();
 
+  // registered observables by kafka metric name; there is at most one for every name
   @GuardedBy("lock")
-  private final List<RegisteredObservable> registeredObservables = new ArrayList<>();
+  private final Map<MetricName, RegisteredObservable> registeredObservables = new LinkedHashMap<>();
+
+  // names of the registered observables by instrument and attribute keys, used to find the lower
+  // dimension versions of an instrument without scanning all registered observables
+  @GuardedBy("lock")
+  private final Map<InstrumentDescriptor, Map<Set<AttributeKey<?>>, Set<MetricName>>>
+      metricNamesByInstrument = new HashMap<>();
 
   /**
    * Reset for test by resetting the {@link #meter} to {@code null} and closing all registered
@@ -62,7 +73,7 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
   // Visible for test
   List<RegisteredObservable> getRegisteredObservables() {
     synchronized (lock) {
-      return new ArrayList<>(registeredObservables);
+      return new ArrayList<>(registeredObservables.values());
     }
   }
 
@@ -74,7 +85,25 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
 
   @Override
   public void init(List<KafkaMetric> metrics) {
-    metrics.forEach(this::metricChange);
+    Meter currentMeter = meter;
+    if (currentMeter == null) {
+      // Ignore if meter hasn't been initialized in configure(Map<String, ?)
+      return;
+    }
+
+    // create the instruments first, so that the lock is only taken once for all of them
+    List<RegisteredObservable> newObservables = new ArrayList<>(metrics.size());
+    for (KafkaMetric metric : metrics) {
+      RegisteredObservable registeredObservable = toRegisteredObservable(currentMeter, metric);
+      if (registeredObservable != null) {
+        newObservables.add(registeredObservable);
+      }
+    }
+    synchronized (lock) {
+      for (RegisteredObservable registeredObservable : newObservables) {
+        register(registeredObservable);
+      }
+    }
   }
 
   @Override
@@ -85,51 +114,95 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
       return;
     }
 
+    RegisteredObservable registeredObservable = toRegisteredObservable(currentMeter, metric);
+    if (registeredObservable == null) {
+      return;
+    }
+    synchronized (lock) {
+      register(registeredObservable);
+    }
+  }
+
+  @Nullable
+  private static RegisteredObservable toRegisteredObservable(Meter meter, KafkaMetric metric) {
     RegisteredObservable registeredObservable =
-        KafkaMetricRegistry.getRegisteredObservable(currentMeter, metric);
+        KafkaMetricRegistry.getRegisteredObservable(meter, metric);
     if (registeredObservable == null) {
       logger.log(FINEST, "Metric changed but cannot map to instrument: {0}", metric.metricName());
-      return;
     }
+    return registeredObservable;
+  }
 
-    Set<AttributeKey<?>> attributeKeys = registeredObservable.getAttributes().asMap().keySet();
-    synchronized (lock) {
-      for (Iterator<RegisteredObservable> it = registeredObservables.iterator(); it.hasNext(); ) {
-        RegisteredObservable curRegisteredObservable = it.next();
-        Set<AttributeKey<?>> curAttributeKeys =
-            curRegisteredObservable.getAttributes().asMap().keySet();
-        if (curRegisteredObservable.getKafkaMetricName().equals(metric.metricName())) {
-          logger.log(FINEST, "Replacing instrument: {0}", curRegisteredObservable);
-          closeInstrument(curRegisteredObservable.getObservable());
-          it.remove();
-        } else if (curRegisteredObservable
-                .getInstrumentDescriptor()
-                .equals(registeredObservable.getInstrumentDescriptor())
-            && attributeKeys.size() > curAttributeKeys.size()
-            && attributeKeys.containsAll(curAttributeKeys)) {
-          logger.log(
-              FINEST,
-              "Replacing instrument with higher dimension version: {0}",
-              curRegisteredObservable);
-          closeInstrument(curRegisteredObservable.getObservable());
-          it.remove();
+  @GuardedBy("lock")
+  private void register(RegisteredObservable registeredObservable) {
+    RegisteredObservable sameName = unregister(registeredObservable.getKafkaMetricName());
+    if (sameName != null) {
+      logger.log(FINEST, "Replacing instrument: {0}", sameName);
+      closeInstrument(sameName.getObservable());
+    }
+
+    Map<Set<AttributeKey<?>>, Set<MetricName>> metricNamesByAttributeKeys =
+        metricNamesByInstrument.computeIfAbsent(
+            registeredObservable.getInstrumentDescriptor(), unused -> new HashMap<>());
+    Set<AttributeKey<?>> attributeKeys = attributeKeys(registeredObservable);
+    for (Iterator<Map.Entry<Set<AttributeKey<?>>, Set<MetricName>>> it =
+            metricNamesByAttributeKeys.entrySet().iterator();
+        it.hasNext(); ) {
+      Map.Entry<Set<AttributeKey<?>>, Set<MetricName>> entry = it.next();
+      Set<AttributeKey<?>> curAttributeKeys = entry.getKey();
+      if (attributeKeys.size() > curAttributeKeys.size()
+          && attributeKeys.containsAll(curAttributeKeys)) {
+        for (MetricName metricName : entry.getValue()) {
+          RegisteredObservable lowerDimension = registeredObservables.remove(metricName);
+          if (lowerDimension != null) {
+            logger.log(
+                FINEST, "Replacing instrument with higher dimension version: {0}", lowerDimension);
+            closeInstrument(lowerDimension.getObservable());
+          }
         }
+        it.remove();
       }
+    }
+
+    registeredObservables.put(registeredObservable.getKafkaMetricName(), registeredObservable);
+    metricNamesByAttributeKeys
+        .computeIfAbsent(attributeKeys, unused -> new HashSet<>())
+        .add(registeredObservable.getKafkaMetricName());
+  }
 
-      registeredObservables.add(registeredObservable);
+  @GuardedBy("lock")
+  @Nullable
+  private RegisteredObservable unregister(MetricName metricName) {
+    RegisteredObservable registeredObservable = registeredObservables.remove(metricName);
+    if (registeredObservable == null) {
+      return null;
+    }
+    Map<Set<AttributeKey<?>>, Set<MetricName>> metricNamesByAttributeKeys =
+        metricNamesByInstrument.get(registeredObservable.getInstrumentDescriptor());
+    if (metricNamesByAttributeKeys != null) {
+      Set<AttributeKey<?>> attributeKeys = attributeKeys(registeredObservable);
+      Set<MetricName> metricNames = metricNamesByAttributeKeys.get(attributeKeys);
+      if (metricNames != null) {
+        metricNames.remove(metricName);
+        if (metricNames.isEmpty()) {
+          metricNamesByAttributeKeys.remove(attributeKeys);
+        }
+      }
     }
+    return registeredObservable;
+  }
+
+  private static Set<AttributeKey<?>> attributeKeys(RegisteredObservable registeredObservable) {
+    return registeredObservable.getAttributes().asMap().keySet();
   }
 
   @Override
   public void metricRemoval(KafkaMetric metric) {
     logger.log(FINEST, "Metric removed: {0}", metric.metricName());
     synchronized (lock) {
-      for (Iterator<RegisteredObservable> it = registeredObservables.iterator(); it.hasNext(); ) {
-        RegisteredObservable current = it.next();
-        if (current.getKafkaMetricName().equals(metric.metricName())) {
-          closeInstrument(current.getObservable());
-          it.remove();
-        }
+      RegisteredObservable removed = unregister(metric.metricName());
+      if (removed != null) {
+        closeInstrument(removed.getObservable());
       }
     }
   }
@@ -141,10 +214,11 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
 
   private void closeAllInstruments() {
     synchronized (lock) {
-      for (Iterator<RegisteredObservable> it = registeredObservables.iterator(); it.hasNext(); ) {
-        closeInstrument(it.next().getObservable());
-        it.remove();
+      for (RegisteredObservable registeredObservable : registeredObservables.values()) {
+        closeInstrument(registeredObservable.getObservable());
       }
+      registeredObservables.clear();
+      metricNamesByInstrument.clear();
     }
   }
 
@@ -1,8 +1,10 @@
+import net.ltgt.gradle.errorprone.errorprone
 import org.jetbrains.kotlin.gradle.dsl.JvmTarget
 
 plugins {
   id("org.jetbrains.kotlin.jvm")
   id("otel.javaagent-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 muzzle {
@@ -44,6 +46,10 @@ dependencies {
   testLibrary("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.0.0")
   testLibrary("org.jetbrains.kotlinx:kotlinx-coroutines-reactor:1.0.0")
   testLibrary("io.vertx:vertx-lang-kotlin-coroutines:3.6.0")
+
+  jmhImplementation("io.opentelemetry:opentelemetry-extension-kotlin")
+  jmhImplementation("org.jetbrains.kotlin:kotlin-stdlib-jdk8")
+  jmhImplementation("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.0.0")
 }
 
 kotlin {
@@ -55,6 +61,13 @@ kotlin {
 }
 
 tasks {
+  // TODO this should live in jmh-conventions
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      enabled.set(false)
+    }
+  }
+
   val testV3Preview = register<Test>("testV3Preview") {
     testClassesDirs = sourceSets.test.get().output.classesDirs
     classpath = sourceSets.test.get().runtimeClasspath
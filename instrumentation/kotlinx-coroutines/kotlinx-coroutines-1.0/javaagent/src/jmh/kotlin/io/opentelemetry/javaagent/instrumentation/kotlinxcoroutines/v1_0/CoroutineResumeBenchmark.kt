@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kotlinxcoroutines.v1_0
+
+import io.opentelemetry.context.Context
+import io.opentelemetry.context.ContextKey
+import io.opentelemetry.extension.kotlin.asContextElement
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.withContext
+import kotlinx.coroutines.yield
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+import kotlin.coroutines.CoroutineContext
+
+/**
+ * Measures how much it costs to resume a coroutine that suspends [SUSPENSIONS] times. The
+ * dispatchers wrap every dispatched task the way the agent does, so the benchmark shows the cost
+ * of the stop-propagation wrapper. `root` runs the coroutine without an OpenTelemetry context, and
+ * `propagated` runs it with the context element that swaps the thread's context on every
+ * resumption.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+open class CoroutineResumeBenchmark {
+
+  companion object {
+    const val SUSPENSIONS = 100
+    val KEY: ContextKey<String> = ContextKey.named("benchmark-key")
+  }
+
+  @Param("default", "io", "unconfined")
+  lateinit var dispatcherName: String
+
+  @Param("root", "propagated")
+  lateinit var context: String
+
+  private lateinit var coroutineContext: CoroutineContext
+
+  @Setup
+  fun setUp() {
+    val dispatcher =
+      when (dispatcherName) {
+        "default" -> StopPropagationDispatcher(Dispatchers.Default)
+        "io" -> StopPropagationDispatcher(Dispatchers.IO)
+        // the unconfined dispatcher resumes in place and never dispatches
+        else -> Dispatchers.Unconfined
+      }
+    coroutineContext =
+      if (context == "propagated") {
+        dispatcher + Context.root().with(KEY, "value").asContextElement()
+      } else {
+        dispatcher
+      }
+  }
+
+  @Benchmark
+  fun resume() = runBlocking {
+    withContext(coroutineContext) {
+      repeat(SUSPENSIONS) {
+        yield()
+      }
+    }
+  }
+
+  // applies the same wrapper to dispatched tasks as the dispatcher instrumentation
+  class StopPropagationDispatcher(private val delegate: CoroutineDispatcher) : CoroutineDispatcher() {
+    override fun isDispatchNeeded(context: CoroutineContext): Boolean = delegate.isDispatchNeeded(context)
+
+    override fun dispatch(context: CoroutineContext, block: Runnable) {
+      delegate.dispatch(context, RunnableWrapper.stopPropagation(block))
+    }
+  }
+}
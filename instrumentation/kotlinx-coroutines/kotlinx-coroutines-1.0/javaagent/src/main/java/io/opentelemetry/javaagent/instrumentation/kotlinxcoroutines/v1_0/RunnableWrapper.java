@@ -11,6 +11,12 @@ import io.opentelemetry.context.Scope;
 public class RunnableWrapper {
 
   public static Runnable stopPropagation(Runnable runnable) {
+    // executor instrumentation does not propagate the root context, so when the dispatching thread
+    // does not carry any context there is nothing to stop and the task does not need to be wrapped;
+    // this is the common case when a coroutine is resumed from another dispatcher thread
+    if (Context.current() == Context.root()) {
+      return runnable;
+    }
     return () -> {
       try (Scope ignored = Context.root().makeCurrent()) {
         runnable.run();
@@ -51,11 +51,13 @@ import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.Arguments.arguments
 import org.junit.jupiter.params.provider.MethodSource
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
 import java.util.function.Consumer
 import java.util.stream.Stream
 import kotlin.coroutines.CoroutineContext
+import kotlin.coroutines.EmptyCoroutineContext
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @ExperimentalCoroutinesApi
@@ -598,4 +600,28 @@ class KotlinCoroutinesInstrumentationTest {
       }
     )
   }
+
+  // the dispatched task is not wrapped when the dispatching thread does not carry any context
+  @ParameterizedTest
+  @MethodSource("dispatchersSourceArguments")
+  fun `dispatch from root context runs in root context`(dispatcher: DispatcherWrapper) {
+    Assumptions.assumeTrue(dispatcher.dispatcher != Dispatchers.Unconfined)
+    assertThat(Context.current()).isSameAs(Context.root())
+
+    val dispatchedContext = CompletableFuture<Context>()
+    dispatcher.dispatcher.dispatch(EmptyCoroutineContext) {
+      tracer.spanBuilder("dispatched").startSpan().end()
+      dispatchedContext.complete(Context.current())
+    }
+
+    assertThat(dispatchedContext.get(10, TimeUnit.SECONDS)).isSameAs(Context.root())
+    testing.waitAndAssertTraces(
+      { trace ->
+        trace.hasSpansSatisfyingExactly({
+          it.hasName("dispatched")
+            .hasNoParent()
+        })
+      }
+    )
+  }
 }
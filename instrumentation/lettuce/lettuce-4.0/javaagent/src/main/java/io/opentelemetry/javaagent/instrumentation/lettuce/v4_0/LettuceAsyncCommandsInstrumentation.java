@@ -146,10 +146,8 @@ class LettuceAsyncCommandsInstrumentation implements TypeInstrumentation {
     public static void onExit(
         @Advice.Thrown @Nullable Throwable throwable,
         @Advice.Enter @Nullable LettuceBatchContext.BatchScope batchScope) {
-      if (throwable != null && batchScope != null) {
-        // Normally, BatchScope.start attaches callbacks to the command futures, and those
-        // callbacks report completion to the batch scope.
-        batchScope.endOne(throwable);
+      if (batchScope != null) {
+        batchScope.flushed(throwable);
       }
     }
   }
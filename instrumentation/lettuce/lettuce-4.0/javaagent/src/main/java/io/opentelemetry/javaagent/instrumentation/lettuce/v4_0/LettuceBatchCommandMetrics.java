@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.lettuce.v4_0;
+
+import static io.opentelemetry.javaagent.instrumentation.lettuce.v4_0.LettuceSingletons.INSTRUMENTATION_NAME;
+
+import com.lambdaworks.redis.protocol.RedisCommand;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientAttributesExtractor;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbClientMetrics;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
+import javax.annotation.Nullable;
+
+/**
+ * Records {@code db.client.operation.duration} for the individual commands of a manually flushed
+ * batch. The batch span describes the whole flush, but the metric describes database operations, so
+ * every command is recorded on its own, from the flush until its response has completed.
+ */
+final class LettuceBatchCommandMetrics {
+  private static final AttributesExtractor<RedisCommand<?, ?, ?>, Void> attributesExtractor =
+      DbClientAttributesExtractor.create(new LettuceDbAttributesGetter());
+  private static final OperationListener listener = DbClientMetrics.get().create(meter());
+
+  private static Meter meter() {
+    MeterBuilder meterBuilder =
+        GlobalOpenTelemetry.get().getMeterProvider().meterBuilder(INSTRUMENTATION_NAME);
+    String version = EmbeddedInstrumentationProperties.findVersion(INSTRUMENTATION_NAME);
+    if (version != null) {
+      meterBuilder.setInstrumentationVersion(version);
+    }
+    return meterBuilder.build();
+  }
+
+  static void record(
+      Context batchContext,
+      RedisCommand<?, ?, ?> command,
+      long startNanos,
+      @Nullable Throwable error) {
+    AttributesBuilder startAttributes = Attributes.builder();
+    attributesExtractor.onStart(startAttributes, batchContext, command);
+    AttributesBuilder endAttributes = Attributes.builder();
+    attributesExtractor.onEnd(endAttributes, batchContext, command, null, error);
+
+    Context context = listener.onStart(batchContext, startAttributes.build(), startNanos);
+    listener.onEnd(context, endAttributes.build(), System.nanoTime());
+  }
+
+  private LettuceBatchCommandMetrics() {}
+}
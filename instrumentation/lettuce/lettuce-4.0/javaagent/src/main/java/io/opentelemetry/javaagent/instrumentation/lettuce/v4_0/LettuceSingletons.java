@@ -29,7 +29,7 @@ import java.net.InetSocketAddress;
 import javax.annotation.Nullable;
 
 public class LettuceSingletons {
-  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.lettuce-4.0";
+  static final String INSTRUMENTATION_NAME = "io.opentelemetry.lettuce-4.0";
 
   private static final Instrumenter<RedisCommand<?, ?, ?>, Void> instrumenter;
   private static final Instrumenter<LettuceBatchRequest, Void> batchInstrumenter;
@@ -95,8 +95,8 @@ public class LettuceSingletons {
                 GlobalOpenTelemetry.get(),
                 INSTRUMENTATION_NAME,
                 DbClientSpanNameExtractor.create(batchSpanNameAttributesGetter))
-            .addAttributesExtractor(DbClientAttributesExtractor.create(batchAttributesGetter))
-            .addOperationMetrics(DbClientMetrics.get());
+            .addAttributesExtractor(DbClientAttributesExtractor.create(batchAttributesGetter));
+    // the duration of the individual batch commands is recorded by LettuceBatchCommandMetrics
     setDbClientExceptionEventExtractor(batchBuilder);
     batchInstrumenter = batchBuilder.buildInstrumenter(SpanKindExtractor.alwaysClient());
 
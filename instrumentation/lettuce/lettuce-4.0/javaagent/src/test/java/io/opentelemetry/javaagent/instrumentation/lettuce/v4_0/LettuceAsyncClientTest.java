@@ -6,6 +6,8 @@
 package io.opentelemetry.javaagent.instrumentation.lettuce.v4_0;
 
 import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
 import static io.opentelemetry.instrumentation.api.internal.SemconvStability.emitStableDatabaseSemconv;
 import static io.opentelemetry.instrumentation.testing.junit.db.SemconvStabilityUtil.maybeStable;
 import static io.opentelemetry.instrumentation.testing.junit.service.SemconvServiceStabilityUtil.maybeStablePeerService;
@@ -15,6 +17,7 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.asser
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
 import static io.opentelemetry.semconv.DbAttributes.DB_NAMESPACE;
 import static io.opentelemetry.semconv.DbAttributes.DB_OPERATION_BATCH_SIZE;
+import static io.opentelemetry.semconv.DbAttributes.DB_OPERATION_NAME;
 import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
 import static io.opentelemetry.semconv.ServerAttributes.SERVER_ADDRESS;
 import static io.opentelemetry.semconv.ServerAttributes.SERVER_PORT;
@@ -631,7 +634,13 @@ class LettuceAsyncClientTest {
                                 emitStableDatabaseSemconv() ? scenario.batchSize : null),
                             equalTo(
                                 ERROR_TYPE,
-                                emitStableDatabaseSemconv() ? scenario.errorType : null))));
+                                emitStableDatabaseSemconv() ? scenario.errorType : null),
+                            equalTo(
+                                stringArrayKey("lettuce.batch.command_names"),
+                                experimental(scenario.commandNames)),
+                            equalTo(
+                                longKey("lettuce.batch.failed_commands"),
+                                experimental(scenario.failedCommands)))));
   }
 
   @Test
@@ -684,6 +693,24 @@ class LettuceAsyncClientTest {
                             equalTo(
                                 DB_OPERATION_BATCH_SIZE,
                                 emitStableDatabaseSemconv() ? 2L : null))));
+
+    if (emitStableDatabaseSemconv()) {
+      // the duration is recorded for each command of the batch, not for the batch as a whole
+      testing.waitAndAssertMetrics(
+          "io.opentelemetry.lettuce-4.0",
+          metric ->
+              metric
+                  .hasName("db.client.operation.duration")
+                  .hasHistogramSatisfying(
+                      histogram ->
+                          histogram.hasPointsSatisfying(
+                              point ->
+                                  point
+                                      .hasCount(2)
+                                      .hasAttributesSatisfying(
+                                          equalTo(DB_OPERATION_NAME, "SET"),
+                                          equalTo(DB_NAMESPACE, expectedNonDefaultNamespace())))));
+    }
   }
 
   @Test
@@ -739,6 +766,7 @@ class LettuceAsyncClientTest {
                 .addCommand(commands -> commands.set("batch1", "v1"))
                 .addCommand(commands -> commands.set("batch2", "v2"))
                 .operationName("PIPELINE SET")
+                .commandNames("SET")
                 .batchSize(2)
                 .build()),
         argumentSet(
@@ -747,6 +775,7 @@ class LettuceAsyncClientTest {
                 .addCommand(commands -> commands.set("batch1", "v1"))
                 .addCommand(commands -> commands.get("batch1"))
                 .operationName("PIPELINE")
+                .commandNames("SET", "GET")
                 .batchSize(2)
                 .build()),
         argumentSet(
@@ -755,6 +784,8 @@ class LettuceAsyncClientTest {
                 .addCommand(commands -> commands.configSet("not-a-real-config", "1"))
                 .addCommand(commands -> commands.set("batch-after-error", "v1"))
                 .operationName("PIPELINE")
+                .commandNames("CONFIG", "SET")
+                .failedCommands(1)
                 .batchSize(2)
                 .errorType("com.lambdaworks.redis.RedisCommandExecutionException")
                 .build()));
@@ -765,12 +796,16 @@ class LettuceAsyncClientTest {
     private final String operationName;
     private final Long batchSize;
     private final String errorType;
+    private final List<String> commandNames;
+    private final Long failedCommands;
 
     private BatchScenario(Builder builder) {
       this.commands = builder.commands;
       this.operationName = builder.operationName;
       this.batchSize = builder.batchSize;
       this.errorType = builder.errorType;
+      this.commandNames = builder.commandNames;
+      this.failedCommands = builder.failedCommands;
     }
 
     private static Builder builder() {
@@ -786,6 +821,8 @@ class LettuceAsyncClientTest {
       private String operationName;
       private Long batchSize;
       private String errorType;
+      private List<String> commandNames;
+      private Long failedCommands;
 
       private Builder addCommand(BatchCommand command) {
         commands.add(command);
@@ -807,6 +844,16 @@ class LettuceAsyncClientTest {
         return this;
       }
 
+      private Builder commandNames(String... commandNames) {
+        this.commandNames = asList(commandNames);
+        return this;
+      }
+
+      private Builder failedCommands(long failedCommands) {
+        this.failedCommands = failedCommands;
+        return this;
+      }
+
       private BatchScenario build() {
         return new BatchScenario(this);
       }
@@ -14,13 +14,16 @@ import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.RedisCommand;
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.incubator.config.internal.DeclarativeConfigUtil;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -34,6 +37,11 @@ public final class LettuceBatchContext {
       DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "lettuce")
           .getBoolean("experimental_span_attributes/development", false);
 
+  private static final AttributeKey<List<String>> BATCH_COMMAND_NAMES =
+      AttributeKey.stringArrayKey("lettuce.batch.command_names");
+  private static final AttributeKey<Long> BATCH_FAILED_COMMANDS =
+      AttributeKey.longKey("lettuce.batch.failed_commands");
+
   private static final VirtualField<DefaultEndpoint, BatchState> BATCH_STATE =
       VirtualField.find(DefaultEndpoint.class, BatchState.class);
 
@@ -67,6 +75,8 @@ public final class LettuceBatchContext {
     BATCH_STATE.set(endpoint, new BatchState());
     return BatchScope.start(
         state.commands,
+        state.noResponseCommands,
+        state.responseCommands,
         state.asyncCommands,
         state.parentContext,
         ENDPOINT_ADDRESS.get(endpoint),
@@ -78,18 +88,32 @@ public final class LettuceBatchContext {
   public static final class BatchScope {
     private final Context context;
     private final LettuceBatchRequest request;
+    private final long startNanos;
+    private final List<RedisCommand<?, ?, ?>> noResponseCommands;
+    private final boolean expectsResponses;
     private final AtomicInteger remaining;
     private final AtomicReference<Throwable> error = new AtomicReference<>();
-
-    private BatchScope(Context context, LettuceBatchRequest request, int remaining) {
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private BatchScope(
+        Context context,
+        LettuceBatchRequest request,
+        long startNanos,
+        List<RedisCommand<?, ?, ?>> noResponseCommands,
+        int remaining) {
       this.context = context;
       this.request = request;
+      this.startNanos = startNanos;
+      this.noResponseCommands = noResponseCommands;
+      this.expectsResponses = remaining > 0;
       this.remaining = new AtomicInteger(remaining);
     }
 
     @Nullable
     private static BatchScope start(
         List<RedisCommand<?, ?, ?>> commands,
+        List<RedisCommand<?, ?, ?>> noResponseCommands,
+        List<RedisCommand<?, ?, ?>> responseCommands,
         List<AsyncCommand<?, ?, ?>> asyncCommands,
         @Nullable Context capturedParentContext,
         @Nullable InetSocketAddress serverAddress,
@@ -101,25 +125,53 @@ public final class LettuceBatchContext {
       if (!batchInstrumenter().shouldStart(parentContext, request)) {
         return null;
       }
+      long startNanos = System.nanoTime();
       Context context = batchInstrumenter().start(parentContext, request);
-      if (asyncCommands.isEmpty()) {
-        batchInstrumenter().end(context, request, null, null);
-        return null;
+      if (CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES && commands.size() > 1) {
+        Span.fromContext(context).setAttribute(BATCH_COMMAND_NAMES, distinctCommandNames(commands));
       }
-      BatchScope scope = new BatchScope(context, request, asyncCommands.size());
+      BatchScope scope =
+          new BatchScope(context, request, startNanos, noResponseCommands, asyncCommands.size());
       // Redis executes batch commands in order, but the individual async command futures can
       // complete in a different order. Observe every future so an earlier failure or cancellation
-      // is captured; the remaining counter decides when all responses have completed.
-      for (AsyncCommand<?, ?, ?> asyncCommand : asyncCommands) {
-        asyncCommand.handleAsync(
-            (value, throwable) -> {
-              scope.endOne(throwable);
-              return null;
-            });
+      // is captured; the remaining counter decides when all responses have completed. The callbacks
+      // run on the thread that completes the future, so that the recorded command durations don't
+      // include any scheduling delay.
+      for (int i = 0; i < asyncCommands.size(); i++) {
+        RedisCommand<?, ?, ?> command = responseCommands.get(i);
+        asyncCommands
+            .get(i)
+            .whenComplete((value, throwable) -> scope.endCommand(command, throwable));
       }
       return scope;
     }
 
+    /**
+     * Called when the flush has returned. Commands that expect no response are complete once they
+     * have been written, so they are recorded here. A batch that only contains such commands also
+     * ends here.
+     */
+    public void flushed(@Nullable Throwable throwable) {
+      for (RedisCommand<?, ?, ?> command : noResponseCommands) {
+        LettuceBatchCommandMetrics.record(context, command, startNanos, throwable);
+      }
+      if (!expectsResponses) {
+        batchInstrumenter().end(context, request, null, throwable);
+      } else if (throwable != null) {
+        // Normally, the callbacks attached to the command futures report completion
+        endOne(throwable);
+      }
+    }
+
+    private void endCommand(RedisCommand<?, ?, ?> command, @Nullable Throwable throwable) {
+      LettuceBatchCommandMetrics.record(
+          context,
+          command,
+          startNanos,
+          throwable instanceof CancellationException ? null : throwable);
+      endOne(throwable);
+    }
+
     public void endOne(@Nullable Throwable throwable) {
       if (throwable instanceof CancellationException) {
         if (CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES) {
@@ -130,15 +182,32 @@ public final class LettuceBatchContext {
       }
       if (throwable != null) {
         error.compareAndSet(null, throwable);
+        failed.incrementAndGet();
       }
       if (remaining.getAndDecrement() == 1) {
+        int failedCommands = failed.get();
+        if (CAPTURE_EXPERIMENTAL_SPAN_ATTRIBUTES && failedCommands > 0) {
+          Span.fromContext(context).setAttribute(BATCH_FAILED_COMMANDS, (long) failedCommands);
+        }
         batchInstrumenter().end(context, request, null, error.get());
       }
     }
+
+    private static List<String> distinctCommandNames(List<RedisCommand<?, ?, ?>> commands) {
+      Set<String> commandNames = new LinkedHashSet<>();
+      for (RedisCommand<?, ?, ?> command : commands) {
+        commandNames.add(LettuceInstrumentationUtil.getCommandName(command));
+      }
+      return new ArrayList<>(commandNames);
+    }
   }
 
   private static final class BatchState {
     private final List<RedisCommand<?, ?, ?>> commands = new ArrayList<>();
+    // the commands that are complete once they have been written
+    private final List<RedisCommand<?, ?, ?>> noResponseCommands = new ArrayList<>();
+    // the commands that expect a response, and the futures that complete with it
+    private final List<RedisCommand<?, ?, ?>> responseCommands = new ArrayList<>();
     private final List<AsyncCommand<?, ?, ?>> asyncCommands = new ArrayList<>();
     @Nullable private Context parentContext;
 
@@ -148,7 +217,10 @@ public final class LettuceBatchContext {
         parentContext = CONTEXT.get(asyncCommand);
       }
       if (asyncCommand != null && LettuceInstrumentationUtil.expectsResponse(command)) {
+        responseCommands.add(command);
         asyncCommands.add(asyncCommand);
+      } else {
+        noResponseCommands.add(command);
       }
     }
 
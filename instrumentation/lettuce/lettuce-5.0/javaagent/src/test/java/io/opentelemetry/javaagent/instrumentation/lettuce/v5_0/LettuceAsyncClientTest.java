@@ -6,6 +6,8 @@
 package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
 
 import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
 import static io.opentelemetry.instrumentation.api.internal.SemconvStability.emitStableDatabaseSemconv;
 import static io.opentelemetry.instrumentation.testing.junit.db.SemconvStabilityUtil.maybeStable;
 import static io.opentelemetry.instrumentation.testing.junit.service.SemconvServiceStabilityUtil.maybeStablePeerService;
@@ -15,6 +17,7 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equal
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.satisfies;
 import static io.opentelemetry.semconv.DbAttributes.DB_NAMESPACE;
 import static io.opentelemetry.semconv.DbAttributes.DB_OPERATION_BATCH_SIZE;
+import static io.opentelemetry.semconv.DbAttributes.DB_OPERATION_NAME;
 import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
 import static io.opentelemetry.semconv.ExceptionAttributes.EXCEPTION_MESSAGE;
 import static io.opentelemetry.semconv.ExceptionAttributes.EXCEPTION_STACKTRACE;
@@ -638,7 +641,13 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
                                 emitStableDatabaseSemconv() ? scenario.batchSize : null),
                             equalTo(
                                 ERROR_TYPE,
-                                emitStableDatabaseSemconv() ? scenario.errorType : null))));
+                                emitStableDatabaseSemconv() ? scenario.errorType : null),
+                            equalTo(
+                                stringArrayKey("lettuce.batch.command_names"),
+                                experimental(scenario.commandNames)),
+                            equalTo(
+                                longKey("lettuce.batch.failed_commands"),
+                                experimental(scenario.failedCommands)))));
   }
 
   @Test
@@ -697,6 +706,24 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
                             equalTo(
                                 DB_OPERATION_BATCH_SIZE,
                                 emitStableDatabaseSemconv() ? 2L : null))));
+
+    if (emitStableDatabaseSemconv()) {
+      // the duration is recorded for each command of the batch, not for the batch as a whole
+      testing.waitAndAssertMetrics(
+          "io.opentelemetry.lettuce-5.0",
+          metric ->
+              metric
+                  .hasName("db.client.operation.duration")
+                  .hasHistogramSatisfying(
+                      histogram ->
+                          histogram.hasPointsSatisfying(
+                              point ->
+                                  point
+                                      .hasCount(2)
+                                      .hasAttributesSatisfying(
+                                          equalTo(DB_OPERATION_NAME, "SET"),
+                                          equalTo(DB_NAMESPACE, expectedNonDefaultNamespace())))));
+    }
   }
 
   @Test
@@ -754,6 +781,7 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
                 .addCommand(commands -> commands.set("batch1", "v1"))
                 .addCommand(commands -> commands.set("batch2", "v2"))
                 .operationName("PIPELINE SET")
+                .commandNames("SET")
                 .queryText(
                     emitStableDatabaseSemconv()
                         ? "SET batch1 ?; SET batch2 ?"
@@ -766,6 +794,7 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
                 .addCommand(commands -> commands.set("batch1", "v1"))
                 .addCommand(commands -> commands.get("batch1"))
                 .operationName("PIPELINE")
+                .commandNames("SET", "GET")
                 .queryText(
                     emitStableDatabaseSemconv()
                         ? "SET batch1 ?; GET batch1"
@@ -778,6 +807,8 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
                 .addCommand(commands -> commands.configSet("not-a-real-config", "1"))
                 .addCommand(commands -> commands.set("batch-after-error", "v1"))
                 .operationName("PIPELINE")
+                .commandNames("CONFIG", "SET")
+                .failedCommands(1)
                 .queryText(
                     emitStableDatabaseSemconv()
                         ? "CONFIG SET not-a-real-config ?; SET batch-after-error ?"
@@ -793,6 +824,8 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
     private final String queryText;
     private final Long batchSize;
     private final String errorType;
+    private final List<String> commandNames;
+    private final Long failedCommands;
 
     private BatchScenario(Builder builder) {
       this.commands = builder.commands;
@@ -800,6 +833,8 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
       this.queryText = builder.queryText;
       this.batchSize = builder.batchSize;
       this.errorType = builder.errorType;
+      this.commandNames = builder.commandNames;
+      this.failedCommands = builder.failedCommands;
     }
 
     private static Builder builder() {
@@ -816,6 +851,8 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
       private String queryText;
       private Long batchSize;
       private String errorType;
+      private List<String> commandNames;
+      private Long failedCommands;
 
       private Builder addCommand(BatchCommand command) {
         commands.add(command);
@@ -842,6 +879,16 @@ class LettuceAsyncClientTest extends AbstractLettuceClientTest {
         return this;
       }
 
+      private Builder commandNames(String... commandNames) {
+        this.commandNames = asList(commandNames);
+        return this;
+      }
+
+      private Builder failedCommands(long failedCommands) {
+        this.failedCommands = failedCommands;
+        return this;
+      }
+
       private BatchScenario build() {
         return new BatchScenario(this);
       }
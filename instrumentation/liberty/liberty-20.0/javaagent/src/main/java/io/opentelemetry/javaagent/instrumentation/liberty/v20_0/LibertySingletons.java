@@ -25,6 +25,7 @@ public class LibertySingletons {
                   (context, request, attributes) ->
                       new AppServerBridge.Builder().recordException().init(context))
               .propagateOperationListenersToOnEnd()
+              .countMessageBodySizes()
               .build(INSTRUMENTATION_NAME, Servlet3Accessor.INSTANCE);
 
   private static final LibertyHelper<HttpServletRequest, HttpServletResponse> helper =
@@ -16,11 +16,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nullable;
-import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.codecs.BsonDocumentCodec;
@@ -33,7 +31,6 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
   // copied from DbIncubatingAttributes.DbSystemNameIncubatingValues
   private static final String MONGODB = "mongodb";
 
-  private static final String HIDDEN_CHAR = "?";
   private static final Set<String> COMMANDS_WITH_COLLECTION_NAME_AS_VALUE =
       new HashSet<>(
           asList(
@@ -53,16 +50,6 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
               "createIndexes",
               "listIndexes"));
 
-  @Nullable private static final Method IS_TRUNCATED_METHOD;
-
-  static {
-    IS_TRUNCATED_METHOD =
-        Arrays.stream(JsonWriter.class.getMethods())
-            .filter(method -> method.getName().equals("isTruncated"))
-            .findFirst()
-            .orElse(null);
-  }
-
   private final boolean querySanitizationEnabled;
   private final int maxNormalizedQueryLength;
   @Nullable private final JsonWriterSettings jsonWriterSettings;
@@ -171,6 +158,10 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
   }
 
   String sanitizeQuery(BsonDocument command) {
+    if (querySanitizationEnabled) {
+      return MongoQuerySanitizer.sanitize(command, maxNormalizedQueryLength);
+    }
+
     StringBuilderWriter stringWriter = new StringBuilderWriter(128);
     // jsonWriterSettings is generally not null but could be due to security manager or unknown
     // API incompatibilities, which we can't detect by Muzzle because we use reflection.
@@ -179,11 +170,7 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
             ? new JsonWriter(stringWriter, jsonWriterSettings)
             : new JsonWriter(stringWriter);
 
-    if (querySanitizationEnabled) {
-      writeScrubbed(command, jsonWriter, /* isRoot= */ true);
-    } else {
-      new BsonDocumentCodec().encode(jsonWriter, command, EncoderContext.builder().build());
-    }
+    new BsonDocumentCodec().encode(jsonWriter, command, EncoderContext.builder().build());
 
     // If using MongoDB driver >= 3.7, the substring invocation will be a no-op due to use of
     // JsonWriterSettings.Builder.maxLength in the static initializer for JSON_WRITER_SETTINGS
@@ -246,58 +233,4 @@ class MongoDbAttributesGetter implements DbClientAttributesGetter<CommandStarted
 
     return settings;
   }
-
-  private static boolean writeScrubbed(BsonDocument origin, JsonWriter writer, boolean isRoot) {
-    writer.writeStartDocument();
-    boolean firstField = true;
-    for (Map.Entry<String, BsonValue> entry : origin.entrySet()) {
-      writer.writeName(entry.getKey());
-      // the first field of the root document is the command name, so we preserve its value
-      // (which for most CRUD commands is the collection name)
-      if (isRoot && firstField && entry.getValue().isString()) {
-        writer.writeString(entry.getValue().asString().getValue());
-      } else {
-        if (writeScrubbed(entry.getValue(), writer)) {
-          return true;
-        }
-      }
-      firstField = false;
-    }
-    writer.writeEndDocument();
-    return false;
-  }
-
-  private static boolean writeScrubbed(BsonArray origin, JsonWriter writer) {
-    writer.writeStartArray();
-    for (BsonValue value : origin) {
-      if (writeScrubbed(value, writer)) {
-        return true;
-      }
-    }
-    writer.writeEndArray();
-    return false;
-  }
-
-  private static boolean writeScrubbed(BsonValue origin, JsonWriter writer) {
-    if (origin.isDocument()) {
-      return writeScrubbed(origin.asDocument(), writer, /* isRoot= */ false);
-    } else if (origin.isArray()) {
-      return writeScrubbed(origin.asArray(), writer);
-    } else {
-      writer.writeString(HIDDEN_CHAR);
-      return isTruncated(writer);
-    }
-  }
-
-  private static boolean isTruncated(JsonWriter writer) {
-    if (IS_TRUNCATED_METHOD == null) {
-      return false;
-    } else {
-      try {
-        return (boolean) IS_TRUNCATED_METHOD.invoke(writer, (Object[]) null);
-      } catch (IllegalAccessException | InvocationTargetException ignored) {
-        return false;
-      }
-    }
-  }
 }
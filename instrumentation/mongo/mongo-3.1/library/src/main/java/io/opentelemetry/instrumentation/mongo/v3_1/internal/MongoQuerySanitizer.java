@@ -0,0 +1,198 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.mongo.v3_1.internal;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonInt32;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.json.JsonWriter;
+
+/**
+ * Renders a sanitized command as JSON by walking its BSON structure directly. Masked values are
+ * skipped without being decoded, and the walk stops as soon as the maximum length is reached, so
+ * large commands (e.g. bulk inserts) cost only as much as the part of them that ends up in the
+ * query text.
+ *
+ * <p>The output has the same format as the {@link JsonWriter} of the driver in use, which is also
+ * used when sanitization is disabled: 3.x drivers write {@code { "find" : "c" }}, 4.x and later
+ * drivers write {@code {"find": "c"}}. Strings are escaped like the {@link JsonWriter} does.
+ */
+final class MongoQuerySanitizer {
+
+  private static final String HIDDEN_VALUE = "\"?\"";
+
+  private static final boolean PADDED_DOCUMENTS = usesPaddedDocuments();
+  // written before the first field of a document
+  private static final String FIRST_FIELD_PREFIX = PADDED_DOCUMENTS ? " " : "";
+  private static final String NAME_SEPARATOR = PADDED_DOCUMENTS ? " : " : ": ";
+  private static final String DOCUMENT_END = PADDED_DOCUMENTS ? " }" : "}";
+
+  // the JsonWriter of 3.x drivers pads documents with spaces, later drivers don't
+  private static boolean usesPaddedDocuments() {
+    StringBuilderWriter writer = new StringBuilderWriter(16);
+    new BsonDocumentCodec()
+        .encode(
+            new JsonWriter(writer),
+            new BsonDocument("a", new BsonInt32(1)),
+            EncoderContext.builder().build());
+    return writer.getBuilder().indexOf("{ ") == 0;
+  }
+
+  static String sanitize(BsonDocument command, int maxLength) {
+    StringBuilder sb = new StringBuilder(Math.min(maxLength, 128));
+    try (BsonReader reader = createReader(command)) {
+      writeDocument(reader, sb, maxLength, /* isRoot= */ true);
+    }
+    if (sb.length() <= maxLength) {
+      return sb.toString();
+    }
+    return sb.substring(0, maxLength);
+  }
+
+  private static BsonReader createReader(BsonDocument command) {
+    if (command instanceof RawBsonDocument) {
+      // read the encoded bytes directly instead of materializing every value of the document
+      return new BsonBinaryReader(((RawBsonDocument) command).getByteBuffer().asNIO());
+    }
+    return new BsonDocumentReader(command);
+  }
+
+  // returns true when the maximum length was reached
+  private static boolean writeDocument(
+      BsonReader reader, StringBuilder sb, int maxLength, boolean isRoot) {
+    reader.readStartDocument();
+    sb.append('{');
+    boolean firstField = true;
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      sb.append(firstField ? FIRST_FIELD_PREFIX : ", ");
+      appendString(sb, reader.readName());
+      sb.append(NAME_SEPARATOR);
+      // the first field of the root document is the command name, so we preserve its value
+      // (which for most CRUD commands is the collection name)
+      if (isRoot && firstField && reader.getCurrentBsonType() == BsonType.STRING) {
+        appendString(sb, reader.readString());
+        if (sb.length() >= maxLength) {
+          return true;
+        }
+      } else if (writeValue(reader, sb, maxLength)) {
+        return true;
+      }
+      firstField = false;
+    }
+    reader.readEndDocument();
+    sb.append(DOCUMENT_END);
+    return sb.length() >= maxLength;
+  }
+
+  private static boolean writeArray(BsonReader reader, StringBuilder sb, int maxLength) {
+    reader.readStartArray();
+    sb.append('[');
+    boolean first = true;
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      if (!first) {
+        sb.append(", ");
+      }
+      if (writeValue(reader, sb, maxLength)) {
+        return true;
+      }
+      first = false;
+    }
+    reader.readEndArray();
+    sb.append(']');
+    return sb.length() >= maxLength;
+  }
+
+  private static boolean writeValue(BsonReader reader, StringBuilder sb, int maxLength) {
+    BsonType type = reader.getCurrentBsonType();
+    if (type == BsonType.DOCUMENT) {
+      return writeDocument(reader, sb, maxLength, /* isRoot= */ false);
+    } else if (type == BsonType.ARRAY) {
+      return writeArray(reader, sb, maxLength);
+    }
+    reader.skipValue();
+    sb.append(HIDDEN_VALUE);
+    return sb.length() >= maxLength;
+  }
+
+  private static void appendString(StringBuilder sb, String value) {
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\b':
+          sb.append("\\b");
+          break;
+        case '\f':
+          sb.append("\\f");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (isWrittenAsIs(c)) {
+            sb.append(c);
+          } else {
+            sb.append("\\u");
+            String hex = Integer.toHexString(c);
+            for (int j = hex.length(); j < 4; j++) {
+              sb.append('0');
+            }
+            sb.append(hex);
+          }
+      }
+    }
+    sb.append('"');
+  }
+
+  // the same character classes that JsonWriter writes without escaping them, all others (e.g.
+  // control characters, line and paragraph separators and surrogates) are written as \uXXXX
+  private static boolean isWrittenAsIs(char c) {
+    switch (Character.getType(c)) {
+      case Character.UPPERCASE_LETTER:
+      case Character.LOWERCASE_LETTER:
+      case Character.TITLECASE_LETTER:
+      case Character.OTHER_LETTER:
+      case Character.DECIMAL_DIGIT_NUMBER:
+      case Character.LETTER_NUMBER:
+      case Character.OTHER_NUMBER:
+      case Character.SPACE_SEPARATOR:
+      case Character.CONNECTOR_PUNCTUATION:
+      case Character.DASH_PUNCTUATION:
+      case Character.START_PUNCTUATION:
+      case Character.END_PUNCTUATION:
+      case Character.INITIAL_QUOTE_PUNCTUATION:
+      case Character.FINAL_QUOTE_PUNCTUATION:
+      case Character.OTHER_PUNCTUATION:
+      case Character.MATH_SYMBOL:
+      case Character.CURRENCY_SYMBOL:
+      case Character.MODIFIER_SYMBOL:
+      case Character.OTHER_SYMBOL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private MongoQuerySanitizer() {}
+}
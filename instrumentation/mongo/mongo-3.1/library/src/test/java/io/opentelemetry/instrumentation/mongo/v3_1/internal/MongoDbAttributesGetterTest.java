@@ -19,6 +19,8 @@ import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -66,6 +68,37 @@ class MongoDbAttributesGetterTest {
         .isEqualTo("{\"cmd\": \"c\", \"f\": \"?\", \"sub\": \"?\"}");
   }
 
+  @Test
+  @DisplayName("should escape preserved strings like the json writer")
+  void shouldEscapePreservedStringsLikeTheJsonWriter() {
+    MongoDbAttributesGetter extractor =
+        new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    assertThat(
+            sanitizeQueryAcrossVersions(
+                extractor, new BsonDocument("cmd", new BsonString("\"\\\b\f\n\r\t\u0001"))))
+        .isEqualTo("{\"cmd\": \"\\\"\\\\\\b\\f\\n\\r\\t\\u0001\"}");
+  }
+
+  @Test
+  @DisplayName("should format and escape like the json writer")
+  void shouldFormatAndEscapeLikeTheJsonWriter() {
+    MongoDbAttributesGetter sanitizing =
+        new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+    MongoDbAttributesGetter notSanitizing =
+        new MongoDbAttributesGetter(false, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    // only values that are preserved by the sanitizer, so that both outputs are the same
+    BsonDocument document =
+        new BsonDocument("cmd", new BsonString("a\u0000\u007f\u00ad\u2028\u2029\ud83d\ude00é€"))
+            .append("empty", new BsonDocument())
+            .append("nested", new BsonDocument("sub", new BsonDocument()))
+            .append("arr", new BsonArray());
+
+    assertThat(sanitizing.sanitizeQuery(document))
+        .isEqualTo(notSanitizing.sanitizeQuery(document));
+  }
+
   @Test
   @DisplayName("should truncate simple command")
   void shouldTruncateSimpleCommand() {
@@ -99,6 +132,43 @@ class MongoDbAttributesGetterTest {
         .isIn("{\"cmd\": \"c\", \"f1\": [\"?\", \"?", "{\"cmd\": \"c\", \"f1\": [\"?\",");
   }
 
+  @Test
+  @DisplayName("should sanitize raw documents")
+  void shouldSanitizeRawDocuments() {
+    MongoDbAttributesGetter extractor =
+        new MongoDbAttributesGetter(true, DEFAULT_MAX_NORMALIZED_QUERY_LENGTH);
+
+    BsonDocument document =
+        new BsonDocument("cmd", new BsonString("c"))
+            .append("sub", new BsonDocument("a", new BsonInt32(1)))
+            .append("arr", new BsonArray(asList(new BsonString("c1"), new BsonInt32(2))));
+
+    assertThat(
+            sanitizeQueryAcrossVersions(
+                extractor, new RawBsonDocument(document, new BsonDocumentCodec())))
+        .isEqualTo(
+            "{\"cmd\": \"c\", \"sub\": {\"a\": \"?\"}, \"arr\": [\"?\", \"?\"]}");
+  }
+
+  @Test
+  @DisplayName("should stop sanitizing large command at max length")
+  void shouldStopSanitizingLargeCommandAtMaxLength() {
+    MongoDbAttributesGetter extractor = new MongoDbAttributesGetter(true, 40);
+
+    BsonArray documents = new BsonArray();
+    for (int i = 0; i < 10_000; i++) {
+      documents.add(new BsonDocument("_id", new BsonInt32(i)));
+    }
+    BsonDocument command =
+        new BsonDocument("insert", new BsonString("coll")).append("documents", documents);
+
+    String sanitized =
+        extractor.sanitizeQuery(new RawBsonDocument(command, new BsonDocumentCodec()));
+    assertThat(sanitized).hasSize(40);
+    assertThat(sanitizeAcrossVersions(sanitized))
+        .startsWith("{\"insert\": \"coll\", \"documents\": [{\"_");
+  }
+
   @ParameterizedTest
   @MethodSource("errorTypes")
   void getErrorTypeReturnsServerCodeOrFallsBack(Throwable error, String expectedErrorType) {
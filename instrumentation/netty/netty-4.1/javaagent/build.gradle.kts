@@ -7,6 +7,7 @@ muzzle {
     group.set("io.netty")
     module.set("netty-codec-http")
     versions.set("[4.1.0.Final,5.0.0)")
+    excludeInstrumentationName("netty-4.1-http2")
     assertInverse.set(true)
   }
   pass {
@@ -14,8 +15,14 @@ muzzle {
     module.set("netty-all")
     versions.set("[4.1.0.Final,5.0.0)")
     excludeDependency("io.netty:netty-tcnative")
+    excludeInstrumentationName("netty-4.1-http2")
     assertInverse.set(true)
   }
+  pass {
+    group.set("io.netty")
+    module.set("netty-codec-http2")
+    versions.set("[4.1.25.Final,5.0.0)")
+  }
   fail {
     group.set("io.netty")
     module.set("netty")
@@ -25,6 +32,8 @@ muzzle {
 
 dependencies {
   library("io.netty:netty-codec-http:4.1.0.Final")
+  // Http2FrameCodec was added in 4.1.25.Final
+  compileOnly("io.netty:netty-codec-http2:4.1.25.Final")
   implementation(project(":instrumentation:netty:netty-4.1:library"))
   implementation(project(":instrumentation:netty:netty-common-4.0:javaagent"))
   implementation(project(":instrumentation:netty:netty-common-4.0:library"))
@@ -61,10 +70,22 @@ tasks {
     systemProperty("metadataConfig", "otel.instrumentation.netty.connection-telemetry.enabled=true,otel.instrumentation.netty.ssl-telemetry.enabled=true")
   }
 
+  val testConnectionMetrics = register<Test>("testConnectionMetrics") {
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    filter {
+      includeTestsMatching("Netty41ConnectionMetricsTest")
+    }
+    include("**/Netty41ConnectionMetricsTest.*")
+    jvmArgs("-Dotel.instrumentation.http.client.emit-experimental-telemetry=true")
+    systemProperty("metadataConfig", "otel.instrumentation.http.client.emit-experimental-telemetry=true")
+  }
+
   test {
     filter {
       excludeTestsMatching("Netty41ConnectionSpanTest")
       excludeTestsMatching("Netty41ClientSslTest")
+      excludeTestsMatching("Netty41ConnectionMetricsTest")
     }
   }
 
@@ -76,11 +97,12 @@ tasks {
     filter {
       excludeTestsMatching("Netty41ConnectionSpanTest")
       excludeTestsMatching("Netty41ClientSslTest")
+      excludeTestsMatching("Netty41ConnectionMetricsTest")
     }
   }
 
   check {
-    dependsOn(testConnectionSpan, testStableSemconv)
+    dependsOn(testConnectionSpan, testConnectionMetrics, testStableSemconv)
   }
 }
 
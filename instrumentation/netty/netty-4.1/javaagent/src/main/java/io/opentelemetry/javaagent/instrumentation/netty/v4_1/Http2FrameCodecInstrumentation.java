@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.netty.v4_1;
+
+import static io.opentelemetry.javaagent.instrumentation.netty.common.v4_0.VirtualFieldHelper.CHANNEL_HANDLER;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.opentelemetry.instrumentation.netty.v4_1.internal.server.Http2ServerTracingHandler;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+class Http2FrameCodecInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("io.netty.handler.codec.http2.Http2FrameCodec");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        named("handlerAdded")
+            .and(takesArguments(1))
+            .and(takesArgument(0, named("io.netty.channel.ChannelHandlerContext"))),
+        getClass().getName() + "$HandlerAddedAdvice");
+  }
+
+  /**
+   * Adds the HTTP/2 server tracing handler right after the frame codec of a server connection, so
+   * that it sees the frames of all streams before the {@code Http2MultiplexHandler} (if any) hands
+   * them to the stream channels. Removing the codec from the pipeline also removes our handler.
+   */
+  @SuppressWarnings("unused")
+  public static class HandlerAddedAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This Http2ConnectionHandler codec, @Advice.Argument(0) ChannelHandlerContext ctx) {
+      // client connections are not traced, and Http2MultiplexCodec passes the frames to the stream
+      // channels itself, so a handler after it would never see them
+      if (!codec.connection().isServer()
+          || codec
+              .getClass()
+              .getName()
+              .equals("io.netty.handler.codec.http2.Http2MultiplexCodec")) {
+        return;
+      }
+      // don't add another instrumentation handler if there already is one attached
+      if (CHANNEL_HANDLER.get(codec) != null) {
+        return;
+      }
+
+      ChannelHandler ourHandler =
+          new Http2ServerTracingHandler(NettyServerSingletons.instrumenter());
+      try {
+        ctx.pipeline().addAfter(ctx.name(), ourHandler.getClass().getName(), ourHandler);
+        // associate our handle with original handler so they could be removed together
+        CHANNEL_HANDLER.set(codec, ourHandler);
+      } catch (IllegalArgumentException ignored) {
+        // Prevented adding duplicate handlers.
+      }
+    }
+  }
+}
@@ -40,7 +40,8 @@ public class NettyClientSingletons {
     DefaultHttpClientInstrumenterBuilder<NettyCommonRequest, HttpResponse> builder =
         NettyClientInstrumenterBuilderFactory.create(
                 "io.opentelemetry.netty-4.1", GlobalOpenTelemetry.get())
-            .configure(AgentCommonConfig.get());
+            .configure(AgentCommonConfig.get())
+            .setCountMessageBodySizes(true);
     NettyClientInstrumenterFactory factory =
         new NettyClientInstrumenterFactory(
             builder,
@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.netty.v4_1;
+
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
+import static java.util.Collections.singletonList;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import java.util.List;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Traces HTTP/2 server requests. This is separate from {@link NettyInstrumentationModule} because
+ * netty-codec-http2 is an optional dependency of netty-codec-http applications.
+ */
+@AutoService(InstrumentationModule.class)
+public class NettyHttp2InstrumentationModule extends InstrumentationModule {
+  public NettyHttp2InstrumentationModule() {
+    super("netty", "netty-4.1", "netty-4.1-http2");
+  }
+
+  @Override
+  public ElementMatcher.Junction<ClassLoader> classLoaderMatcher() {
+    // added in 4.1.25.Final
+    return hasClassesNamed("io.netty.handler.codec.http2.Http2FrameCodecBuilder");
+  }
+
+  @Override
+  public List<TypeInstrumentation> typeInstrumentations() {
+    return singletonList(new Http2FrameCodecInstrumentation());
+  }
+}
@@ -44,6 +44,10 @@ public class NettyServerSingletons {
             : ProtocolEventHandler.Noop.INSTANCE;
   }
 
+  public static Instrumenter<NettyCommonRequest, HttpResponse> instrumenter() {
+    return instrumenter;
+  }
+
   public static ChannelInboundHandler createRequestHandler() {
     return new HttpServerRequestTracingHandler(instrumenter);
   }
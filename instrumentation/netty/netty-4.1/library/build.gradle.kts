@@ -1,9 +1,14 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
   library("io.netty:netty-codec-http:4.1.0.Final")
+  // only needed by applications that use the HTTP/2 handler
+  compileOnly("io.netty:netty-codec-http2:4.1.25.Final")
   implementation(project(":instrumentation:netty:netty-common-4.0:library"))
   implementation(project(":instrumentation:netty:netty-common:library"))
 
@@ -11,9 +16,32 @@ dependencies {
   annotationProcessor("com.google.auto.value:auto-value")
 
   testImplementation(project(":instrumentation:netty:netty-4.1:testing"))
+
+  jmhImplementation("io.netty:netty-codec-http:4.1.0.Final")
+  jmhImplementation("io.netty:netty-codec-http2:4.1.25.Final")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+}
+
+testing {
+  suites {
+    register<JvmTestSuite>("testHttp2") {
+      dependencies {
+        implementation(project())
+        implementation(project(":instrumentation:netty:netty-4.1:testing"))
+        implementation("io.netty:netty-codec-http2:${baseVersion("4.1.25.Final").orLatest()}")
+      }
+    }
+  }
 }
 
 tasks {
+  // TODO this should live in jmh-conventions
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      enabled.set(false)
+    }
+  }
+
   withType<Test>().configureEach {
     systemProperty("collectMetadata", otelProps.collectMetadata)
   }
@@ -0,0 +1,148 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2FrameStream;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of tracing HTTP/2 requests with the handler returned by {@link
+ * NettyServerTelemetry#createHttp2Handler()}, driving it with stream frames through an {@link
+ * EmbeddedChannel}. Run with the gc profiler (enabled by default) to see the per-request allocation
+ * rate ({@code gc.alloc.rate.norm} divided by {@code concurrentStreams}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class NettyHttp2ServerBenchmark {
+
+  // the number of streams that are opened on the connection before the first response is written
+  @Param({"1", "16"})
+  public int concurrentStreams;
+
+  private EmbeddedChannel channel;
+  private Http2HeadersFrame[] requests;
+
+  @Setup
+  public void setUp() {
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setTracerProvider(SdkTracerProvider.builder().build()).build();
+    NettyServerTelemetry telemetry = NettyServerTelemetry.create(openTelemetry);
+
+    channel =
+        new EmbeddedChannel(
+            telemetry.createHttp2Handler(), new RespondingHandler(concurrentStreams));
+    requests = new Http2HeadersFrame[concurrentStreams];
+    for (int i = 0; i < concurrentStreams; i++) {
+      Http2Headers headers =
+          new DefaultHttp2Headers()
+              .method("GET")
+              .scheme("http")
+              .authority("localhost:8080")
+              .path("/users?id=1")
+              .add("user-agent", "benchmark/1.0");
+      // client initiated streams have odd ids
+      requests[i] =
+          new DefaultHttp2HeadersFrame(headers, /* endStream= */ true)
+              .stream(new Stream(2 * i + 1));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finish();
+  }
+
+  @Benchmark
+  public Object requests() {
+    for (Http2HeadersFrame request : requests) {
+      channel.writeInbound(request);
+    }
+    Object frame = null;
+    // a headers and a data frame per stream
+    for (int i = 0; i < 2 * concurrentStreams; i++) {
+      frame = channel.readOutbound();
+    }
+    return frame;
+  }
+
+  private static class RespondingHandler extends ChannelInboundHandlerAdapter {
+    private final Http2HeadersFrame[] pendingRequests;
+    private int pendingRequestCount;
+
+    private RespondingHandler(int concurrentStreams) {
+      pendingRequests = new Http2HeadersFrame[concurrentStreams];
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (!(msg instanceof Http2HeadersFrame)) {
+        return;
+      }
+      pendingRequests[pendingRequestCount++] = (Http2HeadersFrame) msg;
+      if (pendingRequestCount < pendingRequests.length) {
+        return;
+      }
+      for (int i = 0; i < pendingRequestCount; i++) {
+        Http2FrameStream stream = pendingRequests[i].stream();
+        Http2Headers headers = new DefaultHttp2Headers().status("200").add("content-length", "0");
+        ctx.write(new DefaultHttp2HeadersFrame(headers).stream(stream));
+        ctx.write(
+            new DefaultHttp2DataFrame(Unpooled.EMPTY_BUFFER, /* endStream= */ true).stream(stream));
+        pendingRequests[i] = null;
+      }
+      pendingRequestCount = 0;
+      ctx.flush();
+    }
+  }
+
+  // the streams are normally created by the Http2FrameCodec, which is not part of this benchmark
+  private static class Stream implements Http2FrameStream {
+    private final int id;
+
+    private Stream(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public int id() {
+      return id;
+    }
+
+    @Override
+    public Http2Stream.State state() {
+      return Http2Stream.State.OPEN;
+    }
+  }
+}
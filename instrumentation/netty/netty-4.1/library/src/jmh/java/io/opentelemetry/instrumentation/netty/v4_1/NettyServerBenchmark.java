@@ -0,0 +1,119 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of tracing requests on a single keep-alive connection, driving the server
+ * handlers through an {@link EmbeddedChannel}. Run with the gc profiler (enabled by default) to see
+ * the per-request allocation rate ({@code gc.alloc.rate.norm} divided by {@code
+ * pipelinedRequests}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class NettyServerBenchmark {
+
+  // the number of requests that are sent on the connection before the first response is written
+  @Param({"1", "4"})
+  public int pipelinedRequests;
+
+  private EmbeddedChannel channel;
+  private FullHttpRequest request;
+
+  @Setup
+  public void setUp() {
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setTracerProvider(SdkTracerProvider.builder().build()).build();
+    NettyServerTelemetry telemetry = NettyServerTelemetry.create(openTelemetry);
+
+    channel =
+        new EmbeddedChannel(
+            telemetry.createCombinedHandler(), new RespondingHandler(pipelinedRequests));
+    request =
+        new DefaultFullHttpRequest(
+            HttpVersion.HTTP_1_1, HttpMethod.GET, "/users?id=1", Unpooled.EMPTY_BUFFER);
+    request.headers().set(HttpHeaderNames.HOST, "localhost:8080");
+    request.headers().set(HttpHeaderNames.USER_AGENT, "benchmark/1.0");
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finish();
+  }
+
+  @Benchmark
+  public Object requests() {
+    for (int i = 0; i < pipelinedRequests; i++) {
+      channel.writeInbound(request);
+    }
+    Object response = null;
+    for (int i = 0; i < pipelinedRequests; i++) {
+      response = channel.readOutbound();
+    }
+    return response;
+  }
+
+  private static class RespondingHandler extends ChannelInboundHandlerAdapter {
+    private final int pipelinedRequests;
+    private final FullHttpResponse response;
+    private int pendingRequests;
+
+    private RespondingHandler(int pipelinedRequests) {
+      this.pipelinedRequests = pipelinedRequests;
+      response =
+          new DefaultFullHttpResponse(
+              HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.EMPTY_BUFFER);
+      response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (!(msg instanceof HttpRequest)) {
+        return;
+      }
+      if (++pendingRequests < pipelinedRequests) {
+        return;
+      }
+      for (; pendingRequests > 0; pendingRequests--) {
+        ctx.write(response);
+      }
+      ctx.flush();
+    }
+  }
+}
@@ -38,7 +38,9 @@ public final class NettyClientTelemetryBuilder {
 
   NettyClientTelemetryBuilder(OpenTelemetry openTelemetry) {
     builder =
-        NettyClientInstrumenterBuilderFactory.create("io.opentelemetry.netty-4.1", openTelemetry);
+        NettyClientInstrumenterBuilderFactory.create("io.opentelemetry.netty-4.1", openTelemetry)
+            // the body bytes are counted by the client handlers
+            .setCountMessageBodySizes(true);
   }
 
   /**
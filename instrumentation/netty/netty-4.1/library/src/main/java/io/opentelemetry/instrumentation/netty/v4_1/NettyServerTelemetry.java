@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.netty.v4_1;
 
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelInboundHandler;
 import io.netty.channel.ChannelOutboundHandler;
 import io.netty.channel.CombinedChannelDuplexHandler;
@@ -13,6 +14,7 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.NettyCommonRequest;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.ProtocolEventHandler;
+import io.opentelemetry.instrumentation.netty.v4_1.internal.server.Http2ServerTracingHandler;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.server.HttpServerRequestTracingHandler;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.server.HttpServerResponseBeforeCommitHandler;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.server.HttpServerResponseTracingHandler;
@@ -66,4 +68,15 @@ public final class NettyServerTelemetry {
     return new HttpServerTracingHandler(
         instrumenter, HttpServerResponseBeforeCommitHandler.Noop.INSTANCE, protocolEventHandler);
   }
+
+  /**
+   * Returns a handler that instruments HTTP/2 requests on the connection channel. Must be added to
+   * the pipeline after the {@code Http2FrameCodec} (before the {@code Http2MultiplexHandler}, if
+   * any); a single handler traces all streams of the connection.
+   *
+   * <p>Requires {@code io.netty:netty-codec-http2} 4.1.25 or newer.
+   */
+  public ChannelDuplexHandler createHttp2Handler() {
+    return new Http2ServerTracingHandler(instrumenter);
+  }
 }
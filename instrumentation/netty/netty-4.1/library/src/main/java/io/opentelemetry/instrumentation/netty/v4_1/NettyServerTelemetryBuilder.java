@@ -42,10 +42,12 @@ public final class NettyServerTelemetryBuilder {
   NettyServerTelemetryBuilder(OpenTelemetry openTelemetry) {
     builder =
         DefaultHttpServerInstrumenterBuilder.create(
-            "io.opentelemetry.netty-4.1",
-            openTelemetry,
-            new NettyHttpServerAttributesGetter(),
-            new HttpRequestHeadersGetter());
+                "io.opentelemetry.netty-4.1",
+                openTelemetry,
+                new NettyHttpServerAttributesGetter(),
+                new HttpRequestHeadersGetter())
+            // the body bytes are counted by the server handlers
+            .setCountMessageBodySizes(true);
   }
 
   /**
@@ -20,9 +20,11 @@ import javax.annotation.Nullable;
 public final class ServerContexts {
   private static final int PIPELINING_LIMIT = 1000;
   // With http pipelining multiple requests can be sent on the same connection. Responses should be
-  // sent in the same order the requests came in. We use this deque to store the request context
-  // and pop elements as responses are sent.
-  private final Deque<ServerContext> serverContexts = new ArrayDeque<>();
+  // sent in the same order the requests came in. We keep the first (oldest) context in a field and
+  // only the pipelined ones after it in a deque, so that the common case of a keep-alive connection
+  // with a single in-flight request never touches (or allocates) the deque.
+  @Nullable private ServerContext first;
+  @Nullable private Deque<ServerContext> pipelined;
   private volatile boolean broken = false;
 
   private ServerContexts() {}
@@ -50,38 +52,56 @@ public final class ServerContexts {
 
   @Nullable
   public ServerContext peekFirst() {
-    return serverContexts.peekFirst();
+    return first;
   }
 
   @Nullable
   public ServerContext peekLast() {
-    return serverContexts.peekLast();
+    if (pipelined != null && !pipelined.isEmpty()) {
+      return pipelined.peekLast();
+    }
+    return first;
   }
 
   @Nullable
   public ServerContext pollFirst() {
-    return serverContexts.pollFirst();
+    ServerContext result = first;
+    first = pipelined != null ? pipelined.pollFirst() : null;
+    return result;
   }
 
   @Nullable
   public ServerContext pollLast() {
-    return serverContexts.pollLast();
+    if (pipelined != null && !pipelined.isEmpty()) {
+      return pipelined.pollLast();
+    }
+    ServerContext result = first;
+    first = null;
+    return result;
   }
 
   public void addLast(ServerContext context) {
     if (broken) {
       return;
     }
+    if (first == null) {
+      first = context;
+      return;
+    }
+    if (pipelined == null) {
+      pipelined = new ArrayDeque<>();
+    }
     // If the pipelining limit is exceeded we'll stop tracing and mark the channel as broken.
     // Exceeding the limit indicates that there is good chance that server context are not removed
     // from the deque and there could be a memory leak. This could happen when http server decides
     // not to send response to some requests, for example see
     // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/11942
-    if (serverContexts.size() >= PIPELINING_LIMIT) {
+    if (pipelined.size() + 1 >= PIPELINING_LIMIT) {
       broken = true;
-      serverContexts.clear();
+      first = null;
+      pipelined.clear();
       return;
     }
-    serverContexts.addLast(context);
+    pipelined.addLast(context);
   }
 }
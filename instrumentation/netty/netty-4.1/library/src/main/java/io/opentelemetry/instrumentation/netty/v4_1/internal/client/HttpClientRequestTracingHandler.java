@@ -8,15 +8,18 @@ package io.opentelemetry.instrumentation.netty.v4_1.internal.client;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.NettyCommonRequest;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.AttributeKeys;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -37,6 +40,10 @@ public class HttpClientRequestTracingHandler extends ChannelOutboundHandlerAdapt
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise prm) throws Exception {
     if (!(msg instanceof HttpRequest)) {
+      if (msg instanceof HttpContent) {
+        // body of the request whose span was started when its headers were written
+        countRequestBytes(ctx.channel().attr(AttributeKeys.CLIENT_CONTEXT).get(), msg);
+      }
       super.write(ctx, msg, prm);
       return;
     }
@@ -60,6 +67,7 @@ public class HttpClientRequestTracingHandler extends ChannelOutboundHandlerAdapt
     parentContextAttr.set(parentContext);
     contextAttr.set(context);
     requestAttr.set(request);
+    countRequestBytes(context, msg);
 
     try (Scope ignored = context.makeCurrent()) {
       super.write(ctx, msg, prm);
@@ -71,6 +79,15 @@ public class HttpClientRequestTracingHandler extends ChannelOutboundHandlerAdapt
     // span is ended normally in HttpClientResponseTracingHandler
   }
 
+  private static void countRequestBytes(@Nullable Context context, Object msg) {
+    if (context != null && msg instanceof HttpContent) {
+      HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(context);
+      if (counter != null) {
+        counter.addRequestBytes(((HttpContent) msg).content().readableBytes());
+      }
+    }
+  }
+
   private static boolean isAwsRequest(NettyCommonRequest request) {
     // The AWS SDK uses Netty for asynchronous clients but constructs a request signature before
     // beginning transport. This means we MUST suppress Netty spans we would normally create or
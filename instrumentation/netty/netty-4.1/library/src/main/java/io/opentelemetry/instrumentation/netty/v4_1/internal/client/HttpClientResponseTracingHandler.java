@@ -10,6 +10,7 @@ import static io.opentelemetry.instrumentation.netty.v4_1.internal.client.HttpCl
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.LastHttpContent;
@@ -17,6 +18,7 @@ import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.NettyCommonRequest;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.AttributeKeys;
@@ -54,6 +56,14 @@ public class HttpClientResponseTracingHandler extends ChannelInboundHandlerAdapt
     Attribute<Context> parentContextAttr = ctx.channel().attr(AttributeKeys.CLIENT_PARENT_CONTEXT);
     Context parentContext = parentContextAttr.get();
 
+    if (msg instanceof HttpContent) {
+      // the content has to be counted before the span is ended below
+      HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(context);
+      if (counter != null) {
+        counter.addResponseBytes(((HttpContent) msg).content().readableBytes());
+      }
+    }
+
     if (msg instanceof FullHttpResponse) {
       FullHttpResponse response = (FullHttpResponse) msg;
       if (response.status().equals(HttpResponseStatus.SWITCHING_PROTOCOLS)) {
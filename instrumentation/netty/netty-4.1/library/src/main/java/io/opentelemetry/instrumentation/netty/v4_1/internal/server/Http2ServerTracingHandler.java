@@ -0,0 +1,265 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2ResetFrame;
+import io.netty.handler.codec.http2.Http2StreamFrame;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.netty.common.internal.NettyErrorHolder;
+import io.opentelemetry.instrumentation.netty.common.v4_0.internal.NettyCommonRequest;
+import io.opentelemetry.instrumentation.netty.v4_1.internal.ServerContext;
+import io.opentelemetry.instrumentation.netty.v4_1.internal.ServerContexts;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Traces HTTP/2 requests on the connection (parent) channel, after the {@code Http2FrameCodec}.
+ * Server spans are keyed by stream id; only headers frames are converted, DATA frames are passed
+ * through untouched apart from reading their end of stream flag.
+ *
+ * <p>The request of an h2c upgrade is received by the HTTP/1.1 handlers, which start its span and
+ * keep it open when the {@code 101 Switching Protocols} response is written. Its response is then
+ * sent on stream 1, so that span is continued and ended here instead of starting another one.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public class Http2ServerTracingHandler extends ChannelDuplexHandler {
+
+  private static final HttpVersion HTTP_2 = new HttpVersion("HTTP", 2, 0, true);
+
+  private final Instrumenter<NettyCommonRequest, HttpResponse> instrumenter;
+  // only accessed from the event loop of the connection channel
+  private final IntObjectMap<StreamContext> streams = new IntObjectHashMap<>();
+
+  public Http2ServerTracingHandler(Instrumenter<NettyCommonRequest, HttpResponse> instrumenter) {
+    this.instrumenter = instrumenter;
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    if (!hasStream(msg)) {
+      super.channelRead(ctx, msg);
+      return;
+    }
+    if (msg instanceof Http2HeadersFrame) {
+      Http2HeadersFrame frame = (Http2HeadersFrame) msg;
+      int streamId = streamId(frame);
+      StreamContext streamContext = streams.get(streamId);
+      if (streamContext == null) {
+        streamContext = start(ctx, streamId, frame.headers());
+      }
+      if (streamContext != null) {
+        try (Scope ignored = streamContext.context.makeCurrent()) {
+          super.channelRead(ctx, msg);
+        }
+        return;
+      }
+    } else if (msg instanceof Http2ResetFrame) {
+      // the client cancelled the stream, no response will be sent
+      StreamContext streamContext = streams.remove(streamId((Http2ResetFrame) msg));
+      if (streamContext != null) {
+        end(streamContext, null);
+      }
+    }
+    super.channelRead(ctx, msg);
+  }
+
+  @Nullable
+  private StreamContext start(ChannelHandlerContext ctx, int streamId, Http2Headers headers) {
+    CharSequence method = headers.method();
+    if (method == null) {
+      // trailers of a stream that isn't traced
+      return null;
+    }
+    if (streamId == Http2CodecUtil.HTTP_UPGRADE_STREAM_ID) {
+      ServerContexts serverContexts = ServerContexts.get(ctx.channel());
+      ServerContext upgradeContext = serverContexts != null ? serverContexts.pollFirst() : null;
+      if (upgradeContext != null) {
+        StreamContext streamContext =
+            new StreamContext(upgradeContext.context(), upgradeContext.request());
+        streams.put(streamId, streamContext);
+        return streamContext;
+      }
+    }
+    Context parentContext = Context.current();
+    NettyCommonRequest request =
+        NettyCommonRequest.create(toHttpRequest(method, headers), ctx.channel());
+    if (!instrumenter.shouldStart(parentContext, request)) {
+      return null;
+    }
+    StreamContext streamContext =
+        new StreamContext(instrumenter.start(parentContext, request), request);
+    streams.put(streamId, streamContext);
+    return streamContext;
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise)
+      throws Exception {
+    if (!hasStream(msg)) {
+      // let the codec report the missing stream
+      super.write(ctx, msg, promise);
+      return;
+    }
+    StreamContext streamContext = null;
+    boolean endStream = false;
+    if (msg instanceof Http2HeadersFrame) {
+      Http2HeadersFrame frame = (Http2HeadersFrame) msg;
+      int streamId = streamId(frame);
+      streamContext = streams.get(streamId);
+      if (streamContext != null) {
+        HttpResponse response = toHttpResponse(frame.headers());
+        // informational (1xx) responses are followed by the final response
+        if (response != null
+            && response.status().code() >= 200
+            && streamContext.response == null) {
+          streamContext.response = response;
+        }
+        endStream = frame.isEndStream();
+      }
+    } else if (msg instanceof Http2DataFrame) {
+      // the content of DATA frames is never read, only their end of stream flag
+      if (((Http2DataFrame) msg).isEndStream()) {
+        streamContext = streams.get(streamId((Http2DataFrame) msg));
+        endStream = true;
+      }
+    } else if (msg instanceof Http2ResetFrame) {
+      streamContext = streams.get(streamId((Http2ResetFrame) msg));
+      endStream = true;
+    }
+
+    if (streamContext == null) {
+      super.write(ctx, msg, promise);
+      return;
+    }
+
+    ChannelPromise writePromise = promise;
+    if (endStream) {
+      streams.remove(streamId((Http2StreamFrame) msg));
+      if (promise.isVoid()) {
+        writePromise = ctx.newPromise();
+      }
+      StreamContext endedStreamContext = streamContext;
+      writePromise.addListener(future -> end(endedStreamContext, future));
+    }
+
+    try (Scope ignored = streamContext.context.makeCurrent()) {
+      super.write(ctx, msg, writePromise);
+    } catch (Throwable t) {
+      if (!endStream) {
+        streams.remove(streamId((Http2StreamFrame) msg));
+        end(streamContext, t);
+      }
+      throw t;
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    // connection was closed, close all remaining streams
+    for (StreamContext streamContext : streams.values()) {
+      end(streamContext, null);
+    }
+    streams.clear();
+    super.channelInactive(ctx);
+  }
+
+  private void end(StreamContext streamContext, ChannelFuture future) {
+    end(streamContext, future.isSuccess() ? null : future.cause());
+  }
+
+  private void end(StreamContext streamContext, @Nullable Throwable error) {
+    error = NettyErrorHolder.getOrDefault(streamContext.context, error);
+    instrumenter.end(streamContext.context, streamContext.request, streamContext.response, error);
+  }
+
+  // frames written before a stream was created for them have no stream
+  private static boolean hasStream(Object msg) {
+    return !(msg instanceof Http2StreamFrame) || ((Http2StreamFrame) msg).stream() != null;
+  }
+
+  private static int streamId(Http2StreamFrame frame) {
+    return frame.stream().id();
+  }
+
+  private static DefaultHttpRequest toHttpRequest(CharSequence method, Http2Headers headers) {
+    CharSequence path = headers.path();
+    DefaultHttpRequest request =
+        new DefaultHttpRequest(
+            HTTP_2,
+            HttpMethod.valueOf(method.toString()),
+            path != null ? path.toString() : "/",
+            /* validateHeaders= */ false);
+    HttpHeaders httpHeaders = request.headers();
+    copyHeaders(headers, httpHeaders);
+    CharSequence authority = headers.authority();
+    if (authority != null && !httpHeaders.contains(HttpHeaderNames.HOST)) {
+      httpHeaders.set(HttpHeaderNames.HOST, authority);
+    }
+    return request;
+  }
+
+  @Nullable
+  private static HttpResponse toHttpResponse(Http2Headers headers) {
+    CharSequence status = headers.status();
+    if (status == null) {
+      // trailers
+      return null;
+    }
+    HttpResponseStatus responseStatus;
+    try {
+      responseStatus = HttpResponseStatus.valueOf(Integer.parseInt(status.toString()));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    DefaultHttpResponse response =
+        new DefaultHttpResponse(HTTP_2, responseStatus, /* validateHeaders= */ false);
+    copyHeaders(headers, response.headers());
+    return response;
+  }
+
+  private static void copyHeaders(Http2Headers from, HttpHeaders to) {
+    for (Map.Entry<CharSequence, CharSequence> header : from) {
+      CharSequence name = header.getKey();
+      // skip the pseudo headers (:method, :path, :status, ...)
+      if (name.length() > 0 && name.charAt(0) != ':') {
+        to.add(name, header.getValue());
+      }
+    }
+  }
+
+  private static final class StreamContext {
+    private final Context context;
+    private final NettyCommonRequest request;
+    @Nullable private HttpResponse response;
+
+    private StreamContext(Context context, NettyCommonRequest request) {
+      this.context = context;
+      this.request = request;
+    }
+  }
+}
@@ -8,10 +8,12 @@ package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.NettyCommonRequest;
 import io.opentelemetry.instrumentation.netty.v4_1.internal.ServerContext;
@@ -40,6 +42,7 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
       if (serverContext == null) {
         super.channelRead(ctx, msg);
       } else {
+        countRequestBytes(serverContext.context(), msg);
         try (Scope ignored = serverContext.context().makeCurrent()) {
           super.channelRead(ctx, msg);
         }
@@ -56,6 +59,7 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
 
     Context context = instrumenter.start(parentContext, request);
     serverContexts.addLast(ServerContext.create(context, request));
+    countRequestBytes(context, msg);
 
     try (Scope ignored = context.makeCurrent()) {
       super.channelRead(ctx, msg);
@@ -70,6 +74,15 @@ public class HttpServerRequestTracingHandler extends ChannelInboundHandlerAdapte
     // span is ended normally in HttpServerResponseTracingHandler
   }
 
+  private static void countRequestBytes(Context context, Object msg) {
+    if (msg instanceof HttpContent) {
+      HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(context);
+      if (counter != null) {
+        counter.addRequestBytes(((HttpContent) msg).content().readableBytes());
+      }
+    }
+  }
+
   @Override
   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
     // connection was closed, close all remaining requests
@@ -5,17 +5,21 @@
 
 package io.opentelemetry.instrumentation.netty.v4_1.internal.server;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.AttributeKey;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.netty.common.internal.NettyErrorHolder;
 import io.opentelemetry.instrumentation.netty.common.v4_0.internal.NettyCommonRequest;
@@ -33,6 +37,8 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
 
   private static final AttributeKey<HttpResponse> HTTP_SERVER_RESPONSE =
       AttributeKey.valueOf(HttpServerResponseTracingHandler.class, "http-server-response");
+  private static final AttributeKey<EndSpanListener> END_SPAN_LISTENER =
+      AttributeKey.valueOf(HttpServerResponseTracingHandler.class, "end-span-listener");
 
   private final Instrumenter<NettyCommonRequest, HttpResponse> instrumenter;
   private final HttpServerResponseBeforeCommitHandler beforeCommitHandler;
@@ -56,6 +62,14 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
       return;
     }
 
+    if (msg instanceof HttpContent) {
+      // the content has to be counted before the span is ended by the write listener below
+      HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(serverContext.context());
+      if (counter != null) {
+        counter.addResponseBytes(((HttpContent) msg).content().readableBytes());
+      }
+    }
+
     ChannelPromise writePromise;
 
     if (msg instanceof LastHttpContent) {
@@ -81,13 +95,7 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
           // Headers and body all sent together, we have the response information in the msg.
           beforeCommitHandler.handle(serverContext.context(), (HttpResponse) msg);
           serverContexts.pollFirst();
-          writePromise.addListener(
-              future ->
-                  end(
-                      serverContext.context(),
-                      serverContext.request(),
-                      (FullHttpResponse) msg,
-                      writePromise));
+          writePromise.addListener(endSpanListener(ctx.channel(), serverContext, response));
         }
       } else {
         HttpResponse responseTest = ctx.channel().attr(HTTP_SERVER_RESPONSE).get();
@@ -98,9 +106,7 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
           // LastHttpContent).
           serverContexts.pollFirst();
           HttpResponse response = ctx.channel().attr(HTTP_SERVER_RESPONSE).getAndSet(null);
-          writePromise.addListener(
-              future ->
-                  end(serverContext.context(), serverContext.request(), response, writePromise));
+          writePromise.addListener(endSpanListener(ctx.channel(), serverContext, response));
         }
       }
     } else {
@@ -130,10 +136,17 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
     }
   }
 
-  private void end(
-      Context context, NettyCommonRequest request, HttpResponse response, ChannelFuture future) {
-    Throwable error = future.isSuccess() ? null : future.cause();
-    end(context, request, response, error);
+  private EndSpanListener endSpanListener(
+      Channel channel, ServerContext serverContext, @Nullable HttpResponse response) {
+    // reuse the listener of the previous response on this channel if its write has completed, so
+    // that keep-alive connections don't allocate a new listener for every request; pipelined
+    // responses whose writes overlap each get their own listener
+    EndSpanListener listener = channel.attr(END_SPAN_LISTENER).getAndSet(null);
+    if (listener == null) {
+      listener = new EndSpanListener(channel);
+    }
+    listener.init(this, serverContext, response);
+    return listener;
   }
 
   private void end(
@@ -144,4 +157,42 @@ public class HttpServerResponseTracingHandler extends ChannelOutboundHandlerAdap
     error = NettyErrorHolder.getOrDefault(context, error);
     instrumenter.end(context, request, response, error);
   }
+
+  private static final class EndSpanListener implements ChannelFutureListener {
+    private final Channel channel;
+    @Nullable private HttpServerResponseTracingHandler handler;
+    @Nullable private ServerContext serverContext;
+    @Nullable private HttpResponse response;
+
+    private EndSpanListener(Channel channel) {
+      this.channel = channel;
+    }
+
+    private void init(
+        HttpServerResponseTracingHandler handler,
+        ServerContext serverContext,
+        @Nullable HttpResponse response) {
+      this.handler = handler;
+      this.serverContext = serverContext;
+      this.response = response;
+    }
+
+    @Override
+    public void operationComplete(ChannelFuture future) {
+      HttpServerResponseTracingHandler handler = this.handler;
+      ServerContext serverContext = this.serverContext;
+      HttpResponse response = this.response;
+      if (handler == null || serverContext == null) {
+        return;
+      }
+      // clear the state before making the listener available for the next response
+      this.handler = null;
+      this.serverContext = null;
+      this.response = null;
+      channel.attr(END_SPAN_LISTENER).set(this);
+
+      Throwable error = future.isSuccess() ? null : future.cause();
+      handler.end(serverContext.context(), serverContext.request(), response, error);
+    }
+  }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.v4_1;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_REQUEST_METHOD;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
+import static io.opentelemetry.semconv.NetworkAttributes.NETWORK_PROTOCOL_VERSION;
+import static io.opentelemetry.semconv.UrlAttributes.URL_PATH;
+import static io.opentelemetry.semconv.UrlAttributes.URL_QUERY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.DefaultHttp2ResetFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2FrameStream;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2Stream;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class Netty41Http2ServerTest {
+
+  @RegisterExtension
+  private static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  @Test
+  void tracesInterleavedStreams() {
+    EmbeddedChannel channel = createChannel(new RespondingHandler());
+
+    // the response to stream 3 is sent before the response to stream 1
+    channel.writeInbound(requestHeaders(1, "/first?a=b", false));
+    channel.writeInbound(requestHeaders(3, "/second", true));
+    channel.writeInbound(new DefaultHttp2DataFrame(body(), true).stream(new TestStream(1)));
+    channel.finishAndReleaseAll();
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("GET")
+                        .hasKind(SpanKind.SERVER)
+                        .hasNoParent()
+                        .hasAttributesSatisfying(
+                            equalTo(HTTP_REQUEST_METHOD, "GET"),
+                            equalTo(URL_PATH, "/first"),
+                            equalTo(URL_QUERY, "a=b"),
+                            equalTo(NETWORK_PROTOCOL_VERSION, "2"),
+                            equalTo(HTTP_RESPONSE_STATUS_CODE, 200))),
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("GET")
+                        .hasKind(SpanKind.SERVER)
+                        .hasNoParent()
+                        .hasAttributesSatisfying(
+                            equalTo(HTTP_REQUEST_METHOD, "GET"),
+                            equalTo(URL_PATH, "/second"),
+                            equalTo(NETWORK_PROTOCOL_VERSION, "2"),
+                            equalTo(HTTP_RESPONSE_STATUS_CODE, 200))));
+  }
+
+  @Test
+  void endsSpanWhenStreamIsReset() {
+    EmbeddedChannel channel = createChannel(new ChannelInboundHandlerAdapter());
+
+    channel.writeInbound(requestHeaders(5, "/cancelled", true));
+    channel.writeInbound(new DefaultHttp2ResetFrame(Http2Error.CANCEL).stream(new TestStream(5)));
+    channel.finishAndReleaseAll();
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("GET")
+                        .hasKind(SpanKind.SERVER)
+                        .hasAttributesSatisfying(equalTo(URL_PATH, "/cancelled"))));
+    // no response was sent
+    assertThat(testing.spans().get(0).getAttributes().get(HTTP_RESPONSE_STATUS_CODE)).isNull();
+  }
+
+  private static EmbeddedChannel createChannel(ChannelInboundHandlerAdapter application) {
+    return new EmbeddedChannel(
+        NettyServerTelemetry.create(testing.getOpenTelemetry()).createHttp2Handler(),
+        application);
+  }
+
+  private static Http2HeadersFrame requestHeaders(int streamId, String path, boolean endStream) {
+    Http2Headers headers =
+        new DefaultHttp2Headers().method("GET").path(path).scheme("http").authority("localhost");
+    return new DefaultHttp2HeadersFrame(headers, endStream).stream(new TestStream(streamId));
+  }
+
+  private static ByteBuf body() {
+    return Unpooled.copiedBuffer("body", StandardCharsets.UTF_8);
+  }
+
+  // responds to every request once its end of stream is received
+  private static class RespondingHandler extends ChannelInboundHandlerAdapter {
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      if (msg instanceof DefaultHttp2DataFrame) {
+        DefaultHttp2DataFrame frame = (DefaultHttp2DataFrame) msg;
+        frame.release();
+        if (frame.isEndStream()) {
+          respond(ctx, frame.stream());
+        }
+      } else if (msg instanceof Http2HeadersFrame) {
+        Http2HeadersFrame frame = (Http2HeadersFrame) msg;
+        if (frame.isEndStream()) {
+          respond(ctx, frame.stream());
+        }
+      }
+    }
+
+    private static void respond(ChannelHandlerContext ctx, Http2FrameStream stream) {
+      ctx.write(
+          new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().status("200")).stream(stream));
+      ctx.writeAndFlush(new DefaultHttp2DataFrame(body(), true).stream(stream));
+    }
+  }
+
+  private static class TestStream implements Http2FrameStream {
+    private final int id;
+
+    private TestStream(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public int id() {
+      return id;
+    }
+
+    @Override
+    public Http2Stream.State state() {
+      return Http2Stream.State.OPEN;
+    }
+  }
+}
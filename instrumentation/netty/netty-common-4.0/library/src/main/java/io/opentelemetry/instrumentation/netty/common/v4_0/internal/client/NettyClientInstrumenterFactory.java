@@ -11,6 +11,7 @@ import io.netty.channel.Channel;
 import io.netty.handler.codec.http.HttpResponse;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.api.incubator.builder.internal.DefaultHttpClientInstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientServicePeerAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
@@ -47,6 +48,15 @@ public final class NettyClientInstrumenterFactory {
   // TODO: replace OpenTelemetry parameter with ConfigProvider once it is stabilized and available
   // via openTelemetry.getConfigProvider()
   public NettyConnectionInstrumenter createConnectionInstrumenter(OpenTelemetry openTelemetry) {
+    NettyConnectionInstrumenter instrumenter = createConnectionSpanInstrumenter(openTelemetry);
+    HttpClientConnectionMetrics connectionMetrics = builder.buildConnectionMetrics();
+    return connectionMetrics == null
+        ? instrumenter
+        : new NettyConnectionMetricsInstrumenter(instrumenter, connectionMetrics);
+  }
+
+  private NettyConnectionInstrumenter createConnectionSpanInstrumenter(
+      OpenTelemetry openTelemetry) {
     if (connectionTelemetryState == NettyConnectionInstrumentationFlag.DISABLED) {
       return new NoopConnectionInstrumenter();
     }
@@ -89,6 +99,14 @@ public final class NettyClientInstrumenterFactory {
   }
 
   public NettySslInstrumenter createSslInstrumenter() {
+    NettySslInstrumenter instrumenter = createSslSpanInstrumenter();
+    HttpClientConnectionMetrics connectionMetrics = builder.buildConnectionMetrics();
+    return connectionMetrics == null
+        ? instrumenter
+        : new NettySslMetricsInstrumenter(instrumenter, connectionMetrics);
+  }
+
+  private NettySslInstrumenter createSslSpanInstrumenter() {
     if (sslTelemetryState == NettyConnectionInstrumentationFlag.DISABLED) {
       return new NoopSslInstrumenter();
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.common.v4_0.internal.client;
+
+import io.netty.channel.Channel;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import io.opentelemetry.instrumentation.netty.common.internal.NettyConnectionRequest;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import javax.annotation.Nullable;
+
+/**
+ * Records the DNS lookup and connection metrics of every RESOLVE and CONNECT operation, regardless
+ * of whether the wrapped instrumenter creates spans for them. Netty has no connection pool of its
+ * own, so acquiring a connection means establishing a new one, and the connections are counted as
+ * active for as long as they are open.
+ */
+final class NettyConnectionMetricsInstrumenter implements NettyConnectionInstrumenter {
+
+  private static final ContextKey<ConnectionStart> KEY =
+      ContextKey.named("opentelemetry-netty-connection-metrics-start");
+
+  private final NettyConnectionInstrumenter delegate;
+  private final HttpClientConnectionMetrics metrics;
+
+  NettyConnectionMetricsInstrumenter(
+      NettyConnectionInstrumenter delegate, HttpClientConnectionMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public boolean shouldStart(Context parentContext, NettyConnectionRequest request) {
+    // metrics are recorded for every operation, the delegate is checked in start()
+    return true;
+  }
+
+  @Override
+  public Context start(Context parentContext, NettyConnectionRequest request) {
+    boolean delegateStarted = delegate.shouldStart(parentContext, request);
+    Context context = delegateStarted ? delegate.start(parentContext, request) : parentContext;
+    return context.with(KEY, new ConnectionStart(System.nanoTime(), delegateStarted));
+  }
+
+  @Override
+  public void end(
+      Context context,
+      NettyConnectionRequest request,
+      @Nullable Channel channel,
+      @Nullable Throwable error) {
+    ConnectionStart start = context.get(KEY);
+    if (start == null) {
+      delegate.end(context, request, channel, error);
+      return;
+    }
+    if (start.delegateStarted) {
+      delegate.end(context, request, channel, error);
+    }
+
+    SocketAddress remoteAddress = request.remoteAddressOnStart();
+    String host = null;
+    int port = -1;
+    if (remoteAddress instanceof InetSocketAddress) {
+      InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteAddress;
+      host = inetSocketAddress.getHostString();
+      port = inetSocketAddress.getPort();
+    }
+
+    long durationNanos = System.nanoTime() - start.startNanos;
+    if ("RESOLVE".equals(request.spanName())) {
+      metrics.recordDnsLookupDuration(durationNanos, host, error);
+      return;
+    }
+
+    metrics.recordConnectionAcquireDuration(durationNanos, host, port, error);
+
+    if (error == null && channel != null) {
+      String closedHost = host;
+      int closedPort = port;
+      long openedNanos = System.nanoTime();
+      metrics.recordConnectionOpened(host, port);
+      channel
+          .closeFuture()
+          .addListener(
+              future ->
+                  metrics.recordConnectionClosed(
+                      closedHost, closedPort, System.nanoTime() - openedNanos));
+    }
+  }
+
+  private static final class ConnectionStart {
+    private final long startNanos;
+    private final boolean delegateStarted;
+
+    private ConnectionStart(long startNanos, boolean delegateStarted) {
+      this.startNanos = startNanos;
+      this.delegateStarted = delegateStarted;
+    }
+  }
+}
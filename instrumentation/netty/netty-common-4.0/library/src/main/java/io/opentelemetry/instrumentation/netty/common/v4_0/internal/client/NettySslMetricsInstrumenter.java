@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.netty.common.v4_0.internal.client;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import javax.annotation.Nullable;
+
+/**
+ * Records the TLS handshake duration of every handshake, regardless of whether the wrapped
+ * instrumenter creates spans for them.
+ */
+final class NettySslMetricsInstrumenter implements NettySslInstrumenter {
+
+  private static final ContextKey<HandshakeStart> KEY =
+      ContextKey.named("opentelemetry-netty-ssl-metrics-start");
+
+  private final NettySslInstrumenter delegate;
+  private final HttpClientConnectionMetrics metrics;
+
+  NettySslMetricsInstrumenter(NettySslInstrumenter delegate, HttpClientConnectionMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public boolean shouldStart(Context parentContext, NettySslRequest request) {
+    // metrics are recorded for every handshake, the delegate is checked in start()
+    return true;
+  }
+
+  @Override
+  public Context start(Context parentContext, NettySslRequest request) {
+    boolean delegateStarted = delegate.shouldStart(parentContext, request);
+    Context context = delegateStarted ? delegate.start(parentContext, request) : parentContext;
+    return context.with(KEY, new HandshakeStart(System.nanoTime(), delegateStarted));
+  }
+
+  @Override
+  public void end(Context context, NettySslRequest request, @Nullable Throwable error) {
+    HandshakeStart start = context.get(KEY);
+    if (start == null) {
+      delegate.end(context, request, error);
+      return;
+    }
+    if (start.delegateStarted) {
+      delegate.end(context, request, error);
+    }
+
+    SocketAddress remoteAddress = request.remoteAddress();
+    String host = null;
+    int port = -1;
+    if (remoteAddress instanceof InetSocketAddress) {
+      InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteAddress;
+      host = inetSocketAddress.getHostString();
+      port = inetSocketAddress.getPort();
+    }
+    metrics.recordTlsHandshakeDuration(System.nanoTime() - start.startNanos, host, port, error);
+  }
+
+  private static final class HandshakeStart {
+    private final long startNanos;
+    private final boolean delegateStarted;
+
+    private HandshakeStart(long startNanos, boolean delegateStarted) {
+      this.startNanos = startNanos;
+      this.delegateStarted = delegateStarted;
+    }
+  }
+}
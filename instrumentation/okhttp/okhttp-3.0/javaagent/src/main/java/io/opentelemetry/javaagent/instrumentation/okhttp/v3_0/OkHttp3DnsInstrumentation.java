@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.okhttp.v3_0;
+
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
+import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import io.opentelemetry.javaagent.bootstrap.CallDepth;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import javax.annotation.Nullable;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import okhttp3.Dns;
+
+class OkHttp3DnsInstrumentation implements TypeInstrumentation {
+  @Override
+  public ElementMatcher<ClassLoader> classLoaderOptimization() {
+    return hasClassesNamed("okhttp3.Dns");
+  }
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return implementsInterface(named("okhttp3.Dns"));
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        named("lookup")
+            .and(not(isAbstract()))
+            .and(takesArguments(1))
+            .and(takesArgument(0, String.class)),
+        getClass().getName() + "$LookupAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class LookupAdvice {
+
+    public static class AdviceScope {
+      private final HttpClientConnectionMetrics connectionMetrics;
+      private final CallDepth callDepth;
+      private final long startNanos;
+
+      private AdviceScope(
+          HttpClientConnectionMetrics connectionMetrics, CallDepth callDepth, long startNanos) {
+        this.connectionMetrics = connectionMetrics;
+        this.callDepth = callDepth;
+        this.startNanos = startNanos;
+      }
+
+      @Nullable
+      public static AdviceScope start() {
+        HttpClientConnectionMetrics connectionMetrics = OkHttp3Singletons.connectionMetrics();
+        if (connectionMetrics == null) {
+          return null;
+        }
+        // a Dns that delegates to another one, e.g. to Dns.SYSTEM, is recorded only once
+        CallDepth callDepth = CallDepth.forClass(Dns.class);
+        callDepth.getAndIncrement();
+        return new AdviceScope(connectionMetrics, callDepth, System.nanoTime());
+      }
+
+      public void end(String hostname, @Nullable Throwable throwable) {
+        if (callDepth.decrementAndGet() > 0) {
+          return;
+        }
+        connectionMetrics.recordDnsLookupDuration(
+            System.nanoTime() - startNanos, hostname, throwable);
+      }
+    }
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static AdviceScope onEnter() {
+      return AdviceScope.start();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.Argument(0) String hostname,
+        @Advice.Thrown @Nullable Throwable throwable,
+        @Advice.Enter @Nullable AdviceScope adviceScope) {
+      if (adviceScope != null) {
+        adviceScope.end(hostname, throwable);
+      }
+    }
+  }
+}
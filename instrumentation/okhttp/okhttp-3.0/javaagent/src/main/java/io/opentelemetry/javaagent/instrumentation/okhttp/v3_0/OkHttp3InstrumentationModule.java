@@ -21,6 +21,9 @@ public class OkHttp3InstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return asList(new OkHttp3Instrumentation(), new OkHttp3DispatcherInstrumentation());
+    return asList(
+        new OkHttp3Instrumentation(),
+        new OkHttp3DnsInstrumentation(),
+        new OkHttp3DispatcherInstrumentation());
   }
 }
@@ -8,6 +8,8 @@ package io.opentelemetry.javaagent.instrumentation.okhttp.v3_0;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.builder.internal.DefaultHttpClientInstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpClientRequestResendCount;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
@@ -16,6 +18,7 @@ import io.opentelemetry.instrumentation.okhttp.v3_0.internal.OkHttpClientInstrum
 import io.opentelemetry.instrumentation.okhttp.v3_0.internal.TracingInterceptor;
 import io.opentelemetry.javaagent.bootstrap.executors.PropagatedContext;
 import io.opentelemetry.javaagent.bootstrap.internal.JavaagentHttpClientInstrumenters;
+import javax.annotation.Nullable;
 import okhttp3.Interceptor;
 import okhttp3.Response;
 
@@ -24,9 +27,15 @@ public class OkHttp3Singletons {
 
   public static final VirtualField<Runnable, PropagatedContext> PROPAGATED_CONTEXT =
       VirtualField.find(Runnable.class, PropagatedContext.class);
-  private static final Instrumenter<Interceptor.Chain, Response> instrumenter =
-      JavaagentHttpClientInstrumenters.create(
-          OkHttpClientInstrumenterBuilderFactory.create(GlobalOpenTelemetry.get()));
+  private static final Instrumenter<Interceptor.Chain, Response> instrumenter;
+  @Nullable private static final HttpClientConnectionMetrics connectionMetrics;
+
+  static {
+    DefaultHttpClientInstrumenterBuilder<Interceptor.Chain, Response> builder =
+        OkHttpClientInstrumenterBuilderFactory.create(GlobalOpenTelemetry.get());
+    instrumenter = JavaagentHttpClientInstrumenters.create(builder);
+    connectionMetrics = builder.buildConnectionMetrics();
+  }
 
   private static final Interceptor contextInterceptor =
       chain -> {
@@ -54,5 +63,10 @@ public class OkHttp3Singletons {
     return tracingInterceptor;
   }
 
+  @Nullable
+  public static HttpClientConnectionMetrics connectionMetrics() {
+    return connectionMetrics;
+  }
+
   private OkHttp3Singletons() {}
 }
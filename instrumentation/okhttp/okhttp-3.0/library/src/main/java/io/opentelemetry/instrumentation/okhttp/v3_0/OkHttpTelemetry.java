@@ -7,9 +7,12 @@ package io.opentelemetry.instrumentation.okhttp.v3_0;
 
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.okhttp.v3_0.internal.ConnectionErrorSpanInterceptor;
+import io.opentelemetry.instrumentation.okhttp.v3_0.internal.MeasuredDns;
 import io.opentelemetry.instrumentation.okhttp.v3_0.internal.TracingInterceptor;
+import javax.annotation.Nullable;
 import okhttp3.Call;
 import okhttp3.Callback;
 import okhttp3.Interceptor;
@@ -20,6 +23,7 @@ import okhttp3.Response;
 public final class OkHttpTelemetry {
   private final Instrumenter<Interceptor.Chain, Response> instrumenter;
   private final ContextPropagators propagators;
+  @Nullable private final HttpClientConnectionMetrics connectionMetrics;
 
   /** Returns a new instance configured with the given {@link OpenTelemetry} instance. */
   public static OkHttpTelemetry create(OpenTelemetry openTelemetry) {
@@ -32,9 +36,12 @@ public final class OkHttpTelemetry {
   }
 
   OkHttpTelemetry(
-      Instrumenter<Interceptor.Chain, Response> instrumenter, ContextPropagators propagators) {
+      Instrumenter<Interceptor.Chain, Response> instrumenter,
+      ContextPropagators propagators,
+      @Nullable HttpClientConnectionMetrics connectionMetrics) {
     this.instrumenter = instrumenter;
     this.propagators = propagators;
+    this.connectionMetrics = connectionMetrics;
   }
 
   /**
@@ -52,6 +59,7 @@ public final class OkHttpTelemetry {
     builder.interceptors().add(0, new ContextInterceptor());
     builder.interceptors().add(1, new ConnectionErrorSpanInterceptor(instrumenter));
     builder.networkInterceptors().add(0, new TracingInterceptor(instrumenter, propagators));
+    builder.dns(MeasuredDns.wrap(connectionMetrics, baseClient.dns()));
     OkHttpClient tracingClient = builder.build();
     return new TracingCallFactory(tracingClient);
   }
@@ -144,6 +144,7 @@ public final class OkHttpTelemetryBuilder {
 
   /** Returns a new instance with the configured settings. */
   public OkHttpTelemetry build() {
-    return new OkHttpTelemetry(builder.build(), openTelemetry.getPropagators());
+    return new OkHttpTelemetry(
+        builder.build(), openTelemetry.getPropagators(), builder.buildConnectionMetrics());
   }
 }
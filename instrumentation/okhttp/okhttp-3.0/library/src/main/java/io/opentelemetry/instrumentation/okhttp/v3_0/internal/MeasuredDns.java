@@ -0,0 +1,52 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.okhttp.v3_0.internal;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import javax.annotation.Nullable;
+import okhttp3.Dns;
+
+/**
+ * A {@link Dns} that records the duration of the lookups of the wrapped one.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MeasuredDns implements Dns {
+
+  /** Returns {@code dns} wrapped to record its lookups, if the metrics are enabled. */
+  public static Dns wrap(@Nullable HttpClientConnectionMetrics connectionMetrics, Dns dns) {
+    if (connectionMetrics == null || dns instanceof MeasuredDns) {
+      return dns;
+    }
+    return new MeasuredDns(connectionMetrics, dns);
+  }
+
+  private final HttpClientConnectionMetrics connectionMetrics;
+  private final Dns delegate;
+
+  private MeasuredDns(HttpClientConnectionMetrics connectionMetrics, Dns delegate) {
+    this.connectionMetrics = connectionMetrics;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+    long startNanos = System.nanoTime();
+    Throwable error = null;
+    try {
+      return delegate.lookup(hostname);
+    } catch (Throwable t) {
+      error = t;
+      throw t;
+    } finally {
+      connectionMetrics.recordDnsLookupDuration(System.nanoTime() - startNanos, hostname, error);
+    }
+  }
+}
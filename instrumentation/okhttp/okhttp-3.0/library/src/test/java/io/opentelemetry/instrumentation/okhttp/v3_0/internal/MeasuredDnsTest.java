@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.okhttp.v3_0.internal;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.HttpClientConnectionMetrics;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import okhttp3.Dns;
+import org.junit.jupiter.api.Test;
+
+class MeasuredDnsTest {
+
+  // copied from DnsIncubatingAttributes
+  private static final AttributeKey<String> DNS_QUESTION_NAME =
+      AttributeKey.stringKey("dns.question.name");
+
+  @Test
+  void recordsLookups() throws UnknownHostException {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(metricReader).build())
+            .build();
+    HttpClientConnectionMetrics metrics = HttpClientConnectionMetrics.create(openTelemetry, "test");
+
+    InetAddress address = InetAddress.getLoopbackAddress();
+    Dns delegate =
+        hostname -> {
+          if (hostname.equals("localhost")) {
+            return singletonList(address);
+          }
+          throw new UnknownHostException(hostname);
+        };
+    Dns dns = MeasuredDns.wrap(metrics, delegate);
+
+    assertThat(MeasuredDns.wrap(metrics, dns)).isSameAs(dns);
+    assertThat(MeasuredDns.wrap(null, delegate)).isSameAs(delegate);
+
+    assertThat(dns.lookup("localhost")).containsExactly(address);
+    assertThatThrownBy(() -> dns.lookup("unknown")).isInstanceOf(UnknownHostException.class);
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("dns.lookup.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(DNS_QUESTION_NAME, "localhost")),
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasAttributesSatisfyingExactly(
+                                            equalTo(DNS_QUESTION_NAME, "unknown"),
+                                            equalTo(
+                                                ERROR_TYPE, "java.net.UnknownHostException")))));
+  }
+}
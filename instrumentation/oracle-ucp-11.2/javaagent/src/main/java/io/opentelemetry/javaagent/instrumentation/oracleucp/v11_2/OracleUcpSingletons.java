@@ -6,16 +6,71 @@
 package io.opentelemetry.javaagent.instrumentation.oracleucp.v11_2;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings.PooledConnectionState;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.oracleucp.v11_2.OracleUcpTelemetry;
+import javax.annotation.Nullable;
+import oracle.ucp.UniversalConnectionPool;
+import oracle.ucp.UniversalPooledConnection;
 
 public class OracleUcpSingletons {
 
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.oracle-ucp-11.2";
+
   private static final OracleUcpTelemetry telemetry =
       OracleUcpTelemetry.create(GlobalOpenTelemetry.get());
 
+  private static final VirtualField<UniversalConnectionPool, DbConnectionPoolTimings> poolTimings =
+      VirtualField.find(UniversalConnectionPool.class, DbConnectionPoolTimings.class);
+  private static final VirtualField<UniversalPooledConnection, PooledConnectionState>
+      connectionState =
+          VirtualField.find(UniversalPooledConnection.class, PooledConnectionState.class);
+
   public static OracleUcpTelemetry telemetry() {
     return telemetry;
   }
 
+  public static void registerTimings(UniversalConnectionPool connectionPool) {
+    poolTimings.set(
+        connectionPool,
+        DbConnectionPoolMetrics.create(
+                GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, connectionPool.getName())
+            .timings());
+  }
+
+  public static void unregisterTimings(UniversalConnectionPool connectionPool) {
+    poolTimings.set(connectionPool, null);
+  }
+
+  public static void onBorrow(
+      UniversalConnectionPool connectionPool,
+      @Nullable UniversalPooledConnection connection,
+      long startNanos) {
+    DbConnectionPoolTimings timings = poolTimings.get(connectionPool);
+    if (timings == null || connection == null) {
+      return;
+    }
+    timings.recordWaitTime(System.nanoTime() - startNanos);
+
+    PooledConnectionState state = connectionState.get(connection);
+    if (state == null) {
+      state = new PooledConnectionState();
+      connectionState.set(connection, state);
+    }
+    state.borrowed(timings);
+  }
+
+  public static void onReturn(@Nullable UniversalPooledConnection connection) {
+    if (connection == null) {
+      return;
+    }
+    PooledConnectionState state = connectionState.get(connection);
+    if (state != null) {
+      state.returned();
+    }
+  }
+
   private OracleUcpSingletons() {}
 }
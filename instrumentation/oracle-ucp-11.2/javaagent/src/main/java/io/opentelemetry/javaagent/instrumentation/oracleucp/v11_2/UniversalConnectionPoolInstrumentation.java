@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.oracleucp.v11_2;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
 import static io.opentelemetry.javaagent.instrumentation.oracleucp.v11_2.OracleUcpSingletons.telemetry;
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
@@ -15,10 +16,12 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 import io.opentelemetry.javaagent.bootstrap.CallDepth;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import javax.annotation.Nullable;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import oracle.ucp.UniversalConnectionPool;
+import oracle.ucp.UniversalPooledConnection;
 
 class UniversalConnectionPoolInstrumentation implements TypeInstrumentation {
 
@@ -38,6 +41,12 @@ class UniversalConnectionPoolInstrumentation implements TypeInstrumentation {
         named("start").and(isPublic()), getClass().getName() + "$StartAdvice");
     transformer.applyAdviceToMethod(
         named("stop").and(takesArguments(0)), getClass().getName() + "$StopAdvice");
+    transformer.applyAdviceToMethod(
+        isMethod().and(named("borrowConnection")).and(takesArguments(1)),
+        getClass().getName() + "$BorrowConnectionAdvice");
+    transformer.applyAdviceToMethod(
+        isMethod().and(named("returnConnection")).and(takesArguments(1)),
+        getClass().getName() + "$ReturnConnectionAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -46,6 +55,7 @@ class UniversalConnectionPoolInstrumentation implements TypeInstrumentation {
     @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
     public static void onExit(@Advice.This UniversalConnectionPool connectionPool) {
       telemetry().registerMetrics(connectionPool);
+      OracleUcpSingletons.registerTimings(connectionPool);
     }
   }
 
@@ -66,6 +76,44 @@ class UniversalConnectionPoolInstrumentation implements TypeInstrumentation {
         return;
       }
       telemetry().unregisterMetrics(connectionPool);
+      OracleUcpSingletons.unregisterTimings(connectionPool);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class BorrowConnectionAdvice {
+
+    // returns a primitive instead of an advice scope so that borrowing a connection does not
+    // allocate
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static long onEnter() {
+      CallDepth.forClass(UniversalPooledConnection.class).getAndIncrement();
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This UniversalConnectionPool connectionPool,
+        @Advice.Return @Nullable Object connection,
+        @Advice.Enter long startNanos) {
+      if (CallDepth.forClass(UniversalPooledConnection.class).decrementAndGet() > 0) {
+        return;
+      }
+      if (connection instanceof UniversalPooledConnection) {
+        OracleUcpSingletons.onBorrow(
+            connectionPool, (UniversalPooledConnection) connection, startNanos);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ReturnConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.Argument(0) @Nullable Object connection) {
+      if (connection instanceof UniversalPooledConnection) {
+        OracleUcpSingletons.onReturn((UniversalPooledConnection) connection);
+      }
     }
   }
 }
@@ -26,4 +26,9 @@ class OracleUcpInstrumentationTest extends AbstractOracleUcpInstrumentationTest
 
   @Override
   protected void shutdown(PoolDataSource connectionPool) {}
+
+  @Override
+  protected boolean recordsConnectionTimings() {
+    return true;
+  }
 }
@@ -46,4 +46,11 @@ class OracleUcpInstrumentationTest extends AbstractOracleUcpInstrumentationTest
             .getConnectionPool(connectionPool.getConnectionPoolName());
     telemetry.unregisterMetrics(universalConnectionPool);
   }
+
+  @Override
+  protected boolean recordsConnectionTimings() {
+    // the library instrumentation only observes the state of the pool, it doesn't see connections
+    // being borrowed and returned
+    return false;
+  }
 }
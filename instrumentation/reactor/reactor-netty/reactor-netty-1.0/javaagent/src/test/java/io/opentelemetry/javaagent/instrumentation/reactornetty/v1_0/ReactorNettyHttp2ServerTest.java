@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.reactornetty.v1_0;
+
+import static io.opentelemetry.api.trace.SpanKind.SERVER;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_REQUEST_METHOD;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
+import static io.opentelemetry.semconv.NetworkAttributes.NETWORK_PROTOCOL_VERSION;
+import static io.opentelemetry.semconv.UrlAttributes.URL_PATH;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.opentelemetry.instrumentation.testing.junit.AgentInstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+class ReactorNettyHttp2ServerTest {
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = AgentInstrumentationExtension.create();
+
+  private static DisposableServer server;
+  private static DisposableServer upgradeServer;
+
+  @BeforeAll
+  static void setUp() {
+    server = startServer(HttpProtocol.H2C);
+    upgradeServer = startServer(HttpProtocol.HTTP11, HttpProtocol.H2C);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    server.disposeNow();
+    upgradeServer.disposeNow();
+  }
+
+  private static DisposableServer startServer(HttpProtocol... protocols) {
+    return HttpServer.create()
+        .host("localhost")
+        .port(0)
+        .protocol(protocols)
+        .handle((request, response) -> response.sendString(Mono.just("Hello")))
+        .bindNow();
+  }
+
+  private static String get(DisposableServer server, HttpProtocol... protocols) {
+    return HttpClient.create()
+        .protocol(protocols)
+        .baseUrl("http://localhost:" + server.port())
+        .get()
+        .uri("/hello?a=b")
+        .responseContent()
+        .aggregate()
+        .asString()
+        .block(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void serverSpan() {
+    String body = get(server, HttpProtocol.H2C);
+
+    assertThat(body).isEqualTo("Hello");
+
+    // the client side of the HTTP/2 connection is not traced by the netty handlers, so only the
+    // server span is checked here
+    await()
+        .untilAsserted(
+            () -> {
+              List<SpanData> serverSpans =
+                  testing.spans().stream()
+                      .filter(span -> span.getKind() == SERVER)
+                      .collect(toList());
+              assertThat(serverSpans).hasSize(1);
+              SpanData span = serverSpans.get(0);
+              assertThat(span.getName()).isEqualTo("GET");
+              assertThat(span.getAttributes().get(HTTP_REQUEST_METHOD)).isEqualTo("GET");
+              assertThat(span.getAttributes().get(URL_PATH)).isEqualTo("/hello");
+              assertThat(span.getAttributes().get(HTTP_RESPONSE_STATUS_CODE)).isEqualTo(200);
+              assertThat(span.getAttributes().get(NETWORK_PROTOCOL_VERSION)).isEqualTo("2");
+            });
+  }
+
+  @Test
+  void upgradedServerSpan() {
+    // the client sends the first request as HTTP/1.1 with an h2c upgrade, the response is then sent
+    // on HTTP/2 stream 1
+    String body = get(upgradeServer, HttpProtocol.HTTP11, HttpProtocol.H2C);
+
+    assertThat(body).isEqualTo("Hello");
+
+    // the upgrade request is traced once, from the HTTP/1.1 request to the HTTP/2 response
+    await()
+        .untilAsserted(
+            () -> {
+              List<SpanData> serverSpans =
+                  testing.spans().stream()
+                      .filter(span -> span.getKind() == SERVER)
+                      .collect(toList());
+              assertThat(serverSpans).hasSize(1);
+              SpanData span = serverSpans.get(0);
+              assertThat(span.getName()).isEqualTo("GET");
+              assertThat(span.getAttributes().get(HTTP_REQUEST_METHOD)).isEqualTo("GET");
+              assertThat(span.getAttributes().get(URL_PATH)).isEqualTo("/hello");
+              assertThat(span.getAttributes().get(HTTP_RESPONSE_STATUS_CODE)).isEqualTo(200);
+            });
+  }
+}
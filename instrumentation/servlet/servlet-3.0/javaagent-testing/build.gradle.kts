@@ -23,7 +23,25 @@ dependencies {
 }
 
 tasks {
+  val testExperimental = register<Test>("testExperimental") {
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    filter {
+      includeTestsMatching("JettyServlet3BodySizeTest")
+    }
+    include("**/JettyServlet3BodySizeTest.*")
+    jvmArgs("-Dotel.instrumentation.http.server.emit-experimental-telemetry=true")
+    // required on jdk17
+    jvmArgs("--add-opens=java.base/java.util=ALL-UNNAMED")
+    jvmArgs("-XX:+IgnoreUnrecognizedVMOptions")
+    systemProperty("collectMetadata", otelProps.collectMetadata)
+    systemProperty("metadataConfig", "otel.instrumentation.http.server.emit-experimental-telemetry=true")
+  }
+
   test {
+    filter {
+      excludeTestsMatching("JettyServlet3BodySizeTest")
+    }
     jvmArgs("-Dotel.instrumentation.servlet.experimental.request-parameters.included=test-*")
     jvmArgs("-Dotel.instrumentation.servlet.experimental.request-parameters.excluded=test-secret")
     // required on jdk17
@@ -31,6 +49,10 @@ tasks {
     jvmArgs("-XX:+IgnoreUnrecognizedVMOptions")
     systemProperty("collectMetadata", otelProps.collectMetadata)
   }
+
+  check {
+    dependsOn(testExperimental)
+  }
 }
 
 // Servlet 3.0 in latest Jetty versions requires Java 11
@@ -0,0 +1,144 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.servlet.v3_0.jetty;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static io.opentelemetry.semconv.incubating.HttpIncubatingAttributes.HTTP_REQUEST_BODY_SIZE;
+import static io.opentelemetry.semconv.incubating.HttpIncubatingAttributes.HTTP_RESPONSE_BODY_SIZE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.http.AbstractHttpServerUsingTest;
+import io.opentelemetry.instrumentation.testing.junit.http.HttpServerInstrumentationExtension;
+import io.opentelemetry.testing.internal.armeria.common.AggregatedHttpResponse;
+import io.opentelemetry.testing.internal.armeria.common.HttpData;
+import io.opentelemetry.testing.internal.armeria.common.HttpMethod;
+import io.opentelemetry.testing.internal.armeria.common.HttpRequest;
+import io.opentelemetry.testing.internal.armeria.common.HttpRequestWriter;
+import java.io.IOException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class JettyServlet3BodySizeTest extends AbstractHttpServerUsingTest<Server> {
+
+  @RegisterExtension
+  private static final InstrumentationExtension testing =
+      HttpServerInstrumentationExtension.forAgent();
+
+  @BeforeAll
+  void setup() {
+    startServer();
+  }
+
+  @AfterAll
+  void cleanup() {
+    cleanupServer();
+  }
+
+  @Override
+  protected Server setupServer() throws Exception {
+    Server server = new Server(port);
+    ServletContextHandler handler = new ServletContextHandler(null, getContextPath());
+    handler.addServlet(ChunkedServlet.class, "/chunked");
+    handler.addServlet(UploadServlet.class, "/upload");
+    server.setHandler(handler);
+    server.start();
+    return server;
+  }
+
+  @Override
+  protected void stopServer(Server server) throws Exception {
+    server.stop();
+    server.destroy();
+  }
+
+  @Override
+  protected String getContextPath() {
+    return "/jetty-context";
+  }
+
+  @Test
+  void countsChunkedResponseBody() {
+    AggregatedHttpResponse response =
+        client.get(h1Address.resolve("chunked").toString()).aggregate().join();
+
+    assertThat(response.status().code()).isEqualTo(200);
+    assertThat(response.headers().get("content-length")).isNull();
+    assertThat(response.contentUtf8()).isEqualTo("hello world");
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("GET " + getContextPath() + "/chunked")
+                        .hasKind(SpanKind.SERVER)
+                        .hasAttributesSatisfying(equalTo(HTTP_RESPONSE_BODY_SIZE, 11))));
+  }
+
+  @Test
+  void countsChunkedRequestBody() {
+    HttpRequestWriter request =
+        HttpRequest.streaming(HttpMethod.POST, h1Address.resolve("upload").toString());
+    // the request has no content length, so it is sent chunked
+    request.write(HttpData.ofUtf8("hello"));
+    request.write(HttpData.ofUtf8(" world"));
+    request.close();
+    AggregatedHttpResponse response = client.execute(request).aggregate().join();
+
+    assertThat(response.status().code()).isEqualTo(200);
+    assertThat(response.contentUtf8()).isEqualTo("11");
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("POST " + getContextPath() + "/upload")
+                        .hasKind(SpanKind.SERVER)
+                        .hasAttributesSatisfying(equalTo(HTTP_REQUEST_BODY_SIZE, 11))));
+  }
+
+  public static class ChunkedServlet extends HttpServlet {
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      ServletOutputStream out = response.getOutputStream();
+      out.write("hello".getBytes(UTF_8));
+      // flushing commits the response before its length is known, so it is sent chunked
+      out.flush();
+      out.write(" world".getBytes(UTF_8));
+    }
+  }
+
+  public static class UploadServlet extends HttpServlet {
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+      ServletInputStream in = request.getInputStream();
+      int length = 0;
+      // read a single byte first, and the rest in bulk
+      if (in.read() >= 0) {
+        length++;
+      }
+      byte[] buffer = new byte[4];
+      int read;
+      while ((read = in.read(buffer, 0, buffer.length)) >= 0) {
+        length += read;
+      }
+      response.getWriter().print(length);
+    }
+  }
+}
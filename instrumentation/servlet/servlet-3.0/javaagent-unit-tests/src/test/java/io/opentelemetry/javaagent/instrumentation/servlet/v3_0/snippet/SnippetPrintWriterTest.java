@@ -140,6 +140,25 @@ class SnippetPrintWriterTest {
     assertThat(response.getStringContent()).isEqualTo(expectedHtml);
   }
 
+  @Test
+  void testHeadTagSplitAcrossWrites() throws IOException {
+    String snippet = "\n  <script type=\"text/javascript\"> Test </script>";
+    String html = readFileAsString("beforeSnippetInjection.html");
+    String expectedHtml = readFileAsString("afterSnippetInjection.html");
+
+    for (int split = 0; split <= html.length(); split++) {
+      InMemoryHttpServletResponse response = createInMemoryHttpServletResponse("text/html");
+      Servlet3SnippetInjectingResponseWrapper responseWrapper =
+          new Servlet3SnippetInjectingResponseWrapper(response, snippet);
+
+      responseWrapper.getWriter().write(html.substring(0, split));
+      responseWrapper.getWriter().write(html.substring(split).toCharArray());
+      responseWrapper.getWriter().flush();
+
+      assertThat(response.getStringContent()).isEqualTo(expectedHtml);
+    }
+  }
+
   private static InMemoryHttpServletResponse createInMemoryHttpServletResponse(String contentType) {
     HttpServletResponse response = mock(HttpServletResponse.class);
     when(response.getContentType()).thenReturn(contentType);
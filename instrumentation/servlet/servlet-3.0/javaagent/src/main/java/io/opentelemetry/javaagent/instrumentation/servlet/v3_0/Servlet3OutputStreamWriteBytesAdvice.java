@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.servlet.v3_0;
 import static io.opentelemetry.javaagent.instrumentation.servlet.v3_0.Servlet3Singletons.snippetInjectionHelper;
 
 import io.opentelemetry.javaagent.bootstrap.servlet.InjectionState;
+import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletOutputStreamBodySizeHelper;
 import io.opentelemetry.javaagent.instrumentation.servlet.v3_0.snippet.ServletOutputStreamInjectionState;
 import java.io.IOException;
 import javax.servlet.ServletOutputStream;
@@ -23,6 +24,7 @@ public class Servlet3OutputStreamWriteBytesAdvice {
   public static boolean methodEnter(
       @Advice.This ServletOutputStream servletOutputStream, @Advice.Argument(0) byte[] write)
       throws IOException {
+    ServletOutputStreamBodySizeHelper.onWriteStart(write.length);
     InjectionState state = ServletOutputStreamInjectionState.getInjectionState(servletOutputStream);
     if (state == null) {
       return true;
@@ -35,4 +37,9 @@ public class Servlet3OutputStreamWriteBytesAdvice {
     return !snippetInjectionHelper()
         .handleWrite(state, servletOutputStream, write, 0, write.length);
   }
+
+  @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+  public static void methodExit() {
+    ServletOutputStreamBodySizeHelper.onWriteEnd();
+  }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.servlet.v3_0;
 import static io.opentelemetry.javaagent.instrumentation.servlet.v3_0.Servlet3Singletons.snippetInjectionHelper;
 
 import io.opentelemetry.javaagent.bootstrap.servlet.InjectionState;
+import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletOutputStreamBodySizeHelper;
 import io.opentelemetry.javaagent.instrumentation.servlet.v3_0.snippet.ServletOutputStreamInjectionState;
 import java.io.IOException;
 import javax.servlet.ServletOutputStream;
@@ -25,6 +26,7 @@ public class Servlet3OutputStreamWriteBytesAndOffsetAdvice {
       @Advice.Argument(value = 1) int off,
       @Advice.Argument(value = 2) int len)
       throws IOException {
+    ServletOutputStreamBodySizeHelper.onWriteStart(len);
     InjectionState state = ServletOutputStreamInjectionState.getInjectionState(servletOutputStream);
     if (state == null) {
       return true;
@@ -36,4 +38,9 @@ public class Servlet3OutputStreamWriteBytesAndOffsetAdvice {
     // original method call should be executed
     return !snippetInjectionHelper().handleWrite(state, servletOutputStream, write, off, len);
   }
+
+  @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+  public static void methodExit() {
+    ServletOutputStreamBodySizeHelper.onWriteEnd();
+  }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.servlet.v3_0;
 import static io.opentelemetry.javaagent.instrumentation.servlet.v3_0.Servlet3Singletons.snippetInjectionHelper;
 
 import io.opentelemetry.javaagent.bootstrap.servlet.InjectionState;
+import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletOutputStreamBodySizeHelper;
 import io.opentelemetry.javaagent.instrumentation.servlet.v3_0.snippet.ServletOutputStreamInjectionState;
 import java.io.IOException;
 import javax.servlet.ServletOutputStream;
@@ -23,6 +24,7 @@ public class Servlet3OutputStreamWriteIntAdvice {
   public static boolean methodEnter(
       @Advice.This ServletOutputStream servletOutputStream, @Advice.Argument(0) int write)
       throws IOException {
+    ServletOutputStreamBodySizeHelper.onWriteStart(1);
     InjectionState state = ServletOutputStreamInjectionState.getInjectionState(servletOutputStream);
     if (state == null) {
       return true;
@@ -34,4 +36,9 @@ public class Servlet3OutputStreamWriteIntAdvice {
     // original method call should be executed
     return !snippetInjectionHelper().handleWrite(state, servletOutputStream, write);
   }
+
+  @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+  public static void methodExit() {
+    ServletOutputStreamBodySizeHelper.onWriteEnd();
+  }
 }
@@ -30,6 +30,7 @@ public class Servlet3Singletons {
           ServletRequestContext<HttpServletRequest>, ServletResponseContext<HttpServletResponse>>
       instrumenter =
           AgentServletInstrumenterBuilder.<HttpServletRequest, HttpServletResponse>create()
+              .countMessageBodySizes()
               .build(INSTRUMENTATION_NAME, Servlet3Accessor.INSTANCE);
 
   private static final ServletHelper<HttpServletRequest, HttpServletResponse> helper =
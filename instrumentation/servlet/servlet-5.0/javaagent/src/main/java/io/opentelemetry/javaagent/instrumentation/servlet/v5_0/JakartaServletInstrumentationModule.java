@@ -15,6 +15,7 @@ import io.opentelemetry.javaagent.instrumentation.servlet.common.async.AsyncCont
 import io.opentelemetry.javaagent.instrumentation.servlet.common.async.AsyncStartInstrumentation;
 import io.opentelemetry.javaagent.instrumentation.servlet.common.response.HttpServletResponseInstrumentation;
 import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletAndFilterInstrumentation;
+import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletInputStreamInstrumentation;
 import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletOutputStreamInstrumentation;
 import java.util.List;
 
@@ -44,6 +45,7 @@ public class JakartaServletInstrumentationModule extends InstrumentationModule {
             adviceClassName(".Servlet5OutputStreamWriteBytesAndOffsetAdvice"),
             adviceClassName(".Servlet5OutputStreamWriteBytesAdvice"),
             adviceClassName(".Servlet5OutputStreamWriteIntAdvice")),
+        new ServletInputStreamInstrumentation(BASE_PACKAGE),
         new HttpServletResponseInstrumentation(
             BASE_PACKAGE, adviceClassName(".response.ResponseSendAdvice")));
   }
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.servlet.v5_0;
 import static io.opentelemetry.javaagent.instrumentation.servlet.v5_0.Servlet5Singletons.snippetInjectionHelper;
 
 import io.opentelemetry.javaagent.bootstrap.servlet.InjectionState;
+import io.opentelemetry.javaagent.instrumentation.servlet.common.service.ServletOutputStreamBodySizeHelper;
 import io.opentelemetry.javaagent.instrumentation.servlet.v5_0.snippet.ServletOutputStreamInjectionState;
 import jakarta.servlet.ServletOutputStream;
 import java.io.IOException;
@@ -25,6 +26,7 @@ public class Servlet5OutputStreamWriteBytesAndOffsetAdvice {
       @Advice.Argument(value = 1) int off,
       @Advice.Argument(value = 2) int len)
       throws IOException {
+    ServletOutputStreamBodySizeHelper.onWriteStart(len);
     InjectionState state = ServletOutputStreamInjectionState.getInjectionState(servletOutputStream);
     if (state == null) {
       return true;
@@ -36,4 +38,9 @@ public class Servlet5OutputStreamWriteBytesAndOffsetAdvice {
     // original method call should be executed
     return !snippetInjectionHelper().handleWrite(state, servletOutputStream, write, off, len);
   }
+
+  @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+  public static void methodExit() {
+    ServletOutputStreamBodySizeHelper.onWriteEnd();
+  }
 }
@@ -31,6 +31,7 @@ public class Servlet5Singletons {
           ServletRequestContext<HttpServletRequest>, ServletResponseContext<HttpServletResponse>>
       instrumenter =
           AgentServletInstrumenterBuilder.<HttpServletRequest, HttpServletResponse>create()
+              .countMessageBodySizes()
               .build(INSTRUMENTATION_NAME, Servlet5Accessor.INSTANCE);
 
   private static final ServletHelper<HttpServletRequest, HttpServletResponse> helper =
@@ -49,6 +49,78 @@ public final class InjectionState {
     }
   }
 
+  /**
+   * Processes the given bytes and returns the position of the last character of "<head>" when
+   * now is the right time to inject, or -1 when the tag was not completed by these bytes.
+   */
+  public int processBytes(byte[] bytes, int off, int endExclusive) {
+    if (isHeadTagWritten()) {
+      return -1;
+    }
+    for (int i = off; i < endExclusive; i++) {
+      if (headTagBytesSeen == 0) {
+        // nothing is matched yet, so only a '<' can start the tag
+        while (bytes[i] != '<') {
+          if (++i == endExclusive) {
+            return -1;
+          }
+        }
+      }
+      if (processByte(bytes[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Processes the given chars and returns the position of the last character of "<head>" when
+   * now is the right time to inject, or -1 when the tag was not completed by these chars.
+   */
+  public int processChars(CharSequence chars, int off, int endExclusive) {
+    if (isHeadTagWritten()) {
+      return -1;
+    }
+    for (int i = off; i < endExclusive; i++) {
+      if (headTagBytesSeen == 0) {
+        // nothing is matched yet, so only a '<' can start the tag
+        while (chars.charAt(i) != '<') {
+          if (++i == endExclusive) {
+            return -1;
+          }
+        }
+      }
+      if (processByte(chars.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Same as {@link #processChars(CharSequence, int, int)}, for writers that are given a {@code
+   * char[]}, so that the array does not need to be wrapped.
+   */
+  public int processChars(char[] chars, int off, int endExclusive) {
+    if (isHeadTagWritten()) {
+      return -1;
+    }
+    for (int i = off; i < endExclusive; i++) {
+      if (headTagBytesSeen == 0) {
+        // nothing is matched yet, so only a '<' can start the tag
+        while (chars[i] != '<') {
+          if (++i == endExclusive) {
+            return -1;
+          }
+        }
+      }
+      if (processByte(chars[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   private void setHeadTagWritten() {
     headTagBytesSeen = HEAD_TAG_WRITTEN_FAKE_VALUE;
   }
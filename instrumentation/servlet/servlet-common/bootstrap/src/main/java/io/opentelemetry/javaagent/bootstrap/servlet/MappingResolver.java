@@ -5,37 +5,50 @@
 
 package io.opentelemetry.javaagent.bootstrap.servlet;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
 
 /**
  * Helper class for finding a mapping that matches current request from a collection of mappings.
  *
+ * <p>Mappings are matched in the order defined by the servlet specification: exact mappings
+ * first, then the longest matching path prefix, then extension mappings and finally the default
+ * mapping.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
 public final class MappingResolver {
+
   private final Set<String> exactMatches;
-  private final List<WildcardMatcher> wildcardMatchers;
+  // prefix (without the trailing "/*") -> mapping
+  private final Map<String, String> prefixMatches;
+  // suffix (starting with ".") -> mapping
+  private final Map<String, String> extensionMatches;
   private final boolean hasDefault;
 
   private MappingResolver(
-      Set<String> exactMatches, List<WildcardMatcher> wildcardMatchers, boolean hasDefault) {
+      Set<String> exactMatches,
+      Map<String, String> prefixMatches,
+      Map<String, String> extensionMatches,
+      boolean hasDefault) {
     this.exactMatches = exactMatches.isEmpty() ? emptySet() : exactMatches;
-    this.wildcardMatchers = wildcardMatchers.isEmpty() ? emptyList() : wildcardMatchers;
+    this.prefixMatches = prefixMatches.isEmpty() ? emptyMap() : prefixMatches;
+    this.extensionMatches = extensionMatches.isEmpty() ? emptyMap() : extensionMatches;
     this.hasDefault = hasDefault;
   }
 
   public static MappingResolver build(Collection<String> mappings) {
-    List<WildcardMatcher> wildcardMatchers = new ArrayList<>();
     Set<String> exactMatches = new HashSet<>();
+    Map<String, String> prefixMatches = new HashMap<>();
+    Map<String, String> extensionMatches = new HashMap<>();
     boolean hasDefault = false;
     for (String mapping : mappings) {
       if (mapping.equals("")) {
@@ -43,10 +56,9 @@ public final class MappingResolver {
       } else if (mapping.equals("/") || mapping.equals("/*")) {
         hasDefault = true;
       } else if (mapping.startsWith("*.") && mapping.length() > 2) {
-        wildcardMatchers.add(new SuffixMatcher("/" + mapping, mapping.substring(1)));
+        extensionMatches.putIfAbsent(mapping.substring(1), "/" + mapping);
       } else if (mapping.endsWith("/*")) {
-        wildcardMatchers.add(
-            new PrefixMatcher(mapping, mapping.substring(0, mapping.length() - 2)));
+        prefixMatches.putIfAbsent(mapping.substring(0, mapping.length() - 2), mapping);
       } else {
         exactMatches.add(mapping);
       }
@@ -57,7 +69,7 @@ public final class MappingResolver {
       hasDefault = true;
     }
 
-    return new MappingResolver(exactMatches, wildcardMatchers, hasDefault);
+    return new MappingResolver(exactMatches, prefixMatches, extensionMatches, hasDefault);
   }
 
   /** Find mapping for requested path. */
@@ -77,18 +89,44 @@ public final class MappingResolver {
       path = path.substring(0, path.length() - 1);
     }
 
+    String mapping = match(path);
+    // for jsp return servlet path
+    if ("/*.jsp".equals(mapping) || "/*.jspx".equals(mapping)) {
+      return servletPath;
+    }
+    return mapping;
+  }
+
+  @Nullable
+  private String match(String path) {
     if (exactMatches.contains(path)) {
       return path;
     }
 
-    for (WildcardMatcher matcher : wildcardMatchers) {
-      if (matcher.match(path)) {
-        String mapping = matcher.getMapping();
-        // for jsp return servlet path
-        if ("/*.jsp".equals(mapping) || "/*.jspx".equals(mapping)) {
-          return servletPath;
+    if (!prefixMatches.isEmpty()) {
+      // try the whole path first and then drop one path segment at a time to find the longest
+      // matching prefix
+      String prefix = path;
+      while (true) {
+        String mapping = prefixMatches.get(prefix);
+        if (mapping != null) {
+          return mapping;
+        }
+        int lastSlash = prefix.lastIndexOf('/');
+        if (lastSlash <= 0) {
+          break;
+        }
+        prefix = prefix.substring(0, lastSlash);
+      }
+    }
+
+    if (!extensionMatches.isEmpty()) {
+      // every suffix of the path that starts with a '.', longest first
+      for (int dot = path.indexOf('.'); dot != -1; dot = path.indexOf('.', dot + 1)) {
+        String mapping = extensionMatches.get(path.substring(dot));
+        if (mapping != null) {
+          return mapping;
         }
-        return mapping;
       }
     }
 
@@ -99,52 +137,6 @@ public final class MappingResolver {
     return null;
   }
 
-  private interface WildcardMatcher {
-    boolean match(String path);
-
-    String getMapping();
-  }
-
-  private static class PrefixMatcher implements WildcardMatcher {
-    private final String mapping;
-    private final String prefix;
-
-    private PrefixMatcher(String mapping, String prefix) {
-      this.mapping = mapping;
-      this.prefix = prefix;
-    }
-
-    @Override
-    public boolean match(String path) {
-      return path.equals(prefix) || path.startsWith(prefix + "/");
-    }
-
-    @Override
-    public String getMapping() {
-      return mapping;
-    }
-  }
-
-  private static class SuffixMatcher implements WildcardMatcher {
-    private final String mapping;
-    private final String suffix;
-
-    private SuffixMatcher(String mapping, String suffix) {
-      this.mapping = mapping;
-      this.suffix = suffix;
-    }
-
-    @Override
-    public boolean match(String path) {
-      return path.endsWith(suffix);
-    }
-
-    @Override
-    public String getMapping() {
-      return mapping;
-    }
-  }
-
   /**
    * Factory interface for creating {@link MappingResolver} instances. The main reason this class is
    * here is that we need to ensure that the class used for {@code VirtualField} lookup is always
@@ -0,0 +1,55 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.servlet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+class InjectionStateTest {
+
+  @Test
+  void processBytesFindsHeadTagSplitAcrossWrites() {
+    InjectionState state = new InjectionState(mock(SnippetInjectingResponseWrapper.class));
+
+    byte[] first = "xx<html><he".getBytes(UTF_8);
+    assertThat(state.processBytes(first, 2, first.length)).isEqualTo(-1);
+    assertThat(state.getHeadTagBytesSeen()).isEqualTo(3);
+
+    byte[] second = "ad lang=\"en\"><title>".getBytes(UTF_8);
+    assertThat(state.processBytes(second, 0, second.length)).isEqualTo(12);
+    assertThat(state.isHeadTagWritten()).isTrue();
+
+    // the tag is only found once
+    byte[] third = "<head>".getBytes(UTF_8);
+    assertThat(state.processBytes(third, 0, third.length)).isEqualTo(-1);
+  }
+
+  @Test
+  void processBytesResetsOnPartialMatch() {
+    InjectionState state = new InjectionState(mock(SnippetInjectingResponseWrapper.class));
+
+    byte[] first = "<hea".getBytes(UTF_8);
+    assertThat(state.processBytes(first, 0, first.length)).isEqualTo(-1);
+
+    byte[] second = "der><head>".getBytes(UTF_8);
+    assertThat(state.processBytes(second, 0, second.length)).isEqualTo(9);
+  }
+
+  @Test
+  void processCharsFindsHeadTagSplitAcrossWrites() {
+    InjectionState state = new InjectionState(mock(SnippetInjectingResponseWrapper.class));
+
+    char[] first = "<html><h".toCharArray();
+    assertThat(state.processChars(first, 0, first.length)).isEqualTo(-1);
+
+    char[] second = "__ead>__".toCharArray();
+    assertThat(state.processChars(second, 2, 6)).isEqualTo(5);
+    assertThat(state.isHeadTagWritten()).isTrue();
+  }
+}
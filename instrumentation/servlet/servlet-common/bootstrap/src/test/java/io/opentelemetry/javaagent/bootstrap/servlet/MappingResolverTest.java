@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap.servlet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MappingResolverTest {
+
+  private final MappingResolver resolver =
+      MappingResolver.build(asList("/api/*", "/api/admin/*", "*.jsp", "*.do", "/exact", ""));
+
+  @Test
+  void shouldPreferExactMatch() {
+    assertThat(resolver.resolve("/exact", null)).isEqualTo("/exact");
+    assertThat(resolver.resolve("/exact/", null)).isEqualTo("/exact");
+    assertThat(resolver.resolve("", "/")).isEqualTo("/");
+  }
+
+  @Test
+  void shouldPreferLongestPrefix() {
+    assertThat(resolver.resolve("/api/admin", "/users")).isEqualTo("/api/admin/*");
+    assertThat(resolver.resolve("/api/admin", null)).isEqualTo("/api/admin/*");
+    assertThat(resolver.resolve("/api", "/users")).isEqualTo("/api/*");
+    assertThat(resolver.resolve("/apis", null)).isNull();
+  }
+
+  @Test
+  void shouldMatchExtensionAfterPrefix() {
+    assertThat(resolver.resolve("/form.do", null)).isEqualTo("/*.do");
+    assertThat(resolver.resolve("/api/form.do", null)).isEqualTo("/api/*");
+    // for jsp the servlet path is returned
+    assertThat(resolver.resolve("/pages/index.jsp", null)).isEqualTo("/pages/index.jsp");
+  }
+
+  @Test
+  void shouldFallBackToDefault() {
+    MappingResolver defaultResolver = MappingResolver.build(emptyList());
+
+    assertThat(defaultResolver.resolve("/", null)).isEqualTo("/");
+    assertThat(defaultResolver.resolve("/anything", null)).isEqualTo("/*");
+    assertThat(defaultResolver.resolve(null, null)).isNull();
+  }
+}
@@ -29,6 +29,7 @@ public class AgentServletInstrumenterBuilder<REQUEST, RESPONSE> {
       new ArrayList<>();
 
   private boolean propagateOperationListenersToOnEnd;
+  private boolean countMessageBodySizes;
 
   public static <REQUEST, RESPONSE> AgentServletInstrumenterBuilder<REQUEST, RESPONSE> create() {
     return new AgentServletInstrumenterBuilder<>();
@@ -49,6 +50,16 @@ public class AgentServletInstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Reports the body sizes counted by the servlet input and output stream instrumentation, which
+   * is only available from Servlet 3.0 on.
+   */
+  @CanIgnoreReturnValue
+  public AgentServletInstrumenterBuilder<REQUEST, RESPONSE> countMessageBodySizes() {
+    countMessageBodySizes = true;
+    return this;
+  }
+
   public Instrumenter<ServletRequestContext<REQUEST>, ServletResponseContext<RESPONSE>> build(
       String instrumentationName,
       ServletAccessor<REQUEST, RESPONSE> accessor,
@@ -68,7 +79,10 @@ public class AgentServletInstrumenterBuilder<REQUEST, RESPONSE> {
     if (propagateOperationListenersToOnEnd) {
       builder.propagateOperationListenersToOnEnd();
     }
-    builder.getBuilder().configure(AgentCommonConfig.get());
+    builder
+        .getBuilder()
+        .configure(AgentCommonConfig.get())
+        .setCountMessageBodySizes(countMessageBodySizes);
 
     return builder.build(spanNameExtractor);
   }
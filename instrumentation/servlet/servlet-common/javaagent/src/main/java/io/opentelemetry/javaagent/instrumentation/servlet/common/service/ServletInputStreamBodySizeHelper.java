@@ -0,0 +1,40 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.servlet.common.service;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
+import io.opentelemetry.javaagent.bootstrap.CallDepth;
+
+/**
+ * Counts the bytes read from a {@code ServletInputStream} as the request body size of the current
+ * server request. Only the outermost read is counted, since input streams (and filters that wrap
+ * them) commonly delegate one read method to another.
+ */
+public final class ServletInputStreamBodySizeHelper {
+
+  /** Must always be paired with a call to {@link #onReadEnd(int)}. */
+  public static void onReadStart() {
+    CallDepth.forClass(ServletInputStreamBodySizeHelper.class).getAndIncrement();
+  }
+
+  /**
+   * Called when a read returns, with the number of bytes that were read, or a negative value at the
+   * end of the stream.
+   */
+  public static void onReadEnd(int bytesRead) {
+    CallDepth callDepth = CallDepth.forClass(ServletInputStreamBodySizeHelper.class);
+    if (callDepth.decrementAndGet() > 0 || bytesRead <= 0) {
+      return;
+    }
+    HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(Context.current());
+    if (counter != null) {
+      counter.addRequestBytes(bytesRead);
+    }
+  }
+
+  private ServletInputStreamBodySizeHelper() {}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.servlet.common.service;
+
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasSuperType;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static net.bytebuddy.matcher.ElementMatchers.returns;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import javax.annotation.Nullable;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Counts the bytes read from the {@code ServletInputStream}, so that the request body size is
+ * known when the request has no {@code Content-Length}, e.g. for chunked uploads. The advice does
+ * not depend on the servlet API, so it is shared by the javax and jakarta instrumentations.
+ */
+public class ServletInputStreamInstrumentation implements TypeInstrumentation {
+  private final String basePackageName;
+
+  public ServletInputStreamInstrumentation(String basePackageName) {
+    this.basePackageName = basePackageName;
+  }
+
+  @Override
+  public ElementMatcher<ClassLoader> classLoaderOptimization() {
+    return hasClassesNamed(basePackageName + ".ServletInputStream");
+  }
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return hasSuperType(named(basePackageName + ".ServletInputStream"));
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // read(byte[], int, int) and readLine(byte[], int, int)
+    transformer.applyAdviceToMethod(
+        namedOneOf("read", "readLine")
+            .and(takesArguments(3))
+            .and(takesArgument(0, byte[].class))
+            .and(takesArgument(1, int.class))
+            .and(takesArgument(2, int.class))
+            .and(returns(int.class))
+            .and(isPublic()),
+        getClass().getName() + "$ReadBytesAdvice");
+    transformer.applyAdviceToMethod(
+        named("read")
+            .and(takesArguments(1))
+            .and(takesArgument(0, byte[].class))
+            .and(returns(int.class))
+            .and(isPublic()),
+        getClass().getName() + "$ReadBytesAdvice");
+    transformer.applyAdviceToMethod(
+        named("read").and(takesArguments(0)).and(returns(int.class)).and(isPublic()),
+        getClass().getName() + "$ReadByteAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class ReadBytesAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter() {
+      ServletInputStreamBodySizeHelper.onReadStart();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+    public static void onExit(@Advice.Return int bytesRead) {
+      // the return value is 0 when the method throws
+      ServletInputStreamBodySizeHelper.onReadEnd(bytesRead);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ReadByteAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter() {
+      ServletInputStreamBodySizeHelper.onReadStart();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.Return int value, @Advice.Thrown @Nullable Throwable throwable) {
+      // a single byte was read, unless the end of the stream was reached
+      ServletInputStreamBodySizeHelper.onReadEnd(throwable != null || value < 0 ? 0 : 1);
+    }
+  }
+}
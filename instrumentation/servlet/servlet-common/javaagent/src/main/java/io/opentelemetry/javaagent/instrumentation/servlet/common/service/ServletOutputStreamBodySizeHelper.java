@@ -0,0 +1,36 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.servlet.common.service;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.http.internal.HttpMessageBodySizeCounter;
+import io.opentelemetry.javaagent.bootstrap.CallDepth;
+
+/**
+ * Counts the bytes written to a {@code ServletOutputStream} as the response body size of the
+ * current server request. Only the outermost write is counted, since output streams (and filters
+ * that wrap them) commonly delegate one write method to another.
+ */
+public final class ServletOutputStreamBodySizeHelper {
+
+  /** Must always be paired with a call to {@link #onWriteEnd()}. */
+  public static void onWriteStart(int length) {
+    CallDepth callDepth = CallDepth.forClass(ServletOutputStreamBodySizeHelper.class);
+    if (callDepth.getAndIncrement() > 0 || length <= 0) {
+      return;
+    }
+    HttpMessageBodySizeCounter counter = HttpMessageBodySizeCounter.get(Context.current());
+    if (counter != null) {
+      counter.addResponseBytes(length);
+    }
+  }
+
+  public static void onWriteEnd() {
+    CallDepth.forClass(ServletOutputStreamBodySizeHelper.class).decrementAndGet();
+  }
+
+  private ServletOutputStreamBodySizeHelper() {}
+}
@@ -13,6 +13,7 @@ import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 public class OutputStreamSnippetInjectionHelper {
 
@@ -20,6 +21,9 @@ public class OutputStreamSnippetInjectionHelper {
       Logger.getLogger(OutputStreamSnippetInjectionHelper.class.getName());
 
   private final Supplier<String> snippetSupplier;
+  // the snippet encoded with the charset of the last response it was injected into, responses
+  // almost always share the same charset so this saves encoding the snippet on every injection
+  @Nullable private volatile EncodedSnippet encodedSnippet;
 
   public OutputStreamSnippetInjectionHelper(Supplier<String> snippetSupplier) {
     this.snippetSupplier = snippetSupplier;
@@ -40,27 +44,17 @@ public class OutputStreamSnippetInjectionHelper {
     if (state.isHeadTagWritten()) {
       return false;
     }
-    int endOfHeadTagPosition;
     int endExclusive = off + length;
-    boolean endOfHeadTagFound = false;
-    for (endOfHeadTagPosition = off; endOfHeadTagPosition < endExclusive; endOfHeadTagPosition++) {
-      if (state.processByte(original[endOfHeadTagPosition])) {
-        endOfHeadTagFound = true;
-        break;
-      }
-    }
-    if (!endOfHeadTagFound) {
+    int endOfHeadTagPosition = state.processBytes(original, off, endExclusive);
+    if (endOfHeadTagPosition == -1) {
       return false;
     }
 
     if (state.getWrapper().isNotSafeToInject()) {
       return false;
     }
-    byte[] snippetBytes;
-    try {
-      snippetBytes = snippetSupplier.get().getBytes(state.getCharacterEncoding());
-    } catch (UnsupportedEncodingException e) {
-      logger.log(FINE, "Failed getting snippet bytes", e);
+    byte[] snippetBytes = getSnippetBytes(state.getCharacterEncoding());
+    if (snippetBytes == null) {
       return false;
     }
     // updating Content-Length before any further writing in case that writing triggers a flush
@@ -82,11 +76,8 @@ public class OutputStreamSnippetInjectionHelper {
     if (state.getWrapper().isNotSafeToInject()) {
       return false;
     }
-    byte[] snippetBytes;
-    try {
-      snippetBytes = snippetSupplier.get().getBytes(state.getCharacterEncoding());
-    } catch (UnsupportedEncodingException e) {
-      logger.log(FINE, "Failed getting snippet bytes", e);
+    byte[] snippetBytes = getSnippetBytes(state.getCharacterEncoding());
+    if (snippetBytes == null) {
       return false;
     }
     state.getWrapper().updateContentLengthIfPreviouslySet();
@@ -95,4 +86,35 @@ public class OutputStreamSnippetInjectionHelper {
     out.write(snippetBytes);
     return true;
   }
+
+  @Nullable
+  private byte[] getSnippetBytes(String characterEncoding) {
+    String snippet = snippetSupplier.get();
+    EncodedSnippet encoded = encodedSnippet;
+    if (encoded == null
+        || !encoded.snippet.equals(snippet)
+        || !encoded.characterEncoding.equals(characterEncoding)) {
+      try {
+        encoded =
+            new EncodedSnippet(snippet, characterEncoding, snippet.getBytes(characterEncoding));
+      } catch (UnsupportedEncodingException e) {
+        logger.log(FINE, "Failed getting snippet bytes", e);
+        return null;
+      }
+      encodedSnippet = encoded;
+    }
+    return encoded.bytes;
+  }
+
+  private static final class EncodedSnippet {
+    private final String snippet;
+    private final String characterEncoding;
+    private final byte[] bytes;
+
+    private EncodedSnippet(String snippet, String characterEncoding, byte[] bytes) {
+      this.snippet = snippet;
+      this.characterEncoding = characterEncoding;
+      this.bytes = bytes;
+    }
+  }
 }
@@ -26,9 +26,18 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
       super.write(s, off, len);
       return;
     }
-    for (int i = off; i < s.length() && i - off < len; i++) {
-      write(s.charAt(i));
+    int endExclusive = Math.min(off + len, s.length());
+    if (off >= endExclusive) {
+      return;
+    }
+    int endOfHeadTagPosition = state.processChars(s, off, endExclusive);
+    if (endOfHeadTagPosition == -1) {
+      super.write(s, off, endExclusive - off);
+      return;
     }
+    super.write(s, off, endOfHeadTagPosition + 1 - off);
+    injectSnippet();
+    super.write(s, endOfHeadTagPosition + 1, endExclusive - endOfHeadTagPosition - 1);
   }
 
   @Override
@@ -37,16 +46,9 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
     if (state.isHeadTagWritten()) {
       return;
     }
-    boolean endOfHeadTagFound = state.processByte(b);
-    if (!endOfHeadTagFound) {
-      return;
+    if (state.processByte(b)) {
+      injectSnippet();
     }
-
-    if (state.getWrapper().isNotSafeToInject()) {
-      return;
-    }
-    state.getWrapper().updateContentLengthIfPreviouslySet();
-    super.write(snippet);
   }
 
   @Override
@@ -55,8 +57,25 @@ public class SnippetInjectingPrintWriter extends PrintWriter {
       super.write(buf, off, len);
       return;
     }
-    for (int i = off; i < buf.length && i - off < len; i++) {
-      write(buf[i]);
+    int endExclusive = Math.min(off + len, buf.length);
+    if (off >= endExclusive) {
+      return;
+    }
+    int endOfHeadTagPosition = state.processChars(buf, off, endExclusive);
+    if (endOfHeadTagPosition == -1) {
+      super.write(buf, off, endExclusive - off);
+      return;
     }
+    super.write(buf, off, endOfHeadTagPosition + 1 - off);
+    injectSnippet();
+    super.write(buf, endOfHeadTagPosition + 1, endExclusive - endOfHeadTagPosition - 1);
+  }
+
+  private void injectSnippet() {
+    if (state.getWrapper().isNotSafeToInject()) {
+      return;
+    }
+    state.getWrapper().updateContentLengthIfPreviouslySet();
+    super.write(snippet, 0, snippet.length());
   }
 }
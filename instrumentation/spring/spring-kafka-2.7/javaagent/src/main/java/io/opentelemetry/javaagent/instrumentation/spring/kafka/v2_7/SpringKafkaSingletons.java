@@ -37,6 +37,15 @@ public class SpringKafkaSingletons {
                     .getBoolean("experimental_span_attributes/development", false))
             .setMessagingReceiveTelemetryEnabled(
                 ExperimentalConfig.get().messagingReceiveInstrumentationEnabled())
+            .setMaxBatchSpanLinks(
+                DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "kafka")
+                    .getInt(
+                        "max_batch_span_links/development",
+                        KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS))
+            .setCaptureBatchUpstreamTraceCount(
+                DeclarativeConfigUtil.getInstrumentationConfig(GlobalOpenTelemetry.get(), "kafka")
+                    .get("batch_upstream_trace_count/development")
+                    .getBoolean("enabled", false))
             .setErrorCauseExtractor(new SpringKafkaErrorCauseExtractor());
     batchProcessInstrumenter = factory.createBatchProcessInstrumenter();
   }
@@ -22,6 +22,8 @@ public final class SpringKafkaTelemetryBuilder {
   private IncludeExclude headers = IncludeExclude.builder().build();
   private boolean captureExperimentalSpanAttributes = false;
   private boolean messagingReceiveInstrumentationEnabled = false;
+  private int maxBatchSpanLinks = KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS;
+  private boolean captureBatchUpstreamTraceCount = false;
 
   SpringKafkaTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -86,6 +88,28 @@ public final class SpringKafkaTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of span links that a batch process span links to the records of its
+   * batch. Records with identical upstream contexts share a link. Defaults to 128.
+   */
+  @CanIgnoreReturnValue
+  public SpringKafkaTelemetryBuilder setMaxBatchSpanLinks(int maxBatchSpanLinks) {
+    this.maxBatchSpanLinks = maxBatchSpanLinks;
+    return this;
+  }
+
+  /**
+   * Sets whether batch process spans report the number of distinct upstream traces of their
+   * records in the experimental {@code kafka.batch.upstream_trace_count} attribute. Disabled by
+   * default, since computing it parses the headers of every record of the batch.
+   */
+  @CanIgnoreReturnValue
+  public SpringKafkaTelemetryBuilder setCaptureBatchUpstreamTraceCount(
+      boolean captureBatchUpstreamTraceCount) {
+    this.captureBatchUpstreamTraceCount = captureBatchUpstreamTraceCount;
+    return this;
+  }
+
   /**
    * Returns a new {@link SpringKafkaTelemetry} with the settings of this {@link
    * SpringKafkaTelemetryBuilder}.
@@ -96,6 +120,8 @@ public final class SpringKafkaTelemetryBuilder {
             .setHeaders(headers)
             .setCaptureExperimentalSpanAttributes(captureExperimentalSpanAttributes)
             .setMessagingReceiveTelemetryEnabled(messagingReceiveInstrumentationEnabled)
+            .setMaxBatchSpanLinks(maxBatchSpanLinks)
+            .setCaptureBatchUpstreamTraceCount(captureBatchUpstreamTraceCount)
             .setErrorCauseExtractor(new SpringKafkaErrorCauseExtractor());
 
     return new SpringKafkaTelemetry(
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.dbcp.v8_0;
+
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import java.time.Duration;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.tomcat.dbcp.pool2.impl.BaseGenericObjectPool;
+
+/**
+ * Records the connection wait and use time of the pools backing Tomcat DBCP data sources. The pool
+ * already measures both durations for its own statistics, so they are taken from the arguments of
+ * its internal statistics update methods.
+ */
+class BaseGenericObjectPoolInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<ClassLoader> classLoaderOptimization() {
+    return hasClassesNamed("org.apache.tomcat.dbcp.dbcp2.BasicDataSource");
+  }
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("org.apache.tomcat.dbcp.pool2.impl.BaseGenericObjectPool");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // newer Tomcat versions pass Duration instead of milliseconds to the statistics methods
+    transformer.applyAdviceToMethod(
+        named("updateStatsBorrow").and(takesArguments(2)).and(takesArgument(1, long.class)),
+        getClass().getName() + "$UpdateStatsBorrowAdvice");
+    transformer.applyAdviceToMethod(
+        named("updateStatsBorrow").and(takesArguments(2)).and(takesArgument(1, Duration.class)),
+        getClass().getName() + "$UpdateStatsBorrowDurationAdvice");
+    transformer.applyAdviceToMethod(
+        named("updateStatsReturn").and(takesArguments(1)).and(takesArgument(0, long.class)),
+        getClass().getName() + "$UpdateStatsReturnAdvice");
+    transformer.applyAdviceToMethod(
+        named("updateStatsReturn").and(takesArguments(1)).and(takesArgument(0, Duration.class)),
+        getClass().getName() + "$UpdateStatsReturnDurationAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class UpdateStatsBorrowAdvice {
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This BaseGenericObjectPool<?> pool, @Advice.Argument(1) long waitTimeMillis) {
+      DbConnectionPoolTimings timings = TomcatDbcpDataSourceMetrics.getTimings(pool);
+      if (timings != null) {
+        timings.recordWaitTime(MILLISECONDS.toNanos(waitTimeMillis));
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class UpdateStatsBorrowDurationAdvice {
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This BaseGenericObjectPool<?> pool, @Advice.Argument(1) Duration waitTime) {
+      DbConnectionPoolTimings timings = TomcatDbcpDataSourceMetrics.getTimings(pool);
+      if (timings != null) {
+        timings.recordWaitTime(waitTime.toNanos());
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class UpdateStatsReturnAdvice {
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This BaseGenericObjectPool<?> pool, @Advice.Argument(0) long activeTimeMillis) {
+      DbConnectionPoolTimings timings = TomcatDbcpDataSourceMetrics.getTimings(pool);
+      if (timings != null) {
+        timings.recordUseTime(MILLISECONDS.toNanos(activeTimeMillis));
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class UpdateStatsReturnDurationAdvice {
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This BaseGenericObjectPool<?> pool, @Advice.Argument(0) Duration activeTime) {
+      DbConnectionPoolTimings timings = TomcatDbcpDataSourceMetrics.getTimings(pool);
+      if (timings != null) {
+        timings.recordUseTime(activeTime.toNanos());
+      }
+    }
+  }
+}
@@ -48,11 +48,18 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
       String dataSourceName =
           objectName != null ? getDataSourceName(objectName) : getDataSourceName(dataSource);
       TomcatDbcpDataSourceMetrics.registerMetrics(dataSource, dataSourceName);
+      TomcatDbcpDataSourceMetrics.registerTimings(dataSource, dataSourceName);
     }
   }
 
   @SuppressWarnings("unused")
   public static class CloseAdvice {
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.This BasicDataSource dataSource) {
+      // the connection pool is cleared when the data source is closed
+      TomcatDbcpDataSourceMetrics.unregisterTimings(dataSource);
+    }
+
     @Advice.OnMethodExit(suppress = Throwable.class, onThrowable = Throwable.class, inline = false)
     public static void onExit(@Advice.This BasicDataSource dataSource) {
       TomcatDbcpDataSourceMetrics.unregisterMetrics(dataSource);
@@ -72,6 +79,7 @@ class BasicDataSourceInstrumentation implements TypeInstrumentation {
 
       TomcatDbcpDataSourceMetrics.unregisterMetrics(dataSource);
       TomcatDbcpDataSourceMetrics.registerMetrics(dataSource, dataSourceName);
+      TomcatDbcpDataSourceMetrics.registerTimings(dataSource, dataSourceName);
     }
   }
 }
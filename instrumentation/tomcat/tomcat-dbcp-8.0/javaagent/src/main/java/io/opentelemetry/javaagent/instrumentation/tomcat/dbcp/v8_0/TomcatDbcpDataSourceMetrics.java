@@ -7,53 +7,45 @@ package io.opentelemetry.javaagent.instrumentation.tomcat.dbcp.v8_0;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetricsRegistry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.apache.tomcat.dbcp.dbcp2.BasicDataSource;
 import org.apache.tomcat.dbcp.dbcp2.BasicDataSourceMXBean;
+import org.apache.tomcat.dbcp.dbcp2.OpenTelemetryBasicDataSourceUtil;
+import org.apache.tomcat.dbcp.pool2.impl.BaseGenericObjectPool;
 
 public class TomcatDbcpDataSourceMetrics {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.tomcat-dbcp-8.0";
   private static final OpenTelemetry openTelemetry = GlobalOpenTelemetry.get();
 
-  // a weak map does not make sense here because each Meter holds a reference to the dataSource
-  // all instrumented/known implementations of BasicDataSourceMXBean do not implement
+  // a weak map does not make sense here because the shared registry holds a reference to the
+  // dataSource; all instrumented/known implementations of BasicDataSourceMXBean do not implement
   // equals()/hashCode(), so it's safe to keep them in a plain ConcurrentHashMap
   private static final Map<BasicDataSourceMXBean, BatchCallback> dataSourceMetrics =
       new ConcurrentHashMap<>();
+  private static final VirtualField<BaseGenericObjectPool<?>, DbConnectionPoolTimings>
+      poolTimings = VirtualField.find(BaseGenericObjectPool.class, DbConnectionPoolTimings.class);
 
   public static void registerMetrics(BasicDataSourceMXBean dataSource, String dataSourceName) {
     dataSourceMetrics.computeIfAbsent(
         dataSource,
-        ds -> {
-          DbConnectionPoolMetrics metrics =
-              DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, dataSourceName);
-
-          ObservableLongMeasurement connections = metrics.connections();
-          ObservableLongMeasurement minIdleConnections = metrics.minIdleConnections();
-          ObservableLongMeasurement maxIdleConnections = metrics.maxIdleConnections();
-          ObservableLongMeasurement maxConnections = metrics.maxConnections();
-
-          Attributes attributes = metrics.getAttributes();
-          Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
-          Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
-
-          return metrics.batchCallback(
-              () -> {
-                connections.record(ds.getNumActive(), usedConnectionsAttributes);
-                connections.record(ds.getNumIdle(), idleConnectionsAttributes);
-                minIdleConnections.record(ds.getMinIdle(), attributes);
-                maxIdleConnections.record(ds.getMaxIdle(), attributes);
-                maxConnections.record(ds.getMaxTotal(), attributes);
-              },
-              connections,
-              minIdleConnections,
-              maxIdleConnections,
-              maxConnections);
-        });
+        ds ->
+            DbConnectionPoolMetricsRegistry.get(openTelemetry, INSTRUMENTATION_NAME)
+                .register(
+                    dataSourceName,
+                    state -> {
+                      state.setUsedConnections(ds.getNumActive());
+                      state.setIdleConnections(ds.getNumIdle());
+                      state.setMinIdleConnections(ds.getMinIdle());
+                      state.setMaxIdleConnections(ds.getMaxIdle());
+                      state.setMaxConnections(ds.getMaxTotal());
+                    }));
   }
 
   public static void unregisterMetrics(BasicDataSourceMXBean dataSource) {
@@ -63,5 +55,27 @@ public class TomcatDbcpDataSourceMetrics {
     }
   }
 
+  public static void registerTimings(BasicDataSource dataSource, String dataSourceName) {
+    BaseGenericObjectPool<?> pool = OpenTelemetryBasicDataSourceUtil.getConnectionPool(dataSource);
+    if (pool != null) {
+      poolTimings.set(
+          pool,
+          DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, dataSourceName)
+              .timings());
+    }
+  }
+
+  public static void unregisterTimings(BasicDataSource dataSource) {
+    BaseGenericObjectPool<?> pool = OpenTelemetryBasicDataSourceUtil.getConnectionPool(dataSource);
+    if (pool != null) {
+      poolTimings.set(pool, null);
+    }
+  }
+
+  @Nullable
+  public static DbConnectionPoolTimings getTimings(BaseGenericObjectPool<?> pool) {
+    return poolTimings.get(pool);
+  }
+
   private TomcatDbcpDataSourceMetrics() {}
 }
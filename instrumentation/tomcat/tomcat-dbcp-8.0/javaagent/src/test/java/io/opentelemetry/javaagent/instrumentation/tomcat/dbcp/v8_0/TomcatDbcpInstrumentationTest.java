@@ -235,8 +235,6 @@ class TomcatDbcpInstrumentationTest {
     DbConnectionPoolMetricsAssertions.create(testing, INSTRUMENTATION_NAME, dataSourceName)
         .disableConnectionTimeouts()
         .disableCreateTime()
-        .disableWaitTime()
-        .disableUseTime()
         .disablePendingRequests()
         .assertConnectionPoolEmitsMetrics();
   }
@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.jdbc.v8_5;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import javax.annotation.Nullable;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.tomcat.jdbc.pool.ConnectionPool;
+import org.apache.tomcat.jdbc.pool.PooledConnection;
+
+class ConnectionPoolInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("org.apache.tomcat.jdbc.pool.ConnectionPool");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // the overload taking the wait time is the one that blocks until a connection is available
+    transformer.applyAdviceToMethod(
+        named("borrowConnection").and(takesArgument(0, int.class)),
+        getClass().getName() + "$BorrowConnectionAdvice");
+    transformer.applyAdviceToMethod(
+        named("returnConnection")
+            .and(takesArguments(1))
+            .and(takesArgument(0, named("org.apache.tomcat.jdbc.pool.PooledConnection"))),
+        getClass().getName() + "$ReturnConnectionAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class BorrowConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static long onEnter() {
+      return System.nanoTime();
+    }
+
+    @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
+    public static void onExit(
+        @Advice.This ConnectionPool pool,
+        @Advice.Enter long startNanos,
+        @Advice.Return @Nullable PooledConnection connection) {
+      TomcatConnectionPoolMetrics.onBorrow(pool, connection, startNanos);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ReturnConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.Argument(0) @Nullable PooledConnection connection) {
+      TomcatConnectionPoolMetrics.onReturn(connection);
+    }
+  }
+}
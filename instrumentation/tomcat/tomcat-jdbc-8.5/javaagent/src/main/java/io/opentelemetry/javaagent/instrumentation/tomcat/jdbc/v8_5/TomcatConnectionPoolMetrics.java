@@ -7,21 +7,26 @@ package io.opentelemetry.javaagent.instrumentation.tomcat.jdbc.v8_5;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterBuilder;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetricsRegistry;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings.PooledConnectionState;
 import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
+import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionPoolNameUtil;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
 import io.opentelemetry.javaagent.bootstrap.internal.AgentCommonConfig;
 import io.opentelemetry.javaagent.bootstrap.jdbc.DbInfo;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.apache.tomcat.jdbc.pool.ConnectionPool;
 import org.apache.tomcat.jdbc.pool.DataSourceProxy;
 import org.apache.tomcat.jdbc.pool.PoolConfiguration;
+import org.apache.tomcat.jdbc.pool.PooledConnection;
 
 public class TomcatConnectionPoolMetrics {
 
@@ -38,9 +43,18 @@ public class TomcatConnectionPoolMetrics {
   private static final String DEFAULT_POOL_NAME = "tomcat-jdbc";
   private static final Meter meter = buildMeter();
 
-  // a weak map does not make sense here because each Meter holds a reference to the dataSource
-  // DataSourceProxy does not implement equals()/hashCode(), so it's safe to keep them in a plain
-  // ConcurrentHashMap
+  // built from the meter above to keep the legacy scope by default
+  private static final DbConnectionPoolMetricsRegistry registry =
+      DbConnectionPoolMetricsRegistry.create(openTelemetry, meter);
+
+  private static final VirtualField<ConnectionPool, DbConnectionPoolTimings> poolTimings =
+      VirtualField.find(ConnectionPool.class, DbConnectionPoolTimings.class);
+  private static final VirtualField<PooledConnection, PooledConnectionState> connectionState =
+      VirtualField.find(PooledConnection.class, PooledConnectionState.class);
+
+  // a weak map does not make sense here because the shared registry holds a reference to the
+  // dataSource; DataSourceProxy does not implement equals()/hashCode(), so it's safe to keep them
+  // in a plain ConcurrentHashMap
   private static final Map<DataSourceProxy, BatchCallback> dataSourceMetrics =
       new ConcurrentHashMap<>();
 
@@ -50,33 +64,22 @@ public class TomcatConnectionPoolMetrics {
 
   @SuppressWarnings("deprecation") // deprecated overload keeps the legacy scope by default
   private static BatchCallback createInstruments(DataSourceProxy dataSource) {
-    DbConnectionPoolMetrics metrics =
-        DbConnectionPoolMetrics.create(meter, getPoolName(dataSource));
-
-    ObservableLongMeasurement connections = metrics.connections();
-    ObservableLongMeasurement minIdleConnections = metrics.minIdleConnections();
-    ObservableLongMeasurement maxIdleConnections = metrics.maxIdleConnections();
-    ObservableLongMeasurement maxConnections = metrics.maxConnections();
-    ObservableLongMeasurement pendingRequestsForConnection = metrics.pendingRequestsForConnection();
-
-    Attributes attributes = metrics.getAttributes();
-    Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
-    Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
-
-    return metrics.batchCallback(
-        () -> {
-          connections.record(dataSource.getActive(), usedConnectionsAttributes);
-          connections.record(dataSource.getIdle(), idleConnectionsAttributes);
-          minIdleConnections.record(dataSource.getMinIdle(), attributes);
-          maxIdleConnections.record(dataSource.getMaxIdle(), attributes);
-          maxConnections.record(dataSource.getMaxActive(), attributes);
-          pendingRequestsForConnection.record(dataSource.getWaitCount(), attributes);
-        },
-        connections,
-        minIdleConnections,
-        maxIdleConnections,
-        maxConnections,
-        pendingRequestsForConnection);
+    String poolName = getPoolName(dataSource);
+    ConnectionPool pool = dataSource.getPool();
+    if (pool != null) {
+      poolTimings.set(pool, DbConnectionPoolMetrics.create(meter, poolName).timings());
+    }
+
+    return registry.register(
+        poolName,
+        state -> {
+          state.setUsedConnections(dataSource.getActive());
+          state.setIdleConnections(dataSource.getIdle());
+          state.setMinIdleConnections(dataSource.getMinIdle());
+          state.setMaxIdleConnections(dataSource.getMaxIdle());
+          state.setMaxConnections(dataSource.getMaxActive());
+          state.setPendingRequests(dataSource.getWaitCount());
+        });
   }
 
   private static String getPoolName(DataSourceProxy dataSource) {
@@ -98,6 +101,32 @@ public class TomcatConnectionPoolMetrics {
     }
   }
 
+  public static void onBorrow(
+      ConnectionPool pool, @Nullable PooledConnection connection, long startNanos) {
+    DbConnectionPoolTimings timings = poolTimings.get(pool);
+    if (timings == null || connection == null) {
+      return;
+    }
+    timings.recordWaitTime(System.nanoTime() - startNanos);
+
+    PooledConnectionState state = connectionState.get(connection);
+    if (state == null) {
+      state = new PooledConnectionState();
+      connectionState.set(connection, state);
+    }
+    state.borrowed(timings);
+  }
+
+  public static void onReturn(@Nullable PooledConnection connection) {
+    if (connection == null) {
+      return;
+    }
+    PooledConnectionState state = connectionState.get(connection);
+    if (state != null) {
+      state.returned();
+    }
+  }
+
   private static Meter buildMeter() {
     MeterBuilder meterBuilder = openTelemetry.getMeterProvider().meterBuilder(INSTRUMENTATION_NAME);
     String version = EmbeddedInstrumentationProperties.findVersion(VERSION_LOOKUP_NAME);
@@ -20,6 +20,9 @@ public class TomcatJdbcInstrumentationModule extends InstrumentationModule {
 
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
-    return asList(new PoolPropertiesInstrumentation(), new DataSourceProxyInstrumentation());
+    return asList(
+        new PoolPropertiesInstrumentation(),
+        new DataSourceProxyInstrumentation(),
+        new ConnectionPoolInstrumentation());
   }
 }
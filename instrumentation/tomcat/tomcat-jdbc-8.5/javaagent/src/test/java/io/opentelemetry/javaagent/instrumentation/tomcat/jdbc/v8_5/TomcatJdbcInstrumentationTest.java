@@ -144,8 +144,6 @@ class TomcatJdbcInstrumentationTest {
         // no timeouts happen during this test
         .disableConnectionTimeouts()
         .disableCreateTime()
-        .disableWaitTime()
-        .disableUseTime()
         .assertConnectionPoolEmitsMetrics();
   }
 
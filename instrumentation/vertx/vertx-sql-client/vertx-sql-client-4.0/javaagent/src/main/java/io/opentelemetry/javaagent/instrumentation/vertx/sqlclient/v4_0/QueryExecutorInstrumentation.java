@@ -14,6 +14,7 @@ import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.javaagent.bootstrap.CallDepth;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
@@ -87,6 +88,7 @@ class QueryExecutorInstrumentation implements TypeInstrumentation {
         // PreparedStatement, use the first argument that is either of these. PromiseInternal is
         // always at the end of the argument list.
         String sql = null;
+        CachedSqlQuery cachedQuery = null;
         boolean parameterizedQuery = !methodName.equals("executeSimpleQuery");
         PromiseInternal<?> promiseInternal = null;
         Long batchSize = null;
@@ -95,7 +97,8 @@ class QueryExecutorInstrumentation implements TypeInstrumentation {
             if (argument instanceof String) {
               sql = (String) argument;
             } else if (argument instanceof PreparedStatement) {
-              sql = ((PreparedStatement) argument).sql();
+              cachedQuery = VertxSqlClientSingletons.getCachedQuery((PreparedStatement) argument);
+              sql = cachedQuery != null ? cachedQuery.getRawQueryText() : null;
             }
           } else if (argument instanceof PromiseInternal) {
             promiseInternal = (PromiseInternal<?>) argument;
@@ -131,7 +134,8 @@ class QueryExecutorInstrumentation implements TypeInstrumentation {
           dbSystem = VertxSqlClientUtil.getDbSystemNameFromClassName(connectOptions);
         }
         VertxSqlClientRequest otelRequest =
-            new VertxSqlClientRequest(sql, connectOptions, parameterizedQuery, dbSystem, batchSize);
+            new VertxSqlClientRequest(
+                sql, connectOptions, parameterizedQuery, dbSystem, batchSize, cachedQuery);
         Context parentContext = Context.current();
         if (!instrumenter().shouldStart(parentContext, otelRequest)) {
           return new AdviceScope(callDepth);
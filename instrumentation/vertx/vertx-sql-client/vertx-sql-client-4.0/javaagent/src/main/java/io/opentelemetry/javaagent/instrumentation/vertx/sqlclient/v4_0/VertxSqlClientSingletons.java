@@ -5,6 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.v4_0;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.common.v4_0.VertxSqlClientRequest;
@@ -12,6 +13,7 @@ import io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.common.v4_0.Ve
 import io.vertx.core.Future;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.SqlClientBase;
 import javax.annotation.Nullable;
 
@@ -26,10 +28,29 @@ public class VertxSqlClientSingletons {
   private static final VirtualField<SqlConnectOptions, String> connectOptionsDbSystem =
       VirtualField.find(SqlConnectOptions.class, String.class);
 
+  private static final VirtualField<PreparedStatement, CachedSqlQuery> preparedStatementQuery =
+      VirtualField.find(PreparedStatement.class, CachedSqlQuery.class);
+
   public static Instrumenter<VertxSqlClientRequest, Void> instrumenter() {
     return instrumenter;
   }
 
+  @Nullable
+  public static CachedSqlQuery getCachedQuery(PreparedStatement preparedStatement) {
+    // the driver reuses the same prepared statement for every execution of a prepared query, so
+    // the query text only needs to be analyzed once
+    CachedSqlQuery cachedQuery = preparedStatementQuery.get(preparedStatement);
+    if (cachedQuery == null) {
+      String sql = preparedStatement.sql();
+      if (sql == null) {
+        return null;
+      }
+      cachedQuery = CachedSqlQuery.create(sql);
+      preparedStatementQuery.set(preparedStatement, cachedQuery);
+    }
+    return cachedQuery;
+  }
+
   public static void storeConnectOptionsDbSystem(
       SqlConnectOptions connectOptions, String dbSystem) {
     connectOptionsDbSystem.set(connectOptions, dbSystem);
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.v5_0;
 
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
 import io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.common.v4_0.VertxSqlClientRequest;
@@ -15,6 +16,7 @@ import io.vertx.core.Future;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.internal.PreparedStatement;
 import io.vertx.sqlclient.internal.SqlClientBase;
 import javax.annotation.Nullable;
 
@@ -29,6 +31,9 @@ public class VertxSqlClientSingletons {
   private static final VirtualField<SqlConnectOptions, String> connectOptionsDbSystem =
       VirtualField.find(SqlConnectOptions.class, String.class);
 
+  private static final VirtualField<PreparedStatement, CachedSqlQuery> preparedStatementQuery =
+      VirtualField.find(PreparedStatement.class, CachedSqlQuery.class);
+
   private static final VirtualField<SqlClientBase, SqlConnectOptions> connectOptionsField =
       VirtualField.find(SqlClientBase.class, SqlConnectOptions.class);
 
@@ -40,6 +45,22 @@ public class VertxSqlClientSingletons {
     return instrumenter;
   }
 
+  @Nullable
+  public static CachedSqlQuery getCachedQuery(PreparedStatement preparedStatement) {
+    // the driver reuses the same prepared statement for every execution of a prepared query, so
+    // the query text only needs to be analyzed once
+    CachedSqlQuery cachedQuery = preparedStatementQuery.get(preparedStatement);
+    if (cachedQuery == null) {
+      String sql = preparedStatement.sql();
+      if (sql == null) {
+        return null;
+      }
+      cachedQuery = CachedSqlQuery.create(sql);
+      preparedStatementQuery.set(preparedStatement, cachedQuery);
+    }
+    return cachedQuery;
+  }
+
   @NoMuzzle // to skip virtual field detection in this method
   @SuppressWarnings("unchecked") // virtual field key type is not known at compile time
   private static VirtualField<Object, Context> getCommandContextVirtualField() {
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.common.v4_0;
 import static io.opentelemetry.instrumentation.api.incubator.semconv.db.internal.SqlDialectUtil.fromDbSystemName;
 import static java.util.Collections.singleton;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlClientAttributesGetter;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.SqlDialect;
 import java.lang.reflect.InvocationTargetException;
@@ -70,6 +71,12 @@ class VertxSqlClientAttributesGetter
     return singleton(request.getQueryText());
   }
 
+  @Nullable
+  @Override
+  public CachedSqlQuery getCachedQuery(VertxSqlClientRequest request) {
+    return request.getCachedQuery();
+  }
+
   @Nullable
   @Override
   public Long getDbOperationBatchSize(VertxSqlClientRequest request) {
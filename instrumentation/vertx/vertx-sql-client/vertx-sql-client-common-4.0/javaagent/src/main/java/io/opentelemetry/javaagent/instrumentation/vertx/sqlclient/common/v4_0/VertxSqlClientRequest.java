@@ -5,6 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.vertx.sqlclient.common.v4_0;
 
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.CachedSqlQuery;
 import io.vertx.sqlclient.SqlConnectOptions;
 import javax.annotation.Nullable;
 
@@ -15,18 +16,21 @@ public class VertxSqlClientRequest {
   private final boolean parameterizedQuery;
   private final String dbSystemName;
   @Nullable private final Long operationBatchSize;
+  @Nullable private final CachedSqlQuery cachedQuery;
 
   public VertxSqlClientRequest(
       String queryText,
       @Nullable SqlConnectOptions sqlConnectOptions,
       boolean parameterizedQuery,
       String dbSystemName,
-      @Nullable Long operationBatchSize) {
+      @Nullable Long operationBatchSize,
+      @Nullable CachedSqlQuery cachedQuery) {
     this.queryText = queryText;
     this.sqlConnectOptions = sqlConnectOptions;
     this.parameterizedQuery = parameterizedQuery;
     this.dbSystemName = dbSystemName;
     this.operationBatchSize = operationBatchSize;
+    this.cachedQuery = cachedQuery;
   }
 
   public String getQueryText() {
@@ -65,4 +69,9 @@ public class VertxSqlClientRequest {
   public Long getOperationBatchSize() {
     return operationBatchSize;
   }
+
+  @Nullable
+  public CachedSqlQuery getCachedQuery() {
+    return cachedQuery;
+  }
 }
@@ -9,6 +9,7 @@ import static io.opentelemetry.javaagent.instrumentation.viburdbcp.v11_0.ViburSi
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
+import io.opentelemetry.instrumentation.viburdbcp.v11_0.internal.ConnectionTimingsHooks;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import java.util.Properties;
@@ -50,6 +51,13 @@ final class ViburDbcpDataSourceInstrumentation implements TypeInstrumentation {
   @SuppressWarnings("unused")
   public static class StartAdvice {
 
+    @Advice.OnMethodEnter(suppress = Throwable.class, inline = false)
+    public static void onEnter(@Advice.This ViburDBCPDataSource dataSource) {
+      // connection hooks can only be added before the pool is started, they record the wait and
+      // use time once the metrics are registered
+      ConnectionTimingsHooks.addHooks(dataSource);
+    }
+
     @Advice.OnMethodExit(suppress = Throwable.class, inline = false)
     public static void onExit(@Advice.This ViburDBCPDataSource dataSource) {
       String poolName = dataSource.getName();
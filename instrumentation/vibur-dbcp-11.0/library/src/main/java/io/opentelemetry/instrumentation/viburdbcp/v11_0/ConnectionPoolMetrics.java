@@ -6,10 +6,10 @@
 package io.opentelemetry.instrumentation.viburdbcp.v11_0;
 
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.BatchCallback;
-import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetrics;
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolMetricsRegistry;
+import io.opentelemetry.instrumentation.viburdbcp.v11_0.internal.ConnectionTimingsHooks;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.vibur.dbcp.ViburDBCPDataSource;
@@ -17,9 +17,9 @@ import org.vibur.dbcp.ViburDBCPDataSource;
 final class ConnectionPoolMetrics {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.vibur-dbcp-11.0";
 
-  // a weak map does not make sense here because each Meter holds a reference to the dataSource
-  // ViburDBCPDataSource does not implement equals()/hashCode(), so it's safe to keep them in a
-  // plain ConcurrentHashMap
+  // a weak map does not make sense here because the shared registry holds a reference to the
+  // dataSource; ViburDBCPDataSource does not implement equals()/hashCode(), so it's safe to keep
+  // them in a plain ConcurrentHashMap
   private static final Map<ViburDBCPDataSource, BatchCallback> dataSourceMetrics =
       new ConcurrentHashMap<>();
 
@@ -35,27 +35,23 @@ final class ConnectionPoolMetrics {
 
   private static BatchCallback createMeters(
       OpenTelemetry openTelemetry, ViburDBCPDataSource dataSource, String poolName) {
-    DbConnectionPoolMetrics metrics =
-        DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, poolName);
-
-    ObservableLongMeasurement connections = metrics.connections();
-    ObservableLongMeasurement maxConnections = metrics.maxConnections();
-
-    Attributes attributes = metrics.getAttributes();
-    Attributes usedConnectionsAttributes = metrics.getUsedConnectionsAttributes();
-    Attributes idleConnectionsAttributes = metrics.getIdleConnectionsAttributes();
-
-    return metrics.batchCallback(
-        () -> {
-          connections.record(dataSource.getPool().taken(), usedConnectionsAttributes);
-          connections.record(dataSource.getPool().remainingCreated(), idleConnectionsAttributes);
-          maxConnections.record(dataSource.getPoolMaxSize(), attributes);
-        },
-        connections,
-        maxConnections);
+    ConnectionTimingsHooks.setTimings(
+        dataSource,
+        DbConnectionPoolMetrics.create(openTelemetry, INSTRUMENTATION_NAME, poolName).timings());
+    ConnectionTimingsHooks.addHooks(dataSource);
+
+    return DbConnectionPoolMetricsRegistry.get(openTelemetry, INSTRUMENTATION_NAME)
+        .register(
+            poolName,
+            state -> {
+              state.setUsedConnections(dataSource.getPool().taken());
+              state.setIdleConnections(dataSource.getPool().remainingCreated());
+              state.setMaxConnections(dataSource.getPoolMaxSize());
+            });
   }
 
   static void unregisterMetrics(ViburDBCPDataSource dataSource) {
+    ConnectionTimingsHooks.removeTimings(dataSource);
     BatchCallback callback = dataSourceMetrics.remove(dataSource);
     if (callback != null) {
       callback.close();
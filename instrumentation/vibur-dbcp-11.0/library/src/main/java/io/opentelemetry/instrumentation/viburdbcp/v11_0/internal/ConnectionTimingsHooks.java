@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.viburdbcp.v11_0.internal;
+
+import io.opentelemetry.instrumentation.api.incubator.semconv.db.DbConnectionPoolTimings;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.vibur.dbcp.ViburDBCPDataSource;
+import org.vibur.dbcp.pool.Hook;
+
+/**
+ * Records the connection wait and use time of Vibur data sources through their connection hooks.
+ * Vibur measures both durations itself and passes them to the hooks.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ConnectionTimingsHooks {
+
+  // connection hooks can't be removed, so they look up the timings of their data source here
+  private static final Map<ViburDBCPDataSource, DbConnectionPoolTimings> dataSourceTimings =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Adds the connection hooks to the given data source. Hooks can only be added before the data
+   * source is started, the wait and use time of data sources that are already started are not
+   * recorded.
+   */
+  public static void addHooks(ViburDBCPDataSource dataSource) {
+    try {
+      dataSource.getConnHooks().addOnGet(new WaitTimeHook(dataSource));
+      dataSource.getConnHooks().addOnClose(new UseTimeHook(dataSource));
+    } catch (IllegalStateException e) {
+      // the data source is already started
+    }
+  }
+
+  public static void setTimings(ViburDBCPDataSource dataSource, DbConnectionPoolTimings timings) {
+    dataSourceTimings.put(dataSource, timings);
+  }
+
+  public static void removeTimings(ViburDBCPDataSource dataSource) {
+    dataSourceTimings.remove(dataSource);
+  }
+
+  @Nullable
+  private static DbConnectionPoolTimings getTimings(ViburDBCPDataSource dataSource) {
+    return dataSourceTimings.get(dataSource);
+  }
+
+  // vibur skips hooks that are equal to an already added one, so adding the hooks of the same data
+  // source again does not record its timings twice
+  private abstract static class TimingsHook {
+    final ViburDBCPDataSource dataSource;
+
+    TimingsHook(ViburDBCPDataSource dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      return obj != null
+          && obj.getClass() == getClass()
+          && ((TimingsHook) obj).dataSource == dataSource;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(dataSource);
+    }
+  }
+
+  private static final class WaitTimeHook extends TimingsHook implements Hook.GetConnection {
+
+    WaitTimeHook(ViburDBCPDataSource dataSource) {
+      super(dataSource);
+    }
+
+    @Override
+    public void on(@Nullable Connection rawConnection, long takenNanos) {
+      // the connection is null when the pool timed out
+      DbConnectionPoolTimings timings = getTimings(dataSource);
+      if (timings != null && rawConnection != null) {
+        timings.recordWaitTime(takenNanos);
+      }
+    }
+  }
+
+  private static final class UseTimeHook extends TimingsHook implements Hook.CloseConnection {
+
+    UseTimeHook(ViburDBCPDataSource dataSource) {
+      super(dataSource);
+    }
+
+    @Override
+    public void on(Connection rawConnection, long takenNanos) {
+      DbConnectionPoolTimings timings = getTimings(dataSource);
+      if (timings != null) {
+        timings.recordUseTime(takenNanos);
+      }
+    }
+  }
+
+  private ConnectionTimingsHooks() {}
+}
@@ -45,6 +45,7 @@ public abstract class AbstractViburInstrumentationTest {
     viburDataSource.start();
 
     // when
+    viburDataSource.getConnection().close();
     Connection viburConnection = viburDataSource.getConnection();
 
     // then
@@ -80,8 +81,6 @@ public abstract class AbstractViburInstrumentationTest {
         .disablePendingRequests()
         .disableConnectionTimeouts()
         .disableCreateTime()
-        .disableWaitTime()
-        .disableUseTime()
         .assertConnectionPoolEmitsMetrics();
   }
 }
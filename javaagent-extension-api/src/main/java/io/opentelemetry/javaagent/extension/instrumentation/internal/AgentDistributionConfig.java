@@ -41,6 +41,8 @@ public class AgentDistributionConfig {
 
   private final boolean threadDetailsEnabled;
 
+  private final String threadDetailsSpans;
+
   private final InstrumentationConfig instrumentation;
 
   public static AgentDistributionConfig get() {
@@ -89,6 +91,7 @@ public class AgentDistributionConfig {
       @Nullable @JsonProperty("exclude_classes") List<String> excludeClasses,
       @Nullable @JsonProperty("exclude_class_loaders") List<String> excludeClassLoaders,
       @Nullable @JsonProperty("thread_details_enabled") Boolean threadDetailsEnabled,
+      @Nullable @JsonProperty("thread_details_spans/development") String threadDetailsSpans,
       @Nullable @JsonProperty("instrumentation") InstrumentationConfig instrumentation) {
     this.indyEnabled = indyEnabled != null ? indyEnabled : false;
     this.forceSynchronousAgentListeners =
@@ -98,12 +101,13 @@ public class AgentDistributionConfig {
     this.excludeClassLoaders =
         excludeClassLoaders != null ? new ArrayList<>(excludeClassLoaders) : new ArrayList<>();
     this.threadDetailsEnabled = threadDetailsEnabled != null ? threadDetailsEnabled : false;
+    this.threadDetailsSpans = threadDetailsSpans != null ? threadDetailsSpans : "all";
     this.instrumentation = instrumentation != null ? instrumentation : new InstrumentationConfig();
   }
 
   // Default constructor for testing
   AgentDistributionConfig() {
-    this(null, null, null, null, null, null);
+    this(null, null, null, null, null, null, null);
   }
 
   /**
@@ -170,6 +174,16 @@ public class AgentDistributionConfig {
     return threadDetailsEnabled;
   }
 
+  /**
+   * Returns which spans get the thread details attributes: {@code all} (the default), {@code
+   * local_root} or {@code server_and_consumer}. Configured with {@code
+   * otel.javaagent.experimental.thread-details.spans} or {@code
+   * distribution.javaagent.thread_details_spans/development}.
+   */
+  public String getThreadDetailsSpans() {
+    return threadDetailsSpans;
+  }
+
   public boolean isForceSynchronousAgentListeners() {
     return forceSynchronousAgentListeners;
   }
@@ -243,6 +257,7 @@ public class AgentDistributionConfig {
           configProperties.getList("otel.javaagent.exclude-classes"),
           configProperties.getList("otel.javaagent.exclude-class-loaders"),
           configProperties.getBoolean("otel.javaagent.add-thread-details", !v3Preview),
+          configProperties.getString("otel.javaagent.experimental.thread-details.spans"),
           null);
       this.configProperties = configProperties;
     }
@@ -31,8 +31,13 @@ public class AgentTracerProviderConfigurer implements AutoConfigurationCustomize
   private static SdkTracerProviderBuilder configure(
       SdkTracerProviderBuilder sdkTracerProviderBuilder, ConfigProperties config) {
 
-    if (AgentDistributionConfig.fromConfigProperties(config).isThreadDetailsEnabled()) {
-      sdkTracerProviderBuilder.addSpanProcessor(new ThreadDetailsSpanProcessor());
+    AgentDistributionConfig distributionConfig =
+        AgentDistributionConfig.fromConfigProperties(config);
+    if (distributionConfig.isThreadDetailsEnabled()) {
+      sdkTracerProviderBuilder.addSpanProcessor(
+          new ThreadDetailsSpanProcessor(
+              ThreadDetailsSpanProcessor.SpanSelection.parse(
+                  distributionConfig.getThreadDetailsSpans())));
     }
 
     if (EarlyInitAgentConfig.get().isDebug()) {
@@ -26,4 +26,9 @@ public final class ThreadDetailsCustomizerProvider extends AbstractThreadDetails
   protected boolean isEnabled(OpenTelemetryConfigurationModel model) {
     return AgentDistributionConfig.get().isThreadDetailsEnabled();
   }
+
+  @Override
+  protected String getSpans(OpenTelemetryConfigurationModel model) {
+    return AgentDistributionConfig.get().getThreadDetailsSpans();
+  }
 }
@@ -37,6 +37,11 @@ class AgentDistributionConfigTest {
     assertThat(AgentDistributionConfig.get().isThreadDetailsEnabled()).isTrue();
   }
 
+  @Test
+  void testThreadDetailsSpans() {
+    assertThat(AgentDistributionConfig.get().getThreadDetailsSpans()).isEqualTo("local_root");
+  }
+
   @Test
   void testExcludeClasses() {
     assertThat(AgentDistributionConfig.get().getExcludeClasses())
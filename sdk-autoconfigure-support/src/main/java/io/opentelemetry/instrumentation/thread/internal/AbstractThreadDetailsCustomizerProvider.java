@@ -13,6 +13,7 @@ import io.opentelemetry.sdk.autoconfigure.declarativeconfig.model.SpanProcessorP
 import io.opentelemetry.sdk.autoconfigure.declarativeconfig.model.TracerProviderModel;
 import java.util.ArrayList;
 import java.util.List;
+import javax.annotation.Nullable;
 
 /**
  * Adds the {@link ThreadDetailsSpanProcessor} (via the {@link ThreadDetailsComponentProvider}) to
@@ -27,6 +28,15 @@ public abstract class AbstractThreadDetailsCustomizerProvider
 
   protected abstract boolean isEnabled(OpenTelemetryConfigurationModel model);
 
+  /**
+   * Returns the value of the {@code spans} property of the added processor, or {@code null} to add
+   * thread details to all spans.
+   */
+  @Nullable
+  protected String getSpans(OpenTelemetryConfigurationModel model) {
+    return null;
+  }
+
   @Override
   public void customize(DeclarativeConfigurationCustomizer customizer) {
     customizer.addModelCustomizer(
@@ -50,9 +60,13 @@ public abstract class AbstractThreadDetailsCustomizerProvider
       processors = new ArrayList<>();
       tracerProvider.withProcessors(processors);
     }
+    SpanProcessorPropertyModel properties = new SpanProcessorPropertyModel();
+    String spans = getSpans(model);
+    if (spans != null) {
+      properties.withAdditionalProperty("spans", spans);
+    }
     processors.add(
         new SpanProcessorModel()
-            .withAdditionalProperty(
-                ThreadDetailsComponentProvider.NAME, new SpanProcessorPropertyModel()));
+            .withAdditionalProperty(ThreadDetailsComponentProvider.NAME, properties));
   }
 }
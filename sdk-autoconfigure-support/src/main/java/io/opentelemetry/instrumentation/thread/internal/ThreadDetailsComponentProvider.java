@@ -11,7 +11,8 @@ import io.opentelemetry.sdk.trace.SpanProcessor;
 
 /**
  * Declarative configuration component provider that exposes {@link ThreadDetailsSpanProcessor}
- * under the name {@value #NAME}.
+ * under the name {@value #NAME}. The optional {@code spans} property ({@code all}, {@code
+ * local_root} or {@code server_and_consumer}) restricts which spans get the thread attributes.
  *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
@@ -32,6 +33,7 @@ public final class ThreadDetailsComponentProvider implements ComponentProvider {
 
   @Override
   public SpanProcessor create(DeclarativeConfigProperties config) {
-    return new ThreadDetailsSpanProcessor();
+    return new ThreadDetailsSpanProcessor(
+        ThreadDetailsSpanProcessor.SpanSelection.parse(config.getString("spans", "all")));
   }
 }
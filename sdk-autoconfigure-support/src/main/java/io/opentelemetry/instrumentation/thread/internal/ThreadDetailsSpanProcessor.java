@@ -7,13 +7,18 @@ package io.opentelemetry.instrumentation.thread.internal;
 
 import static io.opentelemetry.api.common.AttributeKey.longKey;
 import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static java.util.logging.Level.WARNING;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.util.Locale;
+import java.util.logging.Logger;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -21,12 +26,27 @@ import io.opentelemetry.sdk.trace.SpanProcessor;
  */
 public class ThreadDetailsSpanProcessor implements SpanProcessor {
 
+  private static final Logger logger = Logger.getLogger(ThreadDetailsSpanProcessor.class.getName());
+
   // attributes are not stable yet
   public static final AttributeKey<Long> THREAD_ID = longKey("thread.id");
   public static final AttributeKey<String> THREAD_NAME = stringKey("thread.name");
 
+  private final SpanSelection spanSelection;
+
+  public ThreadDetailsSpanProcessor() {
+    this(SpanSelection.ALL);
+  }
+
+  public ThreadDetailsSpanProcessor(SpanSelection spanSelection) {
+    this.spanSelection = spanSelection;
+  }
+
   @Override
   public void onStart(Context context, ReadWriteSpan span) {
+    if (!spanSelection.matches(span)) {
+      return;
+    }
     Thread currentThread = Thread.currentThread();
     span.setAttribute(THREAD_ID, currentThread.getId());
     span.setAttribute(THREAD_NAME, currentThread.getName());
@@ -54,4 +74,56 @@ public class ThreadDetailsSpanProcessor implements SpanProcessor {
   public CompletableResultCode forceFlush() {
     return CompletableResultCode.ofSuccess();
   }
+
+  /**
+   * Determines which spans receive the thread details attributes.
+   *
+   * <p>This class is internal and is hence not for public use. Its APIs are unstable and can
+   * change at any time.
+   */
+  public enum SpanSelection {
+    /** Add thread details to all spans. */
+    ALL {
+      @Override
+      boolean matches(ReadableSpan span) {
+        return true;
+      }
+    },
+    /** Add thread details only to spans that have no local parent. */
+    LOCAL_ROOT {
+      @Override
+      boolean matches(ReadableSpan span) {
+        SpanContext parentSpanContext = span.getParentSpanContext();
+        return !parentSpanContext.isValid() || parentSpanContext.isRemote();
+      }
+    },
+    /** Add thread details only to {@code SERVER} and {@code CONSUMER} spans. */
+    SERVER_AND_CONSUMER {
+      @Override
+      boolean matches(ReadableSpan span) {
+        SpanKind kind = span.getKind();
+        return kind == SpanKind.SERVER || kind == SpanKind.CONSUMER;
+      }
+    };
+
+    abstract boolean matches(ReadableSpan span);
+
+    /**
+     * Parses a configuration value (e.g. {@code local_root} or {@code server-and-consumer}),
+     * falling back to {@link #ALL} and logging a warning for unknown values.
+     */
+    public static SpanSelection parse(String value) {
+      String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+      for (SpanSelection spanSelection : values()) {
+        if (spanSelection.name().equals(normalized)) {
+          return spanSelection;
+        }
+      }
+      logger.log(
+          WARNING,
+          "Unknown thread details span selection \"{0}\", adding thread details to all spans",
+          value);
+      return ALL;
+    }
+  }
 }
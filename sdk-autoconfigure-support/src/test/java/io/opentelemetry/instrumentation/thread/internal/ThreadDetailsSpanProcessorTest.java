@@ -11,7 +11,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
@@ -37,4 +42,61 @@ class ThreadDetailsSpanProcessorTest {
     verify(span).setAttribute(THREAD_NAME, thread.getName());
     verifyNoMoreInteractions(span);
   }
+
+  @Test
+  void setThreadAttributesOnLocalRootSpansOnly() {
+    SpanProcessor localRootProcessor =
+        new ThreadDetailsSpanProcessor(ThreadDetailsSpanProcessor.SpanSelection.LOCAL_ROOT);
+    Thread thread = Thread.currentThread();
+
+    ReadWriteSpan childSpan = mock(ReadWriteSpan.class);
+    when(childSpan.getParentSpanContext())
+        .thenReturn(
+            SpanContext.create(
+                "ff01020304050600ff0a0b0c0d0e0f00",
+                "090a0b0c0d0e0f00",
+                TraceFlags.getSampled(),
+                TraceState.getDefault()));
+    localRootProcessor.onStart(Context.root(), childSpan);
+    verify(childSpan).getParentSpanContext();
+    verifyNoMoreInteractions(childSpan);
+
+    when(span.getParentSpanContext()).thenReturn(SpanContext.getInvalid());
+    localRootProcessor.onStart(Context.root(), span);
+    verify(span).getParentSpanContext();
+    verify(span).setAttribute(THREAD_ID, thread.getId());
+    verify(span).setAttribute(THREAD_NAME, thread.getName());
+    verifyNoMoreInteractions(span);
+  }
+
+  @Test
+  void setThreadAttributesOnServerAndConsumerSpansOnly() {
+    SpanProcessor entrySpanProcessor =
+        new ThreadDetailsSpanProcessor(
+            ThreadDetailsSpanProcessor.SpanSelection.SERVER_AND_CONSUMER);
+    Thread thread = Thread.currentThread();
+
+    ReadWriteSpan clientSpan = mock(ReadWriteSpan.class);
+    when(clientSpan.getKind()).thenReturn(SpanKind.CLIENT);
+    entrySpanProcessor.onStart(Context.root(), clientSpan);
+    verify(clientSpan).getKind();
+    verifyNoMoreInteractions(clientSpan);
+
+    when(span.getKind()).thenReturn(SpanKind.SERVER);
+    entrySpanProcessor.onStart(Context.root(), span);
+    verify(span).getKind();
+    verify(span).setAttribute(THREAD_ID, thread.getId());
+    verify(span).setAttribute(THREAD_NAME, thread.getName());
+    verifyNoMoreInteractions(span);
+  }
+
+  @Test
+  void parseSpanSelection() {
+    assertThat(ThreadDetailsSpanProcessor.SpanSelection.parse("local-root"))
+        .isEqualTo(ThreadDetailsSpanProcessor.SpanSelection.LOCAL_ROOT);
+    assertThat(ThreadDetailsSpanProcessor.SpanSelection.parse("server_and_consumer"))
+        .isEqualTo(ThreadDetailsSpanProcessor.SpanSelection.SERVER_AND_CONSUMER);
+    assertThat(ThreadDetailsSpanProcessor.SpanSelection.parse("unknown"))
+        .isEqualTo(ThreadDetailsSpanProcessor.SpanSelection.ALL);
+  }
 }